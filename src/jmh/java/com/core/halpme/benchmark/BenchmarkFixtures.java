@@ -0,0 +1,29 @@
+package com.core.halpme.benchmark;
+
+import com.core.halpme.common.entity.BaseTimeEntity;
+
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+
+/**
+ * 벤치마크용 엔티티/빈 필드 주입 유틸 (JPA Auditing, @Value 없이 값 설정)
+ */
+final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    static void setCreatedAt(BaseTimeEntity entity, LocalDateTime createdAt) {
+        setField(BaseTimeEntity.class, entity, "createdAt", createdAt);
+    }
+
+    static void setField(Class<?> owner, Object target, String name, Object value) {
+        try {
+            Field field = owner.getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("필드 설정 실패: " + owner.getSimpleName() + "." + name, e);
+        }
+    }
+}
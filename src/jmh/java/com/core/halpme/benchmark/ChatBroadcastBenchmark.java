@@ -0,0 +1,107 @@
+package com.core.halpme.benchmark;
+
+import com.core.halpme.api.chat.dto.ChatMessageDto;
+import com.core.halpme.api.chat.entity.MessageType;
+import com.core.halpme.api.chat.messaging.CborPayloadCodec;
+import com.core.halpme.api.chat.messaging.ChatBroadcaster;
+import com.core.halpme.api.chat.messaging.PayloadFormatRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 채팅방 브로드캐스트 1건당 처리 시간/할당량 비교 (SimpleBroker 로 구독자 수만큼 팬아웃)
+ * - convertAndSend : 기존 방식 (MessageConverter 로 매번 변환)
+ * - preSerialized  : ChatBroadcaster (미리 만든 ObjectWriter 로 한 번만 직렬화)
+ * 할당량은 gc 프로파일러의 gc.alloc.rate.norm (B/op) 으로 확인
+ */
+@State(Scope.Benchmark)
+public class ChatBroadcastBenchmark {
+
+    private static final String ROOM_ID = "7c9e6679-7425-40de-944b-e07fc1f66e34";
+
+    @Param({"2", "100"})
+    private int subscribers;
+
+    private SimpleBrokerMessageHandler broker;
+    private SimpMessagingTemplate messagingTemplate;
+    private ChatBroadcaster chatBroadcaster;
+    private ChatMessageDto message;
+
+    private final LongAdder delivered = new LongAdder();
+
+    @Setup
+    public void setUp() {
+
+        // 운영과 동일하게 Spring Boot 기본 ObjectMapper 설정 (JavaTimeModule, ISO 날짜)
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        // executor 없는 채널 -> 호출 스레드에서 동기 처리
+        ExecutorSubscribableChannel clientInbound = new ExecutorSubscribableChannel();
+        ExecutorSubscribableChannel clientOutbound = new ExecutorSubscribableChannel();
+        ExecutorSubscribableChannel brokerChannel = new ExecutorSubscribableChannel();
+        clientOutbound.subscribe(frame -> delivered.increment());
+
+        broker = new SimpleBrokerMessageHandler(clientInbound, clientOutbound, brokerChannel, List.of("/sub"));
+        broker.start();
+
+        for (int i = 0; i < subscribers; i++) {
+            SimpMessageHeaderAccessor subscribe = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+            subscribe.setSessionId("session-" + i);
+            subscribe.setSubscriptionId("sub-0");
+            subscribe.setDestination("/sub/channel/" + ROOM_ID);
+            broker.handleMessage(MessageBuilder.createMessage(new byte[0], subscribe.getMessageHeaders()));
+        }
+
+        messagingTemplate = new SimpMessagingTemplate(brokerChannel);
+        messagingTemplate.setMessageConverter(new MappingJackson2MessageConverter(objectMapper));
+
+        chatBroadcaster = new ChatBroadcaster(messagingTemplate, objectMapper,
+                new CborPayloadCodec(objectMapper), new PayloadFormatRegistry());
+
+        message = ChatMessageDto.builder()
+                .id(1_024L)
+                .roomId(ROOM_ID)
+                .sender("volunteer@halpme.com")
+                .message("내일 오전 10시에 아파트 정문 앞에서 뵙겠습니다. 장바구니는 제가 챙겨갈게요!")
+                .imageUrls(List.of())
+                .messageType(MessageType.TEXT)
+                .createdAt(LocalDateTime.of(2025, 5, 20, 9, 15, 30))
+                .ReadStatus(false)
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        broker.stop();
+    }
+
+    @Benchmark
+    public void convertAndSend() {
+        messagingTemplate.convertAndSend("/sub/channel/" + ROOM_ID, message);
+    }
+
+    @Benchmark
+    public void preSerialized() {
+        chatBroadcaster.broadcastMessage(ROOM_ID, message);
+    }
+}
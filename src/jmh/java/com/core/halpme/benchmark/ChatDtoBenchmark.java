@@ -0,0 +1,75 @@
+package com.core.halpme.benchmark;
+
+import com.core.halpme.api.chat.dto.ChatMessageDto;
+import com.core.halpme.api.chat.dto.ChatRoomDto;
+import com.core.halpme.api.chat.entity.ChatInbox;
+import com.core.halpme.api.chat.entity.ChatMessage;
+import com.core.halpme.api.chat.entity.ChatMessageImage;
+import com.core.halpme.api.chat.entity.ChatRoom;
+import com.core.halpme.api.chat.entity.MessageType;
+import com.core.halpme.api.members.entity.Member;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+
+/**
+ * 채팅 메시지 DTO 변환(메시지마다 이미지 정렬 포함), 채팅 목록 읽기 모델 행 -> 채팅방 목록 DTO 변환
+ */
+@State(Scope.Benchmark)
+public class ChatDtoBenchmark {
+
+    @Param({"0", "1", "5"})
+    private int imageCount;
+
+    private ChatMessage message;
+    private ChatInbox inbox;
+
+    @Setup
+    public void setUp() {
+
+        Member maker = Member.builder().nickname("요청자").email("maker@halpme.com").build();
+        Member guest = Member.builder().nickname("봉사자").email("guest@halpme.com").build();
+
+        message = ChatMessage.builder()
+                .id(10L)
+                .roomId("room-1")
+                .sender(guest.getEmail())
+                .message("내일 10시에 정문 앞에서 뵙겠습니다.")
+                .messageType(MessageType.TEXT)
+                .build();
+
+        // 정렬 비용이 드러나도록 역순으로 추가
+        for (int order = imageCount; order > 0; order--) {
+            message.getImages().add(ChatMessageImage.builder()
+                    .chatMessage(message)
+                    .imageUrl("https://cdn.halpme.com/chat/" + order + ".jpg")
+                    .imageOrder(order)
+                    .build());
+        }
+        BenchmarkFixtures.setCreatedAt(message, LocalDateTime.of(2025, 5, 20, 9, 15, 30));
+
+        ChatRoom room = ChatRoom.create(maker, 1L);
+        room.setRoomMaker(maker);
+
+        inbox = ChatInbox.of(room, maker, guest);
+        BenchmarkFixtures.setField(ChatInbox.class, inbox, "lastMessageId", message.getId());
+        BenchmarkFixtures.setField(ChatInbox.class, inbox, "lastMessageSender", message.getSender());
+        BenchmarkFixtures.setField(ChatInbox.class, inbox, "lastMessagePreview", ChatInbox.preview(message.getMessage()));
+        BenchmarkFixtures.setField(ChatInbox.class, inbox, "lastMessageType", message.getMessageType());
+        BenchmarkFixtures.setField(ChatInbox.class, inbox, "unreadCount", 3);
+    }
+
+    @Benchmark
+    public ChatMessageDto chatMessageFromEntity() {
+        return ChatMessageDto.fromEntity(message, true);
+    }
+
+    @Benchmark
+    public ChatRoomDto chatRoomFromInbox() {
+        return ChatRoomDto.fromInbox(inbox);
+    }
+}
@@ -0,0 +1,39 @@
+package com.core.halpme.benchmark;
+
+import com.core.halpme.common.id.TimeOrderedUuids;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.UUID;
+
+/**
+ * 채팅방 ID: UUIDv7 생성 vs 기존 UUIDv4 문자열, BINARY(16) 바인딩/조회 시 문자열 <-> 바이트 변환 비용
+ * 저장 크기와 인덱스 조회 시간은 loadTest 의 ChatRoomKeyLoadTest 참고
+ */
+@State(Scope.Benchmark)
+public class ChatRoomIdBenchmark {
+
+    private final String roomId = TimeOrderedUuids.newId();
+    private final byte[] roomKey = TimeOrderedUuids.toBytes(roomId);
+
+    @Benchmark
+    public String randomUuid() {
+        return UUID.randomUUID().toString();
+    }
+
+    @Benchmark
+    public String timeOrderedUuid() {
+        return TimeOrderedUuids.newId();
+    }
+
+    @Benchmark
+    public byte[] toBytes() {
+        return TimeOrderedUuids.toBytes(roomId);
+    }
+
+    @Benchmark
+    public String fromBytes() {
+        return TimeOrderedUuids.fromBytes(roomKey);
+    }
+}
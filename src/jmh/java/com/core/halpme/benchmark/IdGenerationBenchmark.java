@@ -0,0 +1,36 @@
+package com.core.halpme.benchmark;
+
+import com.core.halpme.common.id.SnowflakeIdGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.UUID;
+
+/**
+ * PK 생성 비용: Snowflake(단일 스레드, 4 스레드 경합) vs UUID v4 문자열 (ChatRoom ID 방식)
+ * Snowflake 는 노드당 ms 당 256개 상한이라 연속 호출 평균이 약 3.9us 에서 멈춤 (생성 비용이 아니라 발급 상한)
+ * IDENTITY 는 DB 왕복이 필요하므로 insert 처리량 비교는 loadTest 의 IdInsertLoadTest 참고
+ */
+@State(Scope.Benchmark)
+public class IdGenerationBenchmark {
+
+    private final SnowflakeIdGenerator generator = new SnowflakeIdGenerator(0);
+
+    @Benchmark
+    public long snowflake() {
+        return generator.nextId();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long snowflakeContended() {
+        return generator.nextId();
+    }
+
+    @Benchmark
+    public String randomUuid() {
+        return UUID.randomUUID().toString();
+    }
+}
@@ -0,0 +1,44 @@
+package com.core.halpme.benchmark;
+
+import com.core.halpme.api.members.entity.Role;
+import com.core.halpme.api.members.jwt.JwtTokenProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * JWT 발급/검증/파싱 (매 호출마다 서명 키 생성 포함)
+ */
+@State(Scope.Benchmark)
+public class JwtBenchmark {
+
+    private JwtTokenProvider jwtTokenProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+
+        jwtTokenProvider = new JwtTokenProvider();
+        BenchmarkFixtures.setField(JwtTokenProvider.class, jwtTokenProvider, "secretKeyString",
+                "halpme-benchmark-secret-key-which-is-long-enough-for-hs256");
+        BenchmarkFixtures.setField(JwtTokenProvider.class, jwtTokenProvider, "expiration", 3_600_000L);
+
+        token = jwtTokenProvider.generateToken("member@halpme.com", Role.ROLE_MEMBER);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtTokenProvider.generateToken("member@halpme.com", Role.ROLE_MEMBER);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtTokenProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public String getEmail() {
+        return jwtTokenProvider.getEmail(token);
+    }
+}
@@ -0,0 +1,57 @@
+package com.core.halpme.benchmark;
+
+import com.core.halpme.api.members.entity.Address;
+import com.core.halpme.api.members.entity.Member;
+import com.core.halpme.api.post.dto.PostTotalListResponseDto;
+import com.core.halpme.api.post.entity.Post;
+import com.core.halpme.api.post.entity.PostStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * 게시글 목록 DTO 변환(호출마다 DateTimeFormatter 생성 포함), 봉사시간 계산
+ */
+@State(Scope.Benchmark)
+public class PostDtoBenchmark {
+
+    private Post post;
+
+    @Setup
+    public void setUp() {
+
+        Member member = Member.builder()
+                .nickname("도움이")
+                .email("writer@halpme.com")
+                .build();
+
+        post = Post.builder()
+                .id(1L)
+                .title("마포구 장보기 도와주실 분 구합니다")
+                .content("무거운 짐을 함께 들어주실 분을 찾습니다.")
+                .requestDate(LocalDate.of(2025, 6, 1))
+                .startHour(LocalTime.of(10, 0))
+                .endHour(LocalTime.of(13, 30))
+                .postStatus(PostStatus.WAITING)
+                .address(new Address("04001", "서울 마포구 월드컵로 1", "101동 202호", "정문 앞"))
+                .member(member)
+                .build();
+
+        BenchmarkFixtures.setCreatedAt(post, LocalDateTime.of(2025, 5, 20, 9, 15, 30));
+    }
+
+    @Benchmark
+    public PostTotalListResponseDto postTotalListToDto() {
+        return PostTotalListResponseDto.toDto(post);
+    }
+
+    @Benchmark
+    public int calculateVolunteerHours() {
+        return post.calculateVolunteerHours();
+    }
+}
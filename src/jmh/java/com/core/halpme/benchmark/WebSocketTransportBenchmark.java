@@ -0,0 +1,158 @@
+package com.core.halpme.benchmark;
+
+import com.core.halpme.api.chat.dto.ChatMessageDto;
+import com.core.halpme.api.chat.entity.MessageType;
+import com.core.halpme.api.chat.messaging.CborPayloadCodec;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompEncoder;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.Deflater;
+
+/**
+ * 채팅 MESSAGE 프레임 1건당 와이어 바이트와 인코딩 비용 비교
+ * - encoding    : JSON / CBOR 페이로드
+ * - compression : none / permessage-deflate (context takeover 유지 / 메시지마다 초기화)
+ * 프레임당 평균 바이트는 trial 종료 시 콘솔에 출력, 연결당 메모리는 loadTest 의 WebSocketFootprintLoadTest 로 측정
+ */
+@State(Scope.Thread)
+public class WebSocketTransportBenchmark {
+
+    private static final String ROOM_ID = "7c9e6679-7425-40de-944b-e07fc1f66e34";
+    private static final int MESSAGE_COUNT = 256;
+
+    // RFC 7692: 메시지 끝의 0x00 0x00 0xff 0xff 는 전송하지 않음
+    private static final int DEFLATE_TRAILER = 4;
+
+    @Param({"JSON", "CBOR"})
+    private String encoding;
+
+    @Param({"none", "deflate", "deflate-no-context-takeover"})
+    private String compression;
+
+    private final StompEncoder stompEncoder = new StompEncoder();
+    private final List<byte[]> payloads = new ArrayList<>();
+
+    private MimeType contentType;
+    private Deflater deflater;
+    private byte[] deflateBuffer;
+    private int cursor;
+
+    private long frames;
+    private long rawBytes;
+    private long wireBytes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        // CBOR 세션은 바이너리 프레임으로 나가도록 octet-stream (CompactPayloadInterceptor 와 동일)
+        contentType = "CBOR".equals(encoding) ? MimeTypeUtils.APPLICATION_OCTET_STREAM : MimeTypeUtils.APPLICATION_JSON;
+
+        ObjectWriter writer = "CBOR".equals(encoding)
+                ? new CborPayloadCodec(objectMapper).writerFor(ChatMessageDto.class)
+                : objectMapper.writerFor(ChatMessageDto.class);
+
+        // 한 채팅방에서 오가는 대화처럼 발신자, 방, 문장 패턴이 반복되는 메시지
+        String[] senders = {"requester@halpme.com", "volunteer@halpme.com"};
+        String[] texts = {
+                "내일 오전 10시에 아파트 정문 앞에서 뵙겠습니다.",
+                "네 감사합니다. 장바구니는 제가 챙겨갈게요!",
+                "혹시 주차는 어디에 하면 될까요?",
+                "지하 2층 방문자 주차장 이용하시면 됩니다."
+        };
+
+        try {
+            for (int i = 0; i < MESSAGE_COUNT; i++) {
+                ChatMessageDto message = ChatMessageDto.builder()
+                        .id(10_000L + i)
+                        .roomId(ROOM_ID)
+                        .sender(senders[i % senders.length])
+                        .message(texts[i % texts.length])
+                        .imageUrls(i % 16 == 0
+                                ? List.of("https://halpme-bucket.s3.ap-northeast-2.amazonaws.com/chat/" + i + ".jpg")
+                                : List.of())
+                        .messageType(i % 16 == 0 ? MessageType.IMAGE : MessageType.TEXT)
+                        .createdAt(LocalDateTime.of(2025, 5, 20, 9, 15).plusSeconds(i * 7L))
+                        .ReadStatus(false)
+                        .build();
+
+                payloads.add(writer.writeValueAsBytes(message));
+            }
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+
+        deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        deflateBuffer = new byte[64 * 1024];
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        deflater.end();
+
+        if (frames > 0) {
+            System.out.printf("%n[%s/%s] 프레임당 평균 %d B (압축 전 %d B, %.1f%%)%n",
+                    encoding, compression, wireBytes / frames, rawBytes / frames, 100.0 * wireBytes / rawBytes);
+        }
+    }
+
+    @Benchmark
+    public int encodeFrame() {
+
+        byte[] payload = payloads.get(cursor);
+        cursor = (cursor + 1) % payloads.size();
+
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.MESSAGE);
+        accessor.setDestination("/sub/channel/" + ROOM_ID);
+        accessor.setSubscriptionId("sub-0");
+        accessor.setMessageId(Long.toString(cursor));
+        accessor.setContentType(contentType);
+
+        byte[] frame = stompEncoder.encode(MessageBuilder.createMessage(payload, accessor.getMessageHeaders()));
+        int size = "none".equals(compression) ? frame.length : deflate(frame);
+
+        frames++;
+        rawBytes += frame.length;
+        wireBytes += size;
+        return size;
+    }
+
+    private int deflate(byte[] frame) {
+
+        if ("deflate-no-context-takeover".equals(compression)) {
+            deflater.reset();
+        }
+
+        deflater.setInput(frame);
+
+        int length = 0;
+        int written;
+        do {
+            written = deflater.deflate(deflateBuffer, 0, deflateBuffer.length, Deflater.SYNC_FLUSH);
+            length += written;
+        } while (written == deflateBuffer.length);
+
+        return length - DEFLATE_TRAILER;
+    }
+}
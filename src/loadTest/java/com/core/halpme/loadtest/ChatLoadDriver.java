@@ -0,0 +1,163 @@
+package com.core.halpme.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 채팅방 참여자 2명이 /pub/message, /pub/read 를 주고받는 STOMP 부하 드라이버
+ * - stomp.message : 메시지 발행 ~ 같은 방 구독자(본인 포함)가 브로드캐스트를 받기까지
+ * - stomp.read    : 상대가 /pub/read 발행 ~ 발신자가 read-status 를 받기까지
+ */
+public class ChatLoadDriver {
+
+    private final WebSocketStompClient stompClient;
+    private final String url;
+    private final LatencyReport report;
+
+    // 발행 시각 (메시지 nonce -> nanoTime), 읽음 요청 시각 (messageId -> nanoTime)
+    private final Map<String, Long> pendingMessages = new ConcurrentHashMap<>();
+    private final Map<Long, Long> pendingReads = new ConcurrentHashMap<>();
+
+    private final List<Participant> participants = new CopyOnWriteArrayList<>();
+
+    public ChatLoadDriver(String url, LatencyReport report) {
+        this.url = url;
+        this.report = report;
+
+        this.stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        this.stompClient.setMessageConverter(new MappingJackson2MessageConverter());
+    }
+
+    public Participant connect(String token, String email, String roomId) throws Exception {
+
+        StompHeaders connectHeaders = new StompHeaders();
+        connectHeaders.add("Authorization", "Bearer " + token);
+
+        long start = System.nanoTime();
+        StompSession session = stompClient.connectAsync(url, null, connectHeaders, new StompSessionHandlerAdapter() {
+                })
+                .get(30, TimeUnit.SECONDS);
+        report.record("stomp.connect", System.nanoTime() - start);
+
+        Participant participant = new Participant(session, email, roomId);
+        session.subscribe("/sub/channel/" + roomId, participant.messageHandler());
+        session.subscribe("/sub/channel/" + roomId + "/read-status", participant.readStatusHandler());
+
+        participants.add(participant);
+        return participant;
+    }
+
+    public List<Participant> participants() {
+        return participants;
+    }
+
+    public void disconnectAll() {
+        participants.forEach(participant -> {
+            if (participant.session.isConnected()) {
+                participant.session.disconnect();
+            }
+        });
+    }
+
+    public class Participant {
+
+        private final StompSession session;
+        private final String email;
+        private final String roomId;
+
+        private Participant(StompSession session, String email, String roomId) {
+            this.session = session;
+            this.email = email;
+            this.roomId = roomId;
+        }
+
+        public void sendMessage() {
+
+            String nonce = UUID.randomUUID().toString();
+            pendingMessages.put(nonce, System.nanoTime());
+
+            try {
+                session.send("/pub/message", Map.of(
+                        "roomId", roomId,
+                        "message", "load-test " + nonce,
+                        "messageType", "TEXT"
+                ));
+            } catch (RuntimeException e) {
+                pendingMessages.remove(nonce);
+                report.error("stomp.message");
+            }
+        }
+
+        private StompFrameHandler messageHandler() {
+            return new JsonFrameHandler(payload -> {
+
+                String text = payload.path("message").asText("");
+                Long sentAt = pendingMessages.remove(text.substring(text.indexOf(' ') + 1));
+                if (sentAt != null) {
+                    report.record("stomp.message", System.nanoTime() - sentAt);
+                }
+
+                // 상대방 메시지를 받으면 읽음 처리 발행
+                if (!email.equals(payload.path("sender").asText())) {
+                    long messageId = payload.path("id").asLong();
+                    pendingReads.put(messageId, System.nanoTime());
+                    try {
+                        session.send("/pub/read", messageId);
+                    } catch (RuntimeException e) {
+                        pendingReads.remove(messageId);
+                        report.error("stomp.read");
+                    }
+                }
+            });
+        }
+
+        private StompFrameHandler readStatusHandler() {
+            return new JsonFrameHandler(payload -> {
+                for (JsonNode messageId : payload.path("readMessageIds")) {
+                    Long requestedAt = pendingReads.remove(messageId.asLong());
+                    if (requestedAt != null) {
+                        report.record("stomp.read", System.nanoTime() - requestedAt);
+                    }
+                }
+            });
+        }
+    }
+
+    private class JsonFrameHandler implements StompFrameHandler {
+
+        private final Consumer<JsonNode> consumer;
+
+        private JsonFrameHandler(Consumer<JsonNode> consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public Type getPayloadType(StompHeaders headers) {
+            return JsonNode.class;
+        }
+
+        @Override
+        public void handleFrame(StompHeaders headers, Object payload) {
+            try {
+                consumer.accept((JsonNode) payload);
+            } catch (RuntimeException e) {
+                report.error("stomp.frame");
+            }
+        }
+    }
+}
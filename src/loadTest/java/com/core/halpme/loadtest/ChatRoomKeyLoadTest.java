@@ -0,0 +1,178 @@
+package com.core.halpme.loadtest;
+
+import com.core.halpme.common.id.TimeOrderedUuids;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * 채팅방 ID 저장 방식별 테이블/인덱스 크기와 조회 시간 (채팅방, 참여자, 메시지 테이블)
+ * - varchar: 변경 전, UUIDv4 VARCHAR(36) (utf8mb4 라 키당 최대 144바이트, PK 임의 위치 삽입)
+ * - binary : 변경 후, UUIDv7 BINARY(16) (생성 시각 순 삽입)
+ * 조회: 채팅방 PK 단건 조회, 채팅방별 최근 메시지 20건 (room_id 보조 인덱스)
+ *
+ * 실행: ./gradlew loadTest -Ploadtest.room-keys.rooms=200000 --tests '*ChatRoomKeyLoadTest'
+ */
+class ChatRoomKeyLoadTest {
+
+    private static final int ROOMS = Integer.getInteger("loadtest.room-keys.rooms", 50_000);
+    private static final int MESSAGES_PER_ROOM = 10;
+    private static final int LOOKUPS = 20_000;
+    private static final int BATCH = 500;
+
+    @Test
+    void storageAndLookupByRoomKey() throws Exception {
+
+        LoadTestStack.MYSQL.start();
+
+        Properties properties = new Properties();
+        properties.setProperty("user", LoadTestStack.MYSQL.getUsername());
+        properties.setProperty("password", LoadTestStack.MYSQL.getPassword());
+        properties.setProperty("rewriteBatchedStatements", "true");
+
+        try (Connection connection = DriverManager.getConnection(LoadTestStack.MYSQL.getJdbcUrl(), properties)) {
+
+            connection.setAutoCommit(false);
+
+            String summary = String.format("chat room key: %d rooms, %d messages/room, %d lookups%n",
+                    ROOMS, MESSAGES_PER_ROOM, LOOKUPS)
+                    + measure(connection, "varchar", "VARCHAR(36)")
+                    + measure(connection, "binary", "BINARY(16)");
+            System.out.println(summary);
+
+            Path output = Path.of("build", "reports", "load-test", "chat-room-key.txt");
+            Files.createDirectories(output.getParent());
+            Files.writeString(output, summary);
+        }
+    }
+
+    private String measure(Connection connection, String strategy, String keyColumn) throws SQLException {
+
+        String rooms = "room_" + strategy;
+        String members = "room_members_" + strategy;
+        String messages = "room_message_" + strategy;
+
+        try (Statement statement = connection.createStatement()) {
+            for (String table : List.of(messages, members, rooms)) {
+                statement.execute("DROP TABLE IF EXISTS " + table);
+            }
+            statement.execute("CREATE TABLE " + rooms + " (id " + keyColumn + " PRIMARY KEY, room_maker_id BIGINT, "
+                    + "created_at DATETIME(6))");
+            statement.execute("CREATE TABLE " + members + " (chat_room_id " + keyColumn + " NOT NULL, user_id BIGINT NOT NULL, "
+                    + "PRIMARY KEY (chat_room_id, user_id))");
+            statement.execute("CREATE TABLE " + messages + " (id BIGINT PRIMARY KEY, room_id " + keyColumn + ", "
+                    + "sender VARCHAR(255), message VARCHAR(255), created_at DATETIME(6), INDEX idx_room (room_id, id))");
+        }
+        connection.commit();
+
+        boolean binary = "binary".equals(strategy);
+        Random random = new Random(42);
+        long now = System.currentTimeMillis();
+        List<Object> keys = new ArrayList<>(ROOMS);
+        long messageId = 0;
+
+        try (PreparedStatement insertRoom = connection.prepareStatement(
+                "INSERT INTO " + rooms + " (id, room_maker_id, created_at) VALUES (?, ?, NOW(6))");
+             PreparedStatement insertMember = connection.prepareStatement(
+                     "INSERT INTO " + members + " (chat_room_id, user_id) VALUES (?, ?)");
+             PreparedStatement insertMessage = connection.prepareStatement(
+                     "INSERT INTO " + messages + " (id, room_id, sender, message, created_at) VALUES (?, ?, ?, ?, NOW(6))")) {
+
+            for (int room = 0; room < ROOMS; room++) {
+                // 채팅방이 시간 순으로 만들어지는 상황 (UUIDv7 은 생성 시각 순, UUIDv4 는 무작위)
+                Object key = binary
+                        ? TimeOrderedUuids.toBytes(TimeOrderedUuids.of(now + room, random.nextLong(), random.nextLong()).toString())
+                        : UUID.randomUUID().toString();
+                keys.add(key);
+
+                insertRoom.setObject(1, key);
+                insertRoom.setLong(2, room % 5_000);
+                insertRoom.addBatch();
+
+                for (long member : new long[]{room % 5_000, (room + 1) % 5_000}) {
+                    insertMember.setObject(1, key);
+                    insertMember.setLong(2, member);
+                    insertMember.addBatch();
+                }
+
+                for (int m = 0; m < MESSAGES_PER_ROOM; m++) {
+                    insertMessage.setLong(1, ++messageId);
+                    insertMessage.setObject(2, key);
+                    insertMessage.setString(3, "member" + (room % 5_000) + "@halpme.com");
+                    insertMessage.setString(4, "내일 10시에 정문 앞에서 뵙겠습니다.");
+                    insertMessage.addBatch();
+                }
+
+                if ((room + 1) % BATCH == 0 || room == ROOMS - 1) {
+                    insertRoom.executeBatch();
+                    insertMember.executeBatch();
+                    insertMessage.executeBatch();
+                    connection.commit();
+                }
+            }
+        }
+
+        long[] roomLookups = lookups(connection, "SELECT room_maker_id FROM " + rooms + " WHERE id = ?", keys, random);
+        long[] messageLookups = lookups(connection,
+                "SELECT id, message FROM " + messages + " WHERE room_id = ? ORDER BY id DESC LIMIT 20", keys, random);
+
+        StringBuilder report = new StringBuilder(String.format("  %s (%s)%n", strategy, keyColumn));
+        try (Statement statement = connection.createStatement()) {
+            for (String table : List.of(rooms, members, messages)) {
+                statement.execute("ANALYZE TABLE " + table);
+                try (ResultSet size = statement.executeQuery("SELECT DATA_LENGTH, INDEX_LENGTH FROM information_schema.TABLES "
+                        + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = '" + table + "'")) {
+                    size.next();
+                    report.append(String.format("    %-22s: data %6.1f MB, index %6.1f MB%n", table,
+                            size.getLong(1) / 1_048_576.0, size.getLong(2) / 1_048_576.0));
+                }
+            }
+        }
+
+        report.append(String.format("    room by id     : p50 %6.0f us, p99 %6.0f us%n",
+                percentile(roomLookups, 0.50), percentile(roomLookups, 0.99)));
+        report.append(String.format("    latest messages: p50 %6.0f us, p99 %6.0f us%n",
+                percentile(messageLookups, 0.50), percentile(messageLookups, 0.99)));
+        return report.toString();
+    }
+
+    private static long[] lookups(Connection connection, String sql, List<Object> keys, Random random) throws SQLException {
+
+        long[] micros = new long[LOOKUPS];
+
+        try (PreparedStatement query = connection.prepareStatement(sql)) {
+            for (int i = 0; i < LOOKUPS; i++) {
+                query.setObject(1, keys.get(random.nextInt(keys.size())));
+
+                long startedAt = System.nanoTime();
+                try (ResultSet rows = query.executeQuery()) {
+                    while (rows.next()) {
+                        rows.getLong(1);
+                    }
+                }
+                micros[i] = (System.nanoTime() - startedAt) / 1_000;
+            }
+        }
+        connection.commit();
+
+        Arrays.sort(micros);
+        return micros;
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        return sorted[Math.min(sorted.length - 1, (int) (sorted.length * percentile))];
+    }
+}
@@ -0,0 +1,246 @@
+package com.core.halpme.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * REST(피드 조회, 글 작성, 봉사 참여) + STOMP(/pub/message, /pub/read) 혼합 부하 테스트
+ *
+ * 실행: ./gradlew loadTest -Ploadtest.stomp.clients=2000 -Ploadtest.duration-seconds=120
+ * 결과: 콘솔 및 build/reports/load-test/summary.txt (오퍼레이션별 처리량, p50/p99/p999)
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Import(LoadTestStack.InMemoryS3Config.class)
+class HalpmeLoadTest {
+
+    private static final int DURATION_SECONDS = Integer.getInteger("loadtest.duration-seconds", 60);
+    private static final int STOMP_CLIENTS = Integer.getInteger("loadtest.stomp.clients", 1000);
+    private static final int MESSAGE_INTERVAL_MS = Integer.getInteger("loadtest.stomp.interval-ms", 1000);
+    private static final int FEED_WORKERS = Integer.getInteger("loadtest.rest.feed-workers", 50);
+    private static final int CREATE_WORKERS = Integer.getInteger("loadtest.rest.create-workers", 10);
+    private static final int CLAIM_WORKERS = Integer.getInteger("loadtest.rest.claim-workers", 20);
+    private static final int SETUP_CONCURRENCY = 32;
+
+    @LocalServerPort
+    private int port;
+
+    private final LatencyReport report = new LatencyReport();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        LoadTestStack.registerProperties(registry);
+    }
+
+    private record Account(String email, String token) {
+    }
+
+    private record Room(String roomId, Account writer, Account volunteer) {
+    }
+
+    @Test
+    void mixedRestAndStompWorkload() throws Exception {
+
+        LoadHttpClient http = new LoadHttpClient("http://localhost:" + port, objectMapper, report);
+        ChatLoadDriver chat = new ChatLoadDriver("ws://localhost:" + port + "/chat/inbox/websocket", report);
+
+        // 1. 채팅방마다 작성자/봉사자 회원과 게시글을 만들고 방 생성
+        int roomCount = Math.max(1, STOMP_CLIENTS / 2);
+        List<Room> rooms = runParallel(roomCount, index -> createRoom(http, index));
+
+        // 2. 방 참여자 전원 STOMP 연결 및 구독
+        List<ChatLoadDriver.Participant> participants = runParallel(rooms.size() * 2, index -> {
+            Room room = rooms.get(index / 2);
+            Account account = index % 2 == 0 ? room.writer() : room.volunteer();
+            return chat.connect(account.token(), account.email(), room.roomId());
+        });
+
+        // 3. 측정 구간: 참여자별 주기적 메시지 발행 + REST 워커
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + TimeUnit.SECONDS.toNanos(DURATION_SECONDS);
+
+        ScheduledExecutorService publisher = Executors.newScheduledThreadPool(4);
+        for (ChatLoadDriver.Participant participant : participants) {
+            publisher.scheduleAtFixedRate(participant::sendMessage,
+                    ThreadLocalRandom.current().nextInt(MESSAGE_INTERVAL_MS), MESSAGE_INTERVAL_MS, TimeUnit.MILLISECONDS);
+        }
+
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < FEED_WORKERS; i++) {
+                workers.submit(() -> loop(deadline, () -> browseFeed(http)));
+            }
+            for (int i = 0; i < CREATE_WORKERS; i++) {
+                Account writer = rooms.get(i % rooms.size()).writer();
+                workers.submit(() -> loop(deadline, () -> createPost(http, writer, "rest.post.create")));
+            }
+            for (int i = 0; i < CLAIM_WORKERS; i++) {
+                Account volunteer = rooms.get(i % rooms.size()).volunteer();
+                workers.submit(() -> loop(deadline, () -> claimWaitingPost(http, volunteer)));
+            }
+        }
+
+        publisher.shutdownNow();
+        long elapsed = System.nanoTime() - startedAt;
+
+        // 4. 진행 중인 브로드캐스트 수신 대기 후 결과 출력
+        Thread.sleep(2_000);
+        chat.disconnectAll();
+
+        String summary = String.format("load test: %ds, %d stomp clients, %d rooms%n", DURATION_SECONDS, participants.size(), rooms.size())
+                + report.format(elapsed);
+        System.out.println(summary);
+
+        Path output = Path.of("build", "reports", "load-test", "summary.txt");
+        Files.createDirectories(output.getParent());
+        Files.writeString(output, summary);
+
+        assertThat(report.count("stomp.message")).isPositive();
+        assertThat(report.count("rest.feed")).isPositive();
+    }
+
+    private Room createRoom(LoadHttpClient http, int index) {
+
+        Account writer = signupAndLogin(http, "w" + index, String.format("0101%07d", index));
+        Account volunteer = signupAndLogin(http, "v" + index, String.format("0102%07d", index));
+
+        createPost(http, writer, "setup.post.create");
+
+        JsonNode myPosts = http.get("setup.post.mine", "/api/v1/posts/my-request", writer.token()).data();
+        long postId = myPosts.get(0).path("postId").asLong();
+
+        JsonNode room = http.post("setup.room.create", "/api/v1/chatRoom/personal", volunteer.token(),
+                Map.of("guestPostId", postId)).data();
+
+        return new Room(room.path("chatRoomId").asText(), writer, volunteer);
+    }
+
+    private Account signupAndLogin(LoadHttpClient http, String key, String phoneNumber) {
+
+        String email = "load-" + key + "@halpme.com";
+
+        http.post("setup.signup", "/api/v1/auth/signup", null, Map.of(
+                "nickname", "load-" + key,
+                "password", "password1234",
+                "email", email,
+                "phoneNumber", phoneNumber,
+                "age", 30,
+                "gender", "FEMALE",
+                "role", "ROLE_MEMBER",
+                "address", Map.of("zipCode", "04001", "basicAddress", "서울 마포구 월드컵로 1")
+        ));
+
+        JsonNode login = http.post("setup.login", "/api/v1/auth/login", null,
+                Map.of("email", email, "pw", "password1234")).data();
+
+        return new Account(email, login.path("token").asText());
+    }
+
+    private void createPost(LoadHttpClient http, Account writer, String operation) {
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        LocalTime start = LocalTime.of(9 + random.nextInt(8), 0);
+
+        LoadHttpClient.Result result = http.post(operation, "/api/v1/posts", writer.token(), Map.of(
+                "title", "부하 테스트 봉사 요청 " + random.nextInt(100_000),
+                "content", "장보기와 말벗이 필요합니다.",
+                "address", Map.of("zipCode", "04001", "basicAddress", "서울 마포구 월드컵로 1"),
+                "requestDate", LocalDate.now().plusDays(random.nextInt(1, 60)).toString(),
+                "startHour", start.toString(),
+                "endHour", start.plusHours(2).toString()
+        ));
+
+        if (!result.isSuccess()) {
+            report.error(operation);
+        }
+    }
+
+    private void browseFeed(LoadHttpClient http) {
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String query = switch (random.nextInt(3)) {
+            case 0 -> "?page=" + random.nextInt(5) + "&size=20";
+            case 1 -> "?status=WAITING&size=20";
+            default -> "?from=" + LocalDate.now() + "&to=" + LocalDate.now().plusDays(14) + "&size=20";
+        };
+
+        if (!http.get("rest.feed", "/api/v1/posts" + query, null).isSuccess()) {
+            report.error("rest.feed");
+        }
+    }
+
+    // 대기 중인 글 하나를 골라 참여 시도 (이미 배정된 글의 409 는 정상 응답으로 간주)
+    private void claimWaitingPost(LoadHttpClient http, Account volunteer) {
+
+        JsonNode waiting = http.get("rest.feed", "/api/v1/posts?status=WAITING&size=50", null).data().path("posts");
+        if (!waiting.isArray() || waiting.isEmpty()) {
+            return;
+        }
+
+        long postId = waiting.get(ThreadLocalRandom.current().nextInt(waiting.size())).path("postId").asLong();
+        int status = http.post("rest.post.claim", "/api/v1/posts/" + postId + "/participate", volunteer.token(), Map.of()).status();
+
+        if (status != 200 && status != 201 && status != 409) {
+            report.error("rest.post.claim");
+        }
+    }
+
+    private void loop(long deadline, Runnable action) {
+        while (System.nanoTime() < deadline) {
+            action.run();
+        }
+    }
+
+    private interface Task<T> {
+        T run(int index) throws Exception;
+    }
+
+    // 준비 단계 작업을 제한된 동시성으로 병렬 실행
+    private <T> List<T> runParallel(int count, Task<T> task) throws Exception {
+
+        Semaphore permits = new Semaphore(SETUP_CONCURRENCY);
+        List<Future<T>> futures = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < count; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> {
+                    permits.acquire();
+                    try {
+                        return task.run(index);
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+        }
+
+        List<T> results = new ArrayList<>();
+        for (Future<T> future : futures) {
+            results.add(future.get());
+        }
+        return results;
+    }
+}
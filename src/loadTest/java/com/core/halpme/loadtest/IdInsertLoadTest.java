@@ -0,0 +1,119 @@
+package com.core.halpme.loadtest;
+
+import com.core.halpme.common.id.SnowflakeIdGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+import java.util.UUID;
+
+/**
+ * PK 전략별 MySQL insert 처리량과 테이블 크기 (트랜잭션당 BATCH 행, 채팅 메시지와 비슷한 행)
+ * - identity : AUTO_INCREMENT, 행마다 insert + 생성 키 조회 (Hibernate IDENTITY 와 같은 방식, 배치 불가)
+ * - snowflake: 애플리케이션에서 정한 시간 순 BIGINT, JDBC 배치 (rewriteBatchedStatements 로 다중 행 INSERT)
+ * - uuid     : 무작위 UUID CHAR(36), JDBC 배치 (PK B-tree 임의 위치 삽입 -> 페이지 분할)
+ *
+ * 실행: ./gradlew loadTest -Ploadtest.ids.rows=500000 --tests '*IdInsertLoadTest'
+ */
+class IdInsertLoadTest {
+
+    private static final int ROWS = Integer.getInteger("loadtest.ids.rows", 200_000);
+    private static final int BATCH = 50;
+
+    @Test
+    void insertThroughputByKeyStrategy() throws Exception {
+
+        LoadTestStack.MYSQL.start();
+
+        Properties properties = new Properties();
+        properties.setProperty("user", LoadTestStack.MYSQL.getUsername());
+        properties.setProperty("password", LoadTestStack.MYSQL.getPassword());
+        properties.setProperty("rewriteBatchedStatements", "true");
+
+        try (Connection connection = DriverManager.getConnection(LoadTestStack.MYSQL.getJdbcUrl(), properties)) {
+
+            connection.setAutoCommit(false);
+
+            String summary = String.format("id insert: %d rows, %d rows/tx%n", ROWS, BATCH)
+                    + measure(connection, "identity", "id BIGINT AUTO_INCREMENT")
+                    + measure(connection, "snowflake", "id BIGINT")
+                    + measure(connection, "uuid", "id CHAR(36)");
+            System.out.println(summary);
+
+            Path output = Path.of("build", "reports", "load-test", "id-insert.txt");
+            Files.createDirectories(output.getParent());
+            Files.writeString(output, summary);
+        }
+    }
+
+    private String measure(Connection connection, String strategy, String idColumn) throws SQLException {
+
+        String table = "id_" + strategy;
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + table);
+            statement.execute("CREATE TABLE " + table + " (" + idColumn + " PRIMARY KEY, room_id VARCHAR(36), "
+                    + "sender VARCHAR(255), message VARCHAR(255), created_at DATETIME(6))");
+        }
+        connection.commit();
+
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(0);
+        String columns = "room_id, sender, message, created_at";
+        String sql = "identity".equals(strategy)
+                ? "INSERT INTO " + table + " (" + columns + ") VALUES (?, ?, ?, NOW(6))"
+                : "INSERT INTO " + table + " (id, " + columns + ") VALUES (?, ?, ?, ?, NOW(6))";
+
+        long startedAt = System.nanoTime();
+
+        try (PreparedStatement insert = "identity".equals(strategy)
+                ? connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)
+                : connection.prepareStatement(sql)) {
+
+            for (int row = 0; row < ROWS; row++) {
+                int index = 1;
+                if ("snowflake".equals(strategy)) {
+                    insert.setLong(index++, generator.nextId());
+                } else if ("uuid".equals(strategy)) {
+                    insert.setString(index++, UUID.randomUUID().toString());
+                }
+                insert.setString(index++, "room-" + (row % 1_000));
+                insert.setString(index++, "member" + (row % 5_000) + "@halpme.com");
+                insert.setString(index, "내일 10시에 정문 앞에서 뵙겠습니다.");
+
+                if ("identity".equals(strategy)) {
+                    insert.executeUpdate();
+                    try (ResultSet keys = insert.getGeneratedKeys()) {
+                        keys.next();
+                    }
+                } else {
+                    insert.addBatch();
+                }
+
+                if ((row + 1) % BATCH == 0 || row == ROWS - 1) {
+                    if (!"identity".equals(strategy)) {
+                        insert.executeBatch();
+                    }
+                    connection.commit();
+                }
+            }
+        }
+
+        double seconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE TABLE " + table);
+            try (ResultSet size = statement.executeQuery("SELECT DATA_LENGTH, DATA_FREE FROM information_schema.TABLES "
+                    + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = '" + table + "'")) {
+                size.next();
+                return String.format("  %-9s : %8.0f rows/s, data %6.1f MB (free %5.1f MB)%n", strategy, ROWS / seconds,
+                        size.getLong(1) / 1_048_576.0, size.getLong(2) / 1_048_576.0);
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.core.halpme.loadtest;
+
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 부하 테스트용 S3 대체 구현 (S3Service, S3ChatArchiveStore 가 사용하는 putObject, getObjectAsBytes, deleteObject 만 지원)
+ */
+public class InMemoryS3Client implements S3Client {
+
+    private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+
+    @Override
+    public PutObjectResponse putObject(PutObjectRequest putObjectRequest, RequestBody requestBody) {
+
+        try (InputStream content = requestBody.contentStreamProvider().newStream()) {
+            objects.put(putObjectRequest.bucket() + "/" + putObjectRequest.key(), content.readAllBytes());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return PutObjectResponse.builder().eTag("\"in-memory\"").build();
+    }
+
+    @Override
+    public ResponseBytes<GetObjectResponse> getObjectAsBytes(GetObjectRequest getObjectRequest) {
+
+        byte[] content = objects.get(getObjectRequest.bucket() + "/" + getObjectRequest.key());
+        if (content == null) {
+            throw NoSuchKeyException.builder().message(getObjectRequest.key()).build();
+        }
+
+        return ResponseBytes.fromByteArray(GetObjectResponse.builder().contentLength((long) content.length).build(), content);
+    }
+
+    @Override
+    public DeleteObjectResponse deleteObject(DeleteObjectRequest deleteObjectRequest) {
+        objects.remove(deleteObjectRequest.bucket() + "/" + deleteObjectRequest.key());
+        return DeleteObjectResponse.builder().build();
+    }
+
+    public int size() {
+        return objects.size();
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+        objects.clear();
+    }
+}
@@ -0,0 +1,77 @@
+package com.core.halpme.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 오퍼레이션별 지연 시간(HdrHistogram)과 오류 수 집계
+ */
+public class LatencyReport {
+
+    private static final long MAX_TRACKABLE_NANOS = TimeUnit.SECONDS.toNanos(60);
+
+    private final Map<String, Operation> operations = new ConcurrentSkipListMap<>();
+
+    public void record(String operation, long latencyNanos) {
+        get(operation).recorder.recordValue(Math.min(latencyNanos, MAX_TRACKABLE_NANOS));
+    }
+
+    public void error(String operation) {
+        get(operation).errors.increment();
+    }
+
+    public long count(String operation) {
+        Operation op = operations.get(operation);
+        return op == null ? 0 : op.snapshot().getTotalCount();
+    }
+
+    public String format(long elapsedNanos) {
+
+        double elapsedSeconds = elapsedNanos / 1_000_000_000.0;
+        StringBuilder sb = new StringBuilder();
+
+        sb.append(String.format("%-22s %9s %7s %10s %9s %9s %9s %9s%n",
+                "operation", "count", "errors", "ops/s", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)"));
+
+        operations.forEach((name, op) -> {
+            Histogram histogram = op.snapshot();
+            sb.append(String.format("%-22s %9d %7d %10.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    name,
+                    histogram.getTotalCount(),
+                    op.errors.sum(),
+                    histogram.getTotalCount() / elapsedSeconds,
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue())));
+        });
+
+        return sb.toString();
+    }
+
+    private Operation get(String operation) {
+        return operations.computeIfAbsent(operation, key -> new Operation());
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static class Operation {
+
+        private final Recorder recorder = new Recorder(MAX_TRACKABLE_NANOS, 3);
+        private final Histogram accumulated = new Histogram(MAX_TRACKABLE_NANOS, 3);
+        private final LongAdder errors = new LongAdder();
+
+        // Recorder 의 구간 히스토그램을 누적본에 합산
+        private synchronized Histogram snapshot() {
+            accumulated.add(recorder.getIntervalHistogram());
+            return accumulated;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.core.halpme.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * 부하 테스트용 JSON HTTP 클라이언트 (요청 지연 시간을 LatencyReport 에 기록)
+ */
+public class LoadHttpClient {
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final LatencyReport report;
+    private final String baseUrl;
+
+    public LoadHttpClient(String baseUrl, ObjectMapper objectMapper, LatencyReport report) {
+        this.baseUrl = baseUrl;
+        this.objectMapper = objectMapper;
+        this.report = report;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    public record Result(int status, JsonNode body) {
+
+        public boolean isSuccess() {
+            return status >= 200 && status < 300;
+        }
+
+        public JsonNode data() {
+            return body.path("data");
+        }
+    }
+
+    public Result get(String operation, String path, String token) {
+        return send(operation, request(path, token).GET().build());
+    }
+
+    public Result post(String operation, String path, String token, Object body) {
+        return send(operation, request(path, token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(toJson(body)))
+                .build());
+    }
+
+    // 409 등 예상된 실패는 호출 측에서 판단하도록 응답 상태만 반환, 네트워크/5xx 는 오류로 집계
+    private Result send(String operation, HttpRequest request) {
+
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            report.record(operation, System.nanoTime() - start);
+
+            if (response.statusCode() >= 500) {
+                report.error(operation);
+            }
+
+            JsonNode body = response.body().isEmpty() ? objectMapper.nullNode() : objectMapper.readTree(response.body());
+            return new Result(response.statusCode(), body);
+        } catch (IOException e) {
+            report.error(operation);
+            return new Result(-1, objectMapper.nullNode());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Result(-1, objectMapper.nullNode());
+        }
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30));
+
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+
+        return builder;
+    }
+
+    private String toJson(Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+}
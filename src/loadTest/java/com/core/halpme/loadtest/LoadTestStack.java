@@ -0,0 +1,80 @@
+package com.core.halpme.loadtest;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.MySQLContainer;
+import software.amazon.awssdk.services.s3.S3Client;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 부하 테스트용 로컬 인프라 (MySQL, Redis 컨테이너 + 인메모리 S3)
+ * 운영 설정(application.yml)이 없어도 기동되도록 필요한 프로퍼티를 모두 주입
+ */
+public final class LoadTestStack {
+
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0")
+            .withCommand("--max-connections=500");
+
+    static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine")
+            .withExposedPorts(6379);
+
+    private LoadTestStack() {
+    }
+
+    static void start() {
+        MYSQL.start();
+        REDIS.start();
+    }
+
+    static void registerProperties(DynamicPropertyRegistry registry) {
+
+        start();
+
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+        registry.add("spring.datasource.hikari.maximum-pool-size", () -> 50);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create");
+
+        registry.add("spring.data.redis.host", REDIS::getHost);
+        registry.add("spring.data.redis.port", () -> REDIS.getMappedPort(6379));
+        registry.add("spring.data.redis.password", () -> "");
+
+        registry.add("jwt.secret", () -> "halpme-load-test-secret-key-which-is-long-enough-for-hs256");
+        registry.add("jwt.expiration", () -> 86_400_000L);
+
+        registry.add("cloud.aws.region.static", () -> "ap-northeast-2");
+        registry.add("cloud.aws.s3.bucket", () -> "halpme-load-test");
+        registry.add("cloud.aws.s3.domain", () -> "https://cdn.load-test.local");
+
+        registry.add("search.index.path", LoadTestStack::tempIndexPath);
+        registry.add("id.snowflake.node-id", () -> 0);
+        registry.add("management.server.port", () -> 0);
+
+        // 부하 생성기는 모든 요청이 같은 IP 에서 나가므로 HTTP 요청 제한은 끔 (회원가입/로그인 준비 단계)
+        registry.add("http.rate-limit.enabled", () -> false);
+    }
+
+    private static String tempIndexPath() {
+        try {
+            return Files.createTempDirectory("halpme-post-index").toString();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @TestConfiguration
+    static class InMemoryS3Config {
+
+        @Bean
+        @Primary
+        S3Client inMemoryS3Client() {
+            return new InMemoryS3Client();
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.core.halpme.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.socket.WebSocketExtension;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 네이티브 WebSocket(/chat/ws) 유휴 연결 1개당 메모리 (permessage-deflate 협상 여부별)
+ * 서버와 클라이언트가 같은 JVM 이므로 측정값은 연결 양 끝을 합친 값
+ * - heap : GC 후 힙 사용량 증가분
+ * - rss  : /proc/self/status 의 VmRSS 증가분 (zlib 상태 등 네이티브 메모리 포함, Linux 에서만)
+ *
+ * 실행: ./gradlew loadTest -Ploadtest.footprint.connections=1000 --tests '*WebSocketFootprintLoadTest'
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Import(LoadTestStack.InMemoryS3Config.class)
+class WebSocketFootprintLoadTest {
+
+    private static final int CONNECTIONS = Integer.getInteger("loadtest.footprint.connections", 500);
+
+    @LocalServerPort
+    private int port;
+
+    private final LatencyReport report = new LatencyReport();
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        LoadTestStack.registerProperties(registry);
+    }
+
+    @Test
+    void memoryPerConnection() throws Exception {
+
+        String token = login(new LoadHttpClient("http://localhost:" + port, new ObjectMapper(), report));
+
+        // 첫 측정에 클래스 로딩/풀 초기화 비용이 섞이지 않도록 예열
+        measure(token, false, 20);
+
+        String summary = String.format("websocket footprint: %d connections%n", CONNECTIONS)
+                + measure(token, false, CONNECTIONS)
+                + measure(token, true, CONNECTIONS);
+        System.out.println(summary);
+
+        Path output = Path.of("build", "reports", "load-test", "footprint.txt");
+        Files.createDirectories(output.getParent());
+        Files.writeString(output, summary);
+    }
+
+    private String measure(String token, boolean deflate, int connections) throws Exception {
+
+        WebSocketStompClient stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+
+        WebSocketHttpHeaders handshakeHeaders = new WebSocketHttpHeaders();
+        if (deflate) {
+            handshakeHeaders.setSecWebSocketExtensions(List.of(new WebSocketExtension("permessage-deflate")));
+        }
+
+        StompHeaders connectHeaders = new StompHeaders();
+        connectHeaders.add("Authorization", "Bearer " + token);
+
+        long heapBefore = usedHeap();
+        long rssBefore = residentSetSize();
+
+        List<StompSession> sessions = new ArrayList<>();
+        for (int i = 0; i < connections; i++) {
+            sessions.add(stompClient.connectAsync("ws://localhost:" + port + "/chat/ws", handshakeHeaders, connectHeaders,
+                    new StompSessionHandlerAdapter() {
+                    }).get(30, TimeUnit.SECONDS));
+        }
+
+        long heapPerConnection = (usedHeap() - heapBefore) / connections;
+        long rssPerConnection = (residentSetSize() - rssBefore) / connections;
+
+        sessions.forEach(StompSession::disconnect);
+        assertThat(sessions).hasSize(connections);
+
+        return String.format("  deflate=%-5s heap %,d B/conn, rss %,d B/conn%n", deflate, heapPerConnection, rssPerConnection);
+    }
+
+    private String login(LoadHttpClient http) {
+
+        String email = "load-footprint@halpme.com";
+
+        http.post("setup.signup", "/api/v1/auth/signup", null, Map.of(
+                "nickname", "load-footprint",
+                "password", "password1234",
+                "email", email,
+                "phoneNumber", "01030000000",
+                "age", 30,
+                "gender", "FEMALE",
+                "role", "ROLE_MEMBER",
+                "address", Map.of("zipCode", "04001", "basicAddress", "서울 마포구 월드컵로 1")
+        ));
+
+        JsonNode login = http.post("setup.login", "/api/v1/auth/login", null,
+                Map.of("email", email, "pw", "password1234")).data();
+
+        return login.path("token").asText();
+    }
+
+    private long usedHeap() throws InterruptedException {
+        System.gc();
+        Thread.sleep(500);
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private long residentSetSize() throws IOException {
+
+        Path status = Path.of("/proc/self/status");
+        if (!Files.exists(status)) {
+            return 0;
+        }
+
+        return Files.readAllLines(status).stream()
+                .filter(line -> line.startsWith("VmRSS:"))
+                .map(line -> Long.parseLong(line.replaceAll("\\D", "")) * 1024)
+                .findFirst()
+                .orElse(0L);
+    }
+}
@@ -0,0 +1,40 @@
+package com.core.halpme.api.chat.archive;
+
+import com.core.halpme.api.chat.dto.ChatMessageDto;
+import com.core.halpme.api.chat.entity.MessageType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 보관 저장소의 메시지 1건 (이미지 URL, 참여자별 읽음 여부 포함)
+ */
+public record ArchivedChatMessage(
+        Long id,
+        String roomId,
+        String sender,
+        String message,
+        MessageType messageType,
+        LocalDateTime createdAt,
+        List<String> imageUrls,
+        Map<String, Boolean> readers
+) {
+
+    // 내가 보낸 메시지면 상대방 읽음 여부, 상대방이 보낸 메시지면 항상 읽음 (채팅 기록 조회와 같은 규칙)
+    public ChatMessageDto toDto(String viewerEmail, String opponentEmail) {
+
+        boolean isRead = !sender.equals(viewerEmail) || readers.getOrDefault(opponentEmail, false);
+
+        return ChatMessageDto.builder()
+                .id(id)
+                .roomId(roomId)
+                .sender(sender)
+                .message(message)
+                .imageUrls(imageUrls)
+                .messageType(messageType)
+                .createdAt(createdAt)
+                .ReadStatus(isRead)
+                .build();
+    }
+}
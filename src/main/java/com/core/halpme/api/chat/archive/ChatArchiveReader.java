@@ -0,0 +1,41 @@
+package com.core.halpme.api.chat.archive;
+
+import com.core.halpme.api.chat.dto.ChatMessageDto;
+import com.core.halpme.api.chat.entity.ChatArchiveSegment;
+import com.core.halpme.api.chat.repository.ChatArchiveSegmentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 보관 저장소로 옮긴 채팅방 메시지 조회 (채팅 기록 조회 시 DB 메시지 앞에 합쳐 반환)
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatArchiveReader {
+
+    private final ChatArchiveSegmentRepository chatArchiveSegmentRepository;
+    private final ChatArchiveStore chatArchiveStore;
+
+    public List<ChatMessageDto> read(String roomId, String viewerEmail, String opponentEmail) {
+
+        List<ChatArchiveSegment> segments = chatArchiveSegmentRepository.findByRoomIdOrderByArchiveMonthAsc(roomId);
+        if (segments.isEmpty()) {
+            return List.of();
+        }
+
+        List<ArchivedChatMessage> messages = new ArrayList<>();
+        for (ChatArchiveSegment segment : segments) {
+            messages.addAll(ChatArchiveCodec.decode(chatArchiveStore.get(segment.getObjectKey())));
+        }
+
+        return messages.stream()
+                .sorted(Comparator.comparing(ArchivedChatMessage::createdAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+                        .thenComparing(ArchivedChatMessage::id))
+                .map(message -> message.toDto(viewerEmail, opponentEmail))
+                .toList();
+    }
+}
@@ -0,0 +1,11 @@
+package com.core.halpme.api.chat.archive;
+
+/**
+ * 보관된 채팅 메시지 묶음 저장소 (chat.archive.store=local | s3)
+ */
+public interface ChatArchiveStore {
+
+    void put(String key, byte[] content);
+
+    byte[] get(String key);
+}
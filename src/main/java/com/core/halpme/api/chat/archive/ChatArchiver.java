@@ -0,0 +1,127 @@
+package com.core.halpme.api.chat.archive;
+
+import com.core.halpme.api.chat.entity.ChatArchiveSegment;
+import com.core.halpme.api.chat.entity.MessageType;
+import com.core.halpme.api.chat.repository.ChatArchiveSegmentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * chat_message 월 파티션 1개를 채팅방별 압축 객체로 보관 저장소에 옮김
+ * 채팅방마다: 객체 저장 -> (한 트랜잭션) 이미지/읽음 상태 삭제 + ChatArchiveSegment 기록
+ * 중간에 중단돼도 다시 실행하면 이미 보관 기록이 있는 채팅방은 건너뛰고 이어서 진행
+ * 파티션 자체의 DROP 은 모든 채팅방 보관 후 ChatPartitionManager 가 수행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatArchiver {
+
+    private static final int IN_CHUNK = 1_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ChatArchiveSegmentRepository chatArchiveSegmentRepository;
+    private final ChatArchiveStore chatArchiveStore;
+
+    // 보관한 메시지 수 반환
+    public long archivePartition(String partition, int archiveMonth) {
+
+        List<String> roomIds = jdbcTemplate.queryForList(
+                "SELECT DISTINCT BIN_TO_UUID(room_id) FROM chat_message PARTITION (" + partition + ")", String.class);
+
+        long archived = 0;
+
+        for (String roomId : roomIds) {
+            if (chatArchiveSegmentRepository.existsByRoomIdAndArchiveMonth(roomId, archiveMonth)) {
+                continue;
+            }
+            archived += archiveRoom(partition, archiveMonth, roomId);
+        }
+
+        log.info("채팅 메시지 파티션 보관 완료 [{}] (채팅방 {}개, 메시지 {}건)", partition, roomIds.size(), archived);
+        return archived;
+    }
+
+    private int archiveRoom(String partition, int archiveMonth, String roomId) {
+
+        Map<Long, MessageRow> rows = new LinkedHashMap<>();
+        jdbcTemplate.query("SELECT id, sender, message, message_type, created_at FROM chat_message PARTITION (" + partition + ") "
+                        + "WHERE room_id = UUID_TO_BIN(?) ORDER BY id",
+                rs -> {
+                    Timestamp createdAt = rs.getTimestamp("created_at");
+                    String messageType = rs.getString("message_type");
+                    rows.put(rs.getLong("id"), new MessageRow(rs.getString("sender"), rs.getString("message"),
+                            messageType != null ? MessageType.valueOf(messageType) : null,
+                            createdAt != null ? createdAt.toLocalDateTime() : null));
+                },
+                roomId);
+
+        List<Long> messageIds = new ArrayList<>(rows.keySet());
+        Map<Long, List<String>> images = new HashMap<>();
+        Map<Long, Map<String, Boolean>> readers = new HashMap<>();
+
+        for (List<Long> chunk : chunks(messageIds)) {
+            namedParameterJdbcTemplate.query("SELECT message_id, image_url FROM chat_message_image "
+                            + "WHERE message_id IN (:ids) ORDER BY message_id, image_order",
+                    Map.of("ids", chunk),
+                    rs -> {
+                        images.computeIfAbsent(rs.getLong("message_id"), id -> new ArrayList<>()).add(rs.getString("image_url"));
+                    });
+            namedParameterJdbcTemplate.query("SELECT message_id, reader_email, is_read FROM message_read_status "
+                            + "WHERE message_id IN (:ids)",
+                    Map.of("ids", chunk),
+                    rs -> {
+                        readers.computeIfAbsent(rs.getLong("message_id"), id -> new HashMap<>())
+                                .put(rs.getString("reader_email"), rs.getBoolean("is_read"));
+                    });
+        }
+
+        List<ArchivedChatMessage> messages = new ArrayList<>(rows.size());
+        rows.forEach((id, row) -> messages.add(new ArchivedChatMessage(id, roomId, row.sender(), row.message(),
+                row.messageType(), row.createdAt(), images.getOrDefault(id, List.of()), readers.getOrDefault(id, Map.of()))));
+
+        String objectKey = objectKey(archiveMonth, roomId);
+        chatArchiveStore.put(objectKey, ChatArchiveCodec.encode(messages));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            for (List<Long> chunk : chunks(messageIds)) {
+                namedParameterJdbcTemplate.update("DELETE FROM chat_message_image WHERE message_id IN (:ids)", Map.of("ids", chunk));
+                namedParameterJdbcTemplate.update("DELETE FROM message_read_status WHERE message_id IN (:ids)", Map.of("ids", chunk));
+            }
+            chatArchiveSegmentRepository.save(ChatArchiveSegment.of(roomId, archiveMonth, objectKey, messages.size()));
+        });
+
+        return messages.size();
+    }
+
+    static String objectKey(int archiveMonth, String roomId) {
+        return "chat-archive/" + archiveMonth + "/" + roomId + ".ndjson.gz";
+    }
+
+    private static List<List<Long>> chunks(List<Long> ids) {
+
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += IN_CHUNK) {
+            chunks.add(ids.subList(from, Math.min(from + IN_CHUNK, ids.size())));
+        }
+
+        return chunks;
+    }
+
+    private record MessageRow(String sender, String message, MessageType messageType, LocalDateTime createdAt) {
+    }
+}
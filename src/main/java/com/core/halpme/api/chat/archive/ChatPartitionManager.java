@@ -0,0 +1,306 @@
+package com.core.halpme.api.chat.archive;
+
+import com.core.halpme.common.id.SnowflakeIdGenerator;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * chat_message / message_read_status 파티션 관리 (chat.partition.enabled=true 일 때만)
+ * - chat_message: created_at 월 단위 RANGE COLUMNS 파티션 (pYYYYMM), months-ahead 개월 앞까지 미리 생성
+ *   -> created_at 범위 조건 조회는 해당 월 파티션만 읽고(pruning), 인덱스도 파티션별이라 최근 월 인덱스만 버퍼 풀에 유지
+ * - message_read_status: message_id 범위 RANGE 파티션, Snowflake ID 의 월 경계 값으로 나눠 chat_message 와 같은 월 단위로 미리 생성
+ * - 최근 hot-months 개월 이전 chat_message 파티션은 ChatArchiver 로 보관 저장소에 옮긴 뒤 DROP PARTITION
+ * - 모든 메시지 ID 가 남은 최소 메시지 ID 보다 작은 message_read_status 파티션(보관 완료 범위)은 DROP PARTITION
+ * 처음 실행 시 기존 테이블을 파티션 테이블로 변환 (FK 제거, 파티션 키를 포함하도록 PK 변경, 테이블 재구성)
+ * 미리 만든 빈 파티션만 나누므로(REORGANIZE p_future) 정기 관리 작업은 데이터를 옮기지 않음
+ * 여러 인스턴스가 같은 파티션을 동시에 바꾸거나 같은 월을 보관하지 않도록 MySQL 이름 잠금(GET_LOCK)을 잡은 인스턴스만 실행
+ */
+@Slf4j
+@Component
+@PropertySource("classpath:chat.properties")
+public class ChatPartitionManager {
+
+    static final String CHAT_MESSAGE = "chat_message";
+    static final String READ_STATUS = "message_read_status";
+    static final String FUTURE = "p_future";
+    static final String LOCK_NAME = "chat_partition_maintenance";
+
+    private static final DateTimeFormatter MONTH = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ChatArchiver chatArchiver;
+
+    @Value("${chat.partition.enabled:false}")
+    private boolean enabled;
+
+    @Value("${chat.partition.months-ahead:3}")
+    private int monthsAhead;
+
+    @Value("${chat.partition.maintenance-interval-minutes:60}")
+    private long intervalMinutes;
+
+    @Value("${chat.archive.hot-months:6}")
+    private int hotMonths;
+
+    private ScheduledExecutorService scheduler;
+
+    private record Partition(String name, String description) {
+    }
+
+    public ChatPartitionManager(JdbcTemplate jdbcTemplate, ChatArchiver chatArchiver) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.chatArchiver = chatArchiver;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+
+        if (!enabled) {
+            return;
+        }
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "chat-partition");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::maintain, 0, intervalMinutes, TimeUnit.MINUTES);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    // 잠금은 커넥션(세션) 단위라 관리 작업이 끝날 때까지 잠금 커넥션 하나를 잡아 둠 (관리 SQL 은 다른 커넥션으로 실행)
+    void maintain() {
+        try {
+            jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                if (!lock(connection)) {
+                    log.debug("다른 인스턴스가 채팅 파티션 관리 중, 이번 주기는 건너뜀");
+                    return null;
+                }
+
+                try {
+                    YearMonth now = YearMonth.now();
+
+                    maintainChatMessagePartitions(now);
+                    maintainReadStatusPartitions(now);
+                    archiveColdMonths(now);
+                    dropArchivedReadStatusPartitions();
+                } finally {
+                    unlock(connection);
+                }
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.error("채팅 파티션 관리 실패", e);
+        }
+    }
+
+    // 대기 없이 시도 (다른 세션이 잡고 있으면 0)
+    private boolean lock(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT GET_LOCK(?, 0)")) {
+            statement.setString(1, LOCK_NAME);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() && rs.getInt(1) == 1;
+            }
+        }
+    }
+
+    private void unlock(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+            statement.setString(1, LOCK_NAME);
+            statement.executeQuery().close();
+        }
+    }
+
+    private void maintainChatMessagePartitions(YearMonth now) {
+
+        List<Partition> partitions = partitions(CHAT_MESSAGE);
+        YearMonth last = now.plusMonths(monthsAhead);
+
+        if (partitions.isEmpty()) {
+            dropForeignKeys();
+
+            LocalDateTime oldest = jdbcTemplate.queryForObject("SELECT MIN(created_at) FROM chat_message", LocalDateTime.class);
+            YearMonth first = oldest != null && YearMonth.from(oldest).isBefore(now) ? YearMonth.from(oldest) : now;
+
+            jdbcTemplate.update("UPDATE chat_message SET created_at = COALESCE(updated_at, NOW(6)) WHERE created_at IS NULL");
+            jdbcTemplate.execute("ALTER TABLE chat_message MODIFY created_at DATETIME(6) NOT NULL, "
+                    + "DROP PRIMARY KEY, ADD PRIMARY KEY (id, created_at)");
+            jdbcTemplate.execute("ALTER TABLE chat_message PARTITION BY RANGE COLUMNS(created_at) ("
+                    + monthPartitions(first, last) + ", " + futurePartition() + ")");
+
+            log.info("chat_message 월 파티션 변환 완료 ({} ~ {})", first, last);
+            return;
+        }
+
+        YearMonth newest = partitions.stream()
+                .map(Partition::name)
+                .filter(name -> !FUTURE.equals(name))
+                .map(name -> YearMonth.parse(name.substring(1), MONTH))
+                .max(YearMonth::compareTo)
+                .orElse(now.minusMonths(1));
+
+        if (newest.isBefore(last)) {
+            jdbcTemplate.execute("ALTER TABLE chat_message REORGANIZE PARTITION " + FUTURE + " INTO ("
+                    + monthPartitions(newest.plusMonths(1), last) + ", " + futurePartition() + ")");
+            log.info("chat_message 월 파티션 추가 ({} ~ {})", newest.plusMonths(1), last);
+        }
+    }
+
+    // Snowflake 메시지 ID 는 시각 순이므로 월 경계 시각의 최소 ID 로 나누면 chat_message 와 같은 월 단위 파티션이 됨
+    // (이전 IDENTITY 시절의 작은 ID 는 첫 파티션에 들어가고 해당 메시지가 모두 보관되면 함께 삭제)
+    private void maintainReadStatusPartitions(YearMonth now) {
+
+        List<Partition> partitions = partitions(READ_STATUS);
+        YearMonth last = now.plusMonths(monthsAhead);
+
+        if (partitions.isEmpty()) {
+            dropForeignKeys();
+
+            LocalDateTime oldest = jdbcTemplate.queryForObject("SELECT MIN(created_at) FROM chat_message", LocalDateTime.class);
+            YearMonth first = oldest != null && YearMonth.from(oldest).isBefore(now) ? YearMonth.from(oldest) : now;
+
+            jdbcTemplate.update("DELETE FROM message_read_status WHERE message_id IS NULL");
+            jdbcTemplate.execute("ALTER TABLE message_read_status MODIFY message_id BIGINT NOT NULL, "
+                    + "DROP PRIMARY KEY, ADD PRIMARY KEY (id, message_id)");
+            jdbcTemplate.execute("ALTER TABLE message_read_status PARTITION BY RANGE (message_id) ("
+                    + messageIdPartitions(first, last, 0) + ", " + futurePartition() + ")");
+
+            log.info("message_read_status 메시지 ID 월 파티션 변환 완료 ({} ~ {})", first, last);
+            return;
+        }
+
+        long highest = partitions.stream()
+                .filter(partition -> !FUTURE.equals(partition.name()))
+                .mapToLong(partition -> Long.parseLong(partition.description()))
+                .max()
+                .orElse(0);
+
+        if (highest < monthUpperId(last)) {
+            jdbcTemplate.execute("ALTER TABLE message_read_status REORGANIZE PARTITION " + FUTURE + " INTO ("
+                    + messageIdPartitions(now, last, highest) + ", " + futurePartition() + ")");
+            log.info("message_read_status 메시지 ID 월 파티션 추가 (~ {})", last);
+        }
+    }
+
+    private void archiveColdMonths(YearMonth now) {
+
+        YearMonth oldestHot = now.minusMonths(Math.max(1, hotMonths) - 1L);
+
+        for (Partition partition : partitions(CHAT_MESSAGE)) {
+            if (FUTURE.equals(partition.name())) {
+                continue;
+            }
+
+            YearMonth month = YearMonth.parse(partition.name().substring(1), MONTH);
+            if (!month.isBefore(oldestHot)) {
+                continue;
+            }
+
+            chatArchiver.archivePartition(partition.name(), Integer.parseInt(month.format(MONTH)));
+            jdbcTemplate.execute("ALTER TABLE chat_message DROP PARTITION " + partition.name());
+            log.info("chat_message 파티션 보관 후 삭제 [{}]", partition.name());
+        }
+    }
+
+    // 남은 메시지가 모두 상한 이상인 읽음 상태 파티션은 보관 완료된 메시지의 것뿐
+    private void dropArchivedReadStatusPartitions() {
+
+        Long minMessageId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM chat_message", Long.class);
+        if (minMessageId == null) {
+            return;
+        }
+
+        for (Partition partition : partitions(READ_STATUS)) {
+            if (!FUTURE.equals(partition.name()) && Long.parseLong(partition.description()) <= minMessageId) {
+                jdbcTemplate.execute("ALTER TABLE message_read_status DROP PARTITION " + partition.name());
+                log.info("message_read_status 파티션 삭제 [{}]", partition.name());
+            }
+        }
+    }
+
+    // 파티션 테이블은 FK 를 가질 수도, FK 로 참조될 수도 없음
+    private void dropForeignKeys() {
+
+        List<Map<String, Object>> foreignKeys = jdbcTemplate.queryForList(
+                "SELECT TABLE_NAME, CONSTRAINT_NAME FROM information_schema.REFERENTIAL_CONSTRAINTS "
+                        + "WHERE CONSTRAINT_SCHEMA = DATABASE() "
+                        + "AND (TABLE_NAME IN (?, ?) OR REFERENCED_TABLE_NAME IN (?, ?))",
+                CHAT_MESSAGE, READ_STATUS, CHAT_MESSAGE, READ_STATUS);
+
+        for (Map<String, Object> foreignKey : foreignKeys) {
+            jdbcTemplate.execute("ALTER TABLE " + foreignKey.get("TABLE_NAME")
+                    + " DROP FOREIGN KEY " + foreignKey.get("CONSTRAINT_NAME"));
+        }
+    }
+
+    private List<Partition> partitions(String table) {
+        return jdbcTemplate.query(
+                "SELECT PARTITION_NAME, PARTITION_DESCRIPTION FROM information_schema.PARTITIONS "
+                        + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL "
+                        + "ORDER BY PARTITION_ORDINAL_POSITION",
+                (rs, rowNum) -> new Partition(rs.getString(1), rs.getString(2)),
+                table);
+    }
+
+    // [from, to] 각 월: VALUES LESS THAN (다음 달 1일)
+    static String monthPartitions(YearMonth from, YearMonth to) {
+
+        List<String> partitions = new ArrayList<>();
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            partitions.add("PARTITION p" + month.format(MONTH)
+                    + " VALUES LESS THAN ('" + month.plusMonths(1).atDay(1) + " 00:00:00')");
+        }
+
+        return String.join(", ", partitions);
+    }
+
+    // [from, to] 각 월: VALUES LESS THAN (다음 달 1일 0시의 최소 Snowflake ID), 상한이 above 이하인 월은 건너뜀
+    static String messageIdPartitions(YearMonth from, YearMonth to, long above) {
+
+        List<String> partitions = new ArrayList<>();
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            long bound = monthUpperId(month);
+            if (bound > above) {
+                partitions.add("PARTITION p" + month.format(MONTH) + " VALUES LESS THAN (" + bound + ")");
+            }
+        }
+
+        return String.join(", ", partitions);
+    }
+
+    static long monthUpperId(YearMonth month) {
+        return SnowflakeIdGenerator.lowestIdAt(month.plusMonths(1).atDay(1).atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+
+    private static String futurePartition() {
+        return "PARTITION " + FUTURE + " VALUES LESS THAN (MAXVALUE)";
+    }
+}
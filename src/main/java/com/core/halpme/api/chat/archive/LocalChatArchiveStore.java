@@ -0,0 +1,50 @@
+package com.core.halpme.api.chat.archive;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * 로컬 디렉터리 보관 저장소 (임시 파일에 쓴 뒤 이동해 읽는 쪽이 쓰다 만 파일을 보지 않도록 함)
+ */
+@Component
+@ConditionalOnProperty(name = "chat.archive.store", havingValue = "local", matchIfMissing = true)
+@PropertySource("classpath:chat.properties")
+public class LocalChatArchiveStore implements ChatArchiveStore {
+
+    private final Path root;
+
+    public LocalChatArchiveStore(@Value("${chat.archive.local-path:./data/chat-archive}") String root) {
+        this.root = Path.of(root);
+    }
+
+    @Override
+    public void put(String key, byte[] content) {
+        try {
+            Path target = root.resolve(key);
+            Files.createDirectories(target.getParent());
+
+            Path temp = Files.createTempFile(target.getParent(), ".archive", ".tmp");
+            Files.write(temp, content);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public byte[] get(String key) {
+        try {
+            return Files.readAllBytes(root.resolve(key));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.core.halpme.api.chat.archive;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+/**
+ * S3 보관 저장소 (cloud.aws.s3.bucket, 이미 gzip 압축된 객체를 그대로 저장)
+ */
+@Component
+@ConditionalOnProperty(name = "chat.archive.store", havingValue = "s3")
+public class S3ChatArchiveStore implements ChatArchiveStore {
+
+    private final S3Client s3Client;
+    private final String bucketName;
+
+    public S3ChatArchiveStore(S3Client s3Client, @Value("${cloud.aws.s3.bucket}") String bucketName) {
+        this.s3Client = s3Client;
+        this.bucketName = bucketName;
+    }
+
+    @Override
+    public void put(String key, byte[] content) {
+        s3Client.putObject(PutObjectRequest.builder()
+                        .bucket(bucketName)
+                        .key(key)
+                        .contentType("application/x-ndjson")
+                        .contentEncoding("gzip")
+                        .build(),
+                RequestBody.fromBytes(content));
+    }
+
+    @Override
+    public byte[] get(String key) {
+        return s3Client.getObjectAsBytes(GetObjectRequest.builder()
+                        .bucket(bucketName)
+                        .key(key)
+                        .build())
+                .asByteArray();
+    }
+}
@@ -0,0 +1,58 @@
+package com.core.halpme.api.chat.auth;
+
+import com.core.halpme.common.exception.TooManyRequestsException;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.StompSubProtocolErrorHandler;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 클라이언트 메시지 처리 중 예외를 STOMP ERROR 프레임으로 변환
+ * 발행 속도 제한 초과는 message:rate-limited, retry-after-ms 헤더로 구분할 수 있게 응답 (그 외 예외는 기본 처리)
+ */
+@Component
+public class StompErrorHandler extends StompSubProtocolErrorHandler {
+
+    public static final String RATE_LIMITED = "rate-limited";
+    public static final String RETRY_AFTER_HEADER = "retry-after-ms";
+
+    @Override
+    public Message<byte[]> handleClientMessageProcessingError(Message<byte[]> clientMessage, Throwable ex) {
+
+        TooManyRequestsException rateLimited = findRateLimited(ex);
+        if (rateLimited == null) {
+            return super.handleClientMessageProcessingError(clientMessage, ex);
+        }
+
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.ERROR);
+        accessor.setMessage(RATE_LIMITED);
+        accessor.setNativeHeader(RETRY_AFTER_HEADER, String.valueOf(rateLimited.getRetryAfterMillis()));
+        accessor.setLeaveMutable(true);
+
+        if (clientMessage != null) {
+            StompHeaderAccessor clientAccessor = StompHeaderAccessor.wrap(clientMessage);
+            if (clientAccessor.getReceipt() != null) {
+                accessor.setReceiptId(clientAccessor.getReceipt());
+            }
+        }
+
+        byte[] body = rateLimited.getMessage().getBytes(StandardCharsets.UTF_8);
+        return MessageBuilder.createMessage(body, accessor.getMessageHeaders());
+    }
+
+    // 채널 전송 중 예외는 MessageDeliveryException 으로 감싸져 전달됨
+    private TooManyRequestsException findRateLimited(Throwable ex) {
+
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TooManyRequestsException tooManyRequests) {
+                return tooManyRequests;
+            }
+        }
+
+        return null;
+    }
+}
@@ -1,5 +1,7 @@
 package com.core.halpme.api.chat.auth;
 
+import com.core.halpme.api.chat.messaging.PayloadFormat;
+import com.core.halpme.api.chat.messaging.PayloadFormatRegistry;
 import com.core.halpme.api.members.jwt.JwtTokenProvider;
 import com.core.halpme.common.exception.BaseException;
 import com.core.halpme.common.response.ErrorStatus;
@@ -25,7 +27,11 @@ import java.util.Map;
 @Slf4j
 public class StompHandler implements ChannelInterceptor { //ChannelInterceptor를 이용해 STOMP 메시지를 가로쳄
 
+    // 네이티브 WebSocket 엔드포인트 핸드셰이크 시 세션 속성에 표시
+    public static final String NATIVE_WEBSOCKET_ATTRIBUTE = "nativeWebSocket";
+
     private final JwtTokenProvider jwtTokenProvider;
+    private final PayloadFormatRegistry payloadFormatRegistry;
 
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
@@ -58,11 +64,23 @@ public class StompHandler implements ChannelInterceptor { //ChannelInterceptor
                 accessor.setSessionAttributes(sessionAttributes);
             }
             sessionAttributes.put("user", principal);
+
+            negotiatePayloadFormat(accessor, sessionAttributes);
         }
 
         return message;
     }
 
+    // CONNECT 의 payload-format 헤더로 페이로드 인코딩 협상 (바이너리 프레임을 쓸 수 없는 SockJS 는 항상 JSON)
+    private void negotiatePayloadFormat(StompHeaderAccessor accessor, Map<String, Object> sessionAttributes) {
 
+        PayloadFormat requested = PayloadFormat.fromHeader(accessor.getFirstNativeHeader(PayloadFormat.CONNECT_HEADER));
 
+        if (requested != PayloadFormat.JSON && !Boolean.TRUE.equals(sessionAttributes.get(NATIVE_WEBSOCKET_ATTRIBUTE))) {
+            log.info("SockJS 세션은 {} 인코딩을 지원하지 않아 JSON 으로 연결합니다. 세션 ID: {}", requested, accessor.getSessionId());
+            return;
+        }
+
+        payloadFormatRegistry.register(accessor.getSessionId(), requested);
+    }
 }
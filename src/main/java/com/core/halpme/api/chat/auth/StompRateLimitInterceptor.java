@@ -0,0 +1,119 @@
+package com.core.halpme.api.chat.auth;
+
+import com.core.halpme.common.exception.TooManyRequestsException;
+import com.core.halpme.common.ratelimit.LocalTokenBuckets;
+import com.core.halpme.common.ratelimit.RedisTokenBuckets;
+import com.core.halpme.common.response.ErrorStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.security.Principal;
+import java.util.Map;
+
+/**
+ * 인바운드 SEND 프레임 발행 속도 제한 (세션별 + 회원별 토큰 버킷)
+ * 회원 버킷은 redis.enabled 면 모든 서버 인스턴스가 Redis 버킷을 공유하고, Redis 장애 시 인메모리 버킷 사용
+ * 한도를 넘으면 TooManyRequestsException -> StompErrorHandler 가 rate-limited ERROR 프레임으로 응답
+ */
+@Slf4j
+@Component
+public class StompRateLimitInterceptor implements ChannelInterceptor {
+
+    private final RedisTokenBuckets redisTokenBuckets;
+    private final MeterRegistry meterRegistry;
+
+    private final boolean enabled;
+    private final boolean redisEnabled;
+    private final LocalTokenBuckets sessionBuckets;
+    private final LocalTokenBuckets memberBuckets;
+
+    public StompRateLimitInterceptor(RedisTokenBuckets redisTokenBuckets, MeterRegistry meterRegistry,
+                                     @Value("${stomp.rate-limit.enabled:true}") boolean enabled,
+                                     @Value("${stomp.rate-limit.redis.enabled:false}") boolean redisEnabled,
+                                     @Value("${stomp.rate-limit.session.capacity:10}") long sessionCapacity,
+                                     @Value("${stomp.rate-limit.session.refill-per-second:5}") double sessionRefill,
+                                     @Value("${stomp.rate-limit.member.capacity:20}") long memberCapacity,
+                                     @Value("${stomp.rate-limit.member.refill-per-second:8}") double memberRefill,
+                                     @Value("${stomp.rate-limit.max-buckets:100000}") int maxBuckets) {
+        this.redisTokenBuckets = redisTokenBuckets;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.redisEnabled = redisEnabled;
+        this.sessionBuckets = new LocalTokenBuckets(sessionCapacity, sessionRefill, maxBuckets);
+        this.memberBuckets = new LocalTokenBuckets(memberCapacity, memberRefill, maxBuckets);
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+
+        if (!enabled || !StompCommand.SEND.equals(accessor.getCommand()) || accessor.getSessionId() == null) {
+            return message;
+        }
+
+        long retryAfter = sessionBuckets.tryAcquire(accessor.getSessionId());
+        if (retryAfter > 0) {
+            reject("session", accessor, retryAfter);
+        }
+
+        String member = memberOf(accessor);
+        if (member != null) {
+            retryAfter = acquireMember(member);
+            if (retryAfter > 0) {
+                reject("member", accessor, retryAfter);
+            }
+        }
+
+        return message;
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        sessionBuckets.remove(event.getSessionId());
+    }
+
+    private long acquireMember(String member) {
+
+        if (redisEnabled) {
+            Long retryAfter = redisTokenBuckets.tryAcquire("stomp:" + member,
+                    memberBuckets.capacity(), memberBuckets.refillPerSecond());
+            if (retryAfter != null) {
+                return retryAfter;
+            }
+        }
+
+        return memberBuckets.tryAcquire(member);
+    }
+
+    private void reject(String scope, StompHeaderAccessor accessor, long retryAfter) {
+
+        meterRegistry.counter("stomp.rate.limited", "scope", scope).increment();
+        log.warn("STOMP 발행 속도 제한 초과 [{}] 세션 ID: {}, 목적지: {}", scope, accessor.getSessionId(), accessor.getDestination());
+
+        throw new TooManyRequestsException(ErrorStatus.TOO_MANY_REQUESTS.getMessage(), retryAfter);
+    }
+
+    private String memberOf(StompHeaderAccessor accessor) {
+
+        Principal principal = accessor.getUser();
+
+        if (principal == null) {
+            Map<String, Object> sessionAttributes = accessor.getSessionAttributes();
+            if (sessionAttributes != null && sessionAttributes.get("user") instanceof Principal p) {
+                principal = p;
+            }
+        }
+
+        return principal != null ? principal.getName() : null;
+    }
+}
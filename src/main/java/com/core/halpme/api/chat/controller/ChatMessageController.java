@@ -2,24 +2,21 @@ package com.core.halpme.api.chat.controller;
 
 
 import com.core.halpme.api.chat.dto.ChatMessageDto;
-import com.core.halpme.api.chat.dto.ReadStatusMessage;
 import com.core.halpme.api.chat.entity.ChatMessage;
-import com.core.halpme.api.chat.entity.MessageReadStatus;
+import com.core.halpme.api.chat.messaging.ChatBroadcaster;
 import com.core.halpme.api.chat.repository.ChatMessageRepository;
-import com.core.halpme.api.chat.repository.MessageReadStatusRepository;
 import com.core.halpme.api.chat.service.ChatMessageService;
 import com.core.halpme.api.chat.service.ChatRoomService;
+import com.core.halpme.api.chat.service.ReadReceiptAggregator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.stereotype.Controller;
 
 import java.security.Principal;
-import java.util.List;
 import java.util.Map;
 
 
@@ -29,9 +26,9 @@ import java.util.Map;
 public class ChatMessageController {
 
     private final ChatMessageService chatMessageService;
-    private final SimpMessagingTemplate messagingTemplate;
-    private final MessageReadStatusRepository messageReadStatusRepository;
+    private final ChatBroadcaster chatBroadcaster;
     private final ChatMessageRepository chatMessageRepository;
+    private final ReadReceiptAggregator readReceiptAggregator;
     private final ChatRoomService chatRoomService;
 
     @MessageMapping("/message")
@@ -62,10 +59,8 @@ public class ChatMessageController {
         String roomId = message.getRoomId();
 
 
-        messagingTemplate.convertAndSend( //이 채팅방을 구독중인 사용자에게 메시지 전송
-                "/sub/channel/" + roomId,
-                ChatMessageDto.fromEntity(saved, false)
-        );
+        //이 채팅방을 구독중인 사용자에게 메시지 전송
+        chatBroadcaster.broadcastMessage(roomId, ChatMessageDto.fromEntity(saved, false));
     }
 
 
@@ -93,33 +88,12 @@ public class ChatMessageController {
 
         String readerEmail = principal.getName();
 
-        // messageId로 메시지 조회해서 roomId 추출
-        ChatMessage message = chatMessageRepository.findById(messageId)
+        // messageId로 roomId 조회
+        String roomId = chatMessageRepository.findRoomIdById(messageId)
                 .orElseThrow(() -> new RuntimeException("메시지를 찾을 수 없습니다."));
-        String roomId = message.getRoomId();
-
-        // roomId 포함해서 안 읽은 메시지 가져오기
-        List<MessageReadStatus> unreadStatuses =
-                messageReadStatusRepository.findAllUnreadByReaderEmailAndRoomIdBeforeMessageId(readerEmail, roomId, messageId);
-
-        if (unreadStatuses.isEmpty()) {
-            log.info("읽을 메시지가 없습니다.");
-            return;
-        }
-
-        for (MessageReadStatus status : unreadStatuses) {
-            status.setRead(true);
-        }
-        messageReadStatusRepository.saveAll(unreadStatuses);
-
-        messagingTemplate.convertAndSend( //읽음 상태 전송
-                "/sub/channel/" + roomId + "/read-status",
-                new ReadStatusMessage(readerEmail, unreadStatuses.stream()
-                        .map(status -> status.getMessage().getId())
-                        .toList())
-        );
 
-        log.info("총 {}개의 메시지를 읽음 처리했습니다.", unreadStatuses.size());
+        // 짧은 시간 내 연속된 읽음 요청은 병합하여 한 번에 읽음 처리 및 전송
+        readReceiptAggregator.submit(roomId, readerEmail, messageId);
     }
 
     @MessageMapping("/read-room") //채팅방 입장 시점에 호출하여 모든 메시지 읽음 처리
@@ -144,30 +118,8 @@ public class ChatMessageController {
 
         String readerEmail = principal.getName();
 
-        // 해당 채팅룸에 속한 메시지 중 자신이 안읽은 메시지를 추출
-        List<MessageReadStatus> unreadList =
-                messageReadStatusRepository.findAllUnreadByReaderEmailAndRoomId(readerEmail, roomId);
-
-        if (unreadList.isEmpty()) {
-            log.info("읽을 메시지가 없습니다. (/read-room)");
-            return;
-        }
-
-        //안읽은 메시지 모두 읽음 처리
-        for (MessageReadStatus status : unreadList) {
-            status.setRead(true);
-        }
-
-        messageReadStatusRepository.saveAll(unreadList);
-
-        messagingTemplate.convertAndSend(
-                "/sub/channel/" + roomId + "/read-status",
-                new ReadStatusMessage(readerEmail, unreadList.stream()
-                        .map(status -> status.getMessage().getId())
-                        .toList())
-        );
-
-        log.info("총 {}개의 메시지를 읽음 처리했습니다. (/read-room)", unreadList.size());
+        // 해당 채팅룸에 속한 메시지 중 자신이 안읽은 메시지 모두 읽음 처리
+        readReceiptAggregator.submit(roomId, readerEmail, ReadReceiptAggregator.ALL_MESSAGES);
     }
 
 
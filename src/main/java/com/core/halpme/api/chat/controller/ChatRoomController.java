@@ -1,5 +1,6 @@
 package com.core.halpme.api.chat.controller;
 
+import com.core.halpme.api.chat.archive.ChatArchiveReader;
 import com.core.halpme.api.chat.dto.*;
 import com.core.halpme.api.chat.entity.ChatMessage;
 import com.core.halpme.api.chat.entity.MessageReadStatus;
@@ -18,8 +19,8 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Tag(name = "Chatting", description = "Chatting 관련 API 입니다.")
 @RestController
@@ -31,6 +32,7 @@ public class ChatRoomController {
     private final ChatRoomService chatRoomService;
     private final ChatMessageService chatMessageService;
     private final MessageReadStatusRepository messageReadStatusRepository;
+    private final ChatArchiveReader chatArchiveReader;
 
     @PostMapping("/personal")
     @Operation(summary = "두 유저 사이의 채팅방 생성", description = "해당 게시글의 PostId 필요합니다.")
@@ -53,7 +55,10 @@ public class ChatRoomController {
         //채팅방 멤버 중 상대방 이메일 찾기
         String opponentEmail = chatRoomService.getChatOpponentInfo(roomId, myEmail).getOpponentEmail();
 
-        List<ChatMessageDto> response = messages.stream()
+        // 보관 저장소로 옮긴 오래된 메시지를 앞에 합침
+        List<ChatMessageDto> response = new ArrayList<>(chatArchiveReader.read(roomId, myEmail, opponentEmail));
+
+        messages.stream()
                 .map(msg -> {
                     // 내가 보낸 메시지면 -> 상대방이 읽었는지 확인
                     boolean isReadByOpponent = msg.getSender().equals(myEmail)
@@ -65,7 +70,7 @@ public class ChatRoomController {
 
                     return ChatMessageDto.fromEntity(msg, isReadByOpponent);
                 })
-                .collect(Collectors.toList());
+                .forEach(response::add);
 
         return ApiResponse.success(SuccessStatus.CHAT_MESSAGES_GET_SUCCESS, response);
     }
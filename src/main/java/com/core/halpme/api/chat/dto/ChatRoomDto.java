@@ -1,9 +1,6 @@
 package com.core.halpme.api.chat.dto;
 
-import com.core.halpme.api.chat.entity.ChatMessage;
-import com.core.halpme.api.chat.entity.ChatRoom;
-import com.core.halpme.api.chat.repository.MessageReadStatusRepository;
-import com.core.halpme.api.members.entity.Member;
+import com.core.halpme.api.chat.entity.ChatInbox;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -21,43 +18,36 @@ public class ChatRoomDto {
     private String type;
     private String opponentNickname;
 
-    public static ChatRoomDto fromEntity(ChatRoom room, String currentUserEmail, MessageReadStatusRepository readRepo) {
-        // 1. 참여자 이메일 목록
-        List<String> memberEmails = room.getChatRoomMembers().stream()
-                .map(Member::getEmail)
-                .toList();
+    // 채팅 목록 읽기 모델 행 -> 채팅방 목록 항목 (마지막 메시지는 미리보기만 포함, 이미지 URL 제외)
+    public static ChatRoomDto fromInbox(ChatInbox inbox) {
 
-
-        ChatMessage last = room.getLastChatMesg();
+        List<String> participants = inbox.getOpponentEmail() != null
+                ? List.of(inbox.getOwnerEmail(), inbox.getOpponentEmail())
+                : List.of(inbox.getOwnerEmail());
 
         ChatMessageDto lastMessageDto = null;
-        if (last != null) {
-            boolean isRead = readRepo.findByMessageIdAndReaderEmail(last.getId(), currentUserEmail)
-                    .map(r -> r.isRead())
-                    .orElse(false);
-            lastMessageDto = ChatMessageDto.fromEntity(last, isRead);
+        if (inbox.getLastMessageId() != null) {
+            lastMessageDto = ChatMessageDto.builder()
+                    .id(inbox.getLastMessageId())
+                    .roomId(inbox.getRoomId())
+                    .sender(inbox.getLastMessageSender())
+                    .message(inbox.getLastMessagePreview())
+                    .imageUrls(List.of())
+                    .messageType(inbox.getLastMessageType())
+                    .createdAt(inbox.getLastActivityAt())
+                    // 안 읽은 메시지가 없으면 마지막 메시지도 읽은 상태
+                    .ReadStatus(inbox.getUnreadCount() == 0)
+                    .build();
         }
 
-        long unread = readRepo.countByMessageRoomIdAndReaderEmailAndIsReadFalse(room.getId(), currentUserEmail);
-
-
-        String type = room.getRoomMaker().getEmail().equals(currentUserEmail) ? "봉사참여" : "도움요청";
-
-
-        Member opponent = room.getChatRoomMembers().stream()
-                .filter(m -> !m.getEmail().equals(currentUserEmail))
-                .findFirst()
-                .orElse(null);
-
-        String opponentNickname = (opponent != null) ? opponent.getNickname() : "알 수 없음";
-
+        String opponentNickname = inbox.getOpponentNickname() != null ? inbox.getOpponentNickname() : "알 수 없음";
 
         return ChatRoomDto.builder()
-                .roomId(room.getId())
-                .participants(memberEmails)
+                .roomId(inbox.getRoomId())
+                .participants(participants)
                 .lastMessage(lastMessageDto)
-                .unreadCount(unread)
-                .type(type)
+                .unreadCount(inbox.getUnreadCount())
+                .type(inbox.getRoomType())
                 .opponentNickname(opponentNickname)
                 .build();
     }
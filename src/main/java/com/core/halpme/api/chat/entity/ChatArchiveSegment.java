@@ -0,0 +1,56 @@
+package com.core.halpme.api.chat.entity;
+
+import com.core.halpme.common.id.BinaryUuidType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Type;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관 저장소로 옮긴 채팅방 x 월 메시지 묶음 (압축 NDJSON 객체 1개)
+ * 채팅 기록 조회 시 이 목록으로 보관된 메시지를 찾아 DB 메시지 앞에 합침
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "chat_archive_segment",
+        uniqueConstraints = @UniqueConstraint(name = "uk_chat_archive_segment_room_month", columnNames = {"room_id", "archive_month"}))
+public class ChatArchiveSegment {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Type(BinaryUuidType.class)
+    @Column(name = "room_id", nullable = false, length = 16)
+    private String roomId;
+
+    // yyyyMM
+    @Column(name = "archive_month", nullable = false)
+    private int archiveMonth;
+
+    @Column(name = "object_key", nullable = false)
+    private String objectKey;
+
+    @Column(name = "message_count", nullable = false)
+    private int messageCount;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    public static ChatArchiveSegment of(String roomId, int archiveMonth, String objectKey, int messageCount) {
+
+        ChatArchiveSegment segment = new ChatArchiveSegment();
+        segment.roomId = roomId;
+        segment.archiveMonth = archiveMonth;
+        segment.objectKey = objectKey;
+        segment.messageCount = messageCount;
+        segment.archivedAt = LocalDateTime.now();
+
+        return segment;
+    }
+}
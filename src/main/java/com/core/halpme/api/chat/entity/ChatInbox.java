@@ -0,0 +1,119 @@
+package com.core.halpme.api.chat.entity;
+
+import com.core.halpme.api.members.entity.Member;
+import com.core.halpme.common.id.BinaryUuidType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Type;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 회원별 채팅방 목록 읽기 모델 (채팅방 x 참여자 1행)
+ * 상대 닉네임, 마지막 메시지 미리보기, 안 읽은 메시지 수를 비정규화해 두고
+ * 메시지 전송(아웃박스), 읽음 처리, 닉네임 변경 시 증분 갱신 -> 목록 조회는 (owner_email, last_activity_at) 인덱스 범위 읽기 1회
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "chat_inbox",
+        uniqueConstraints = @UniqueConstraint(name = "uk_chat_inbox_owner_room", columnNames = {"owner_email", "room_id"}),
+        indexes = {
+                @Index(name = "idx_chat_inbox_owner_activity", columnList = "owner_email, last_activity_at"),
+                @Index(name = "idx_chat_inbox_room", columnList = "room_id"),
+                @Index(name = "idx_chat_inbox_opponent", columnList = "opponent_member_id")
+        })
+public class ChatInbox {
+
+    public static final String TYPE_VOLUNTEER = "봉사참여";
+    public static final String TYPE_REQUESTER = "도움요청";
+    public static final int PREVIEW_LENGTH = 100;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    // 목록 주인
+    @Column(name = "owner_email", nullable = false, length = 50)
+    private String ownerEmail;
+
+    @Type(BinaryUuidType.class)
+    @Column(name = "room_id", nullable = false, length = 16)
+    private String roomId;
+
+    @Column(name = "opponent_member_id")
+    private Long opponentMemberId;
+
+    @Column(name = "opponent_email", length = 50)
+    private String opponentEmail;
+
+    @Column(name = "opponent_nickname", length = 20)
+    private String opponentNickname;
+
+    // 목록 주인 기준 신분 (방 생성자: 봉사참여, 상대: 도움요청)
+    @Column(name = "room_type", nullable = false, length = 10)
+    private String roomType;
+
+    @Column(name = "last_message_id")
+    private Long lastMessageId;
+
+    @Column(name = "last_message_sender", length = 50)
+    private String lastMessageSender;
+
+    @Column(name = "last_message_preview", length = PREVIEW_LENGTH)
+    private String lastMessagePreview;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "last_message_type", length = 10)
+    private MessageType lastMessageType;
+
+    // 마지막 메시지 시각 (메시지가 없으면 방 생성 시각)
+    @Column(name = "last_activity_at", nullable = false)
+    private LocalDateTime lastActivityAt;
+
+    // 목록 주인이 읽음 처리한 가장 큰 메시지 ID
+    @Column(name = "last_read_message_id")
+    private Long lastReadMessageId;
+
+    @Column(name = "unread_count", nullable = false)
+    private int unreadCount;
+
+    public static ChatInbox of(ChatRoom room, Member owner, Member opponent) {
+
+        ChatInbox inbox = new ChatInbox();
+        inbox.ownerEmail = owner.getEmail();
+        inbox.roomId = room.getId();
+        inbox.opponentMemberId = opponent.getId();
+        inbox.opponentEmail = opponent.getEmail();
+        inbox.opponentNickname = opponent.getNickname();
+        inbox.roomType = room.getRoomMaker().getEmail().equals(owner.getEmail()) ? TYPE_VOLUNTEER : TYPE_REQUESTER;
+        inbox.lastActivityAt = LocalDateTime.now();
+
+        return inbox;
+    }
+
+    // 읽음 처리된 메시지 중 이미 unreadCount 에 반영된 것(lastMessageId 이하)만 차감
+    // 아직 반영되지 않은 메시지는 lastReadMessageId 로 이후 증가를 막음
+    public void markRead(List<Long> messageIds) {
+
+        long counted = messageIds.stream()
+                .filter(messageId -> lastMessageId != null && messageId <= lastMessageId)
+                .count();
+
+        this.unreadCount = (int) Math.max(0, unreadCount - counted);
+
+        messageIds.stream().max(Long::compare).ifPresent(maxId ->
+                this.lastReadMessageId = lastReadMessageId == null ? maxId : Math.max(lastReadMessageId, maxId));
+    }
+
+    public static String preview(String message) {
+        if (message == null || message.length() <= PREVIEW_LENGTH) {
+            return message;
+        }
+        return message.substring(0, PREVIEW_LENGTH);
+    }
+}
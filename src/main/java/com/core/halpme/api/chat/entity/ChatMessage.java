@@ -1,8 +1,11 @@
 package com.core.halpme.api.chat.entity;
 
 import com.core.halpme.common.entity.BaseTimeEntity;
+import com.core.halpme.common.id.BinaryUuidType;
+import com.core.halpme.common.id.SnowflakeId;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Type;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.util.ArrayList;
@@ -10,7 +13,9 @@ import java.util.List;
 
 @Data
 @Entity
-@Table(name = "chat_message")
+// 월 단위 RANGE 파티션 테이블 (ChatPartitionManager) -> 다른 테이블이 FK 로 참조하지 않음
+@Table(name = "chat_message",
+        indexes = @Index(name = "idx_chat_message_room_created", columnList = "room_id, created_at"))
 @Builder
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @EntityListeners(value = {AuditingEntityListener.class})
@@ -20,11 +25,12 @@ public class ChatMessage extends BaseTimeEntity {
 
     @EqualsAndHashCode.Include
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     @Column(name = "id")
     private Long id;
 
-    @JoinColumn(name = "roomId", insertable = false, updatable = false)
+    @Type(BinaryUuidType.class)
+    @Column(name = "room_id", length = 16)
     private String roomId;
 
     @JoinColumn(name = "sender", insertable = false, updatable = false)
@@ -1,5 +1,6 @@
 package com.core.halpme.api.chat.entity;
 
+import com.core.halpme.common.id.SnowflakeId;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -7,15 +8,16 @@ import lombok.*;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
-@Table(name = "chat_message_image")
+@Table(name = "chat_message_image",
+        indexes = @Index(name = "idx_chat_message_image_message", columnList = "message_id"))
 public class ChatMessageImage {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "message_id")
+    @JoinColumn(name = "message_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private ChatMessage chatMessage;
 
     @Column(name = "image_url", nullable = false)
@@ -2,19 +2,24 @@ package com.core.halpme.api.chat.entity;
 
 import com.core.halpme.api.members.entity.Member;
 import com.core.halpme.common.entity.BaseTimeEntity;
+import com.core.halpme.common.id.BinaryUuidType;
+import com.core.halpme.common.id.TimeOrderedUuids;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.NotFound;
+import org.hibernate.annotations.NotFoundAction;
+import org.hibernate.annotations.Type;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.util.HashSet;
 import java.util.Set;
-import java.util.UUID;
 
 
 @Data
 @Entity
-@Table(name = "ChatRoom")
+@Table(name = "ChatRoom",
+        uniqueConstraints = @UniqueConstraint(name = "uk_chat_room_member_pair", columnNames = "member_pair_key"))
 @DynamicUpdate
 @Builder
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
@@ -24,13 +29,17 @@ import java.util.UUID;
 public class ChatRoom extends BaseTimeEntity {
 
     @EqualsAndHashCode.Include
+    // UUIDv7 문자열, DB 에는 BINARY(16)
     @Id
-    @Column(name = "id")
+    @Type(BinaryUuidType.class)
+    @Column(name = "id", length = 16)
     private String id;
 
     //단방향
+    // 오래된 마지막 메시지는 보관 저장소로 이동할 수 있으므로 FK 없이 참조 (없으면 null)
     @OneToOne(fetch = FetchType.EAGER, cascade = CascadeType.ALL)
-    @JoinColumn(name = "lastChatMesgId")
+    @JoinColumn(name = "lastChatMesgId", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+    @NotFound(action = NotFoundAction.IGNORE)
     private ChatMessage lastChatMesg;
 
     @ManyToMany(fetch = FetchType.EAGER, cascade = CascadeType.ALL)
@@ -47,10 +56,14 @@ public class ChatRoom extends BaseTimeEntity {
     @Column(name = "guest_post_id")
     private Long guestPostId;
 
+    // 두 참여자 회원 ID 를 정렬해 이은 키 ("작은ID:큰ID"), 1:1 채팅방 단건 조회 및 동시 중복 생성 방지
+    @Column(name = "member_pair_key", length = 41)
+    private String memberPairKey;
+
     public static ChatRoom create(Member roomMaker, Long guestPostId){
 
         ChatRoom room = new ChatRoom();
-        room.setId(UUID.randomUUID().toString());
+        room.setId(TimeOrderedUuids.newId());
         room.setRoomMaker(roomMaker);
         room.setGuestPostId(guestPostId);
 
@@ -60,5 +73,10 @@ public class ChatRoom extends BaseTimeEntity {
     public void addMembers(Member roomMaker, Member guest) {
         this.chatRoomMembers.add(roomMaker);
         this.chatRoomMembers.add(guest);
+        this.memberPairKey = memberPairKey(roomMaker.getId(), guest.getId());
+    }
+
+    public static String memberPairKey(Long memberId, Long otherMemberId) {
+        return Math.min(memberId, otherMemberId) + ":" + Math.max(memberId, otherMemberId);
     }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.core.halpme.api.chat.entity;
 
+import com.core.halpme.common.id.SnowflakeId;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -7,7 +8,9 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "message_read_status")
+// 메시지 ID 범위 RANGE 파티션 테이블 (ChatPartitionManager)
+@Table(name = "message_read_status",
+        indexes = @Index(name = "idx_message_read_status_message", columnList = "message_id"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -15,11 +18,11 @@ import lombok.NoArgsConstructor;
 public class MessageReadStatus {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "message_id")
+    @JoinColumn(name = "message_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private ChatMessage message;
 
     @Column(name = "reader_email")
@@ -0,0 +1,54 @@
+package com.core.halpme.api.chat.event;
+
+import com.core.halpme.api.chat.repository.ChatInboxRepository;
+import com.core.halpme.common.outbox.OutboxConsumer;
+import com.core.halpme.common.outbox.OutboxRecord;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 채팅 메시지 저장 이벤트로 두 참여자의 채팅 목록 행(마지막 메시지, 안 읽은 수) 갱신
+ * 메시지 ID 순으로 적용하고, 이미 반영한 메시지는 건너뛰므로 중복 전달되어도 결과 동일
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatInboxOutboxConsumer implements OutboxConsumer {
+
+    private final ChatInboxRepository chatInboxRepository;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public String stream() {
+        return ChatMessageCreatedEvent.STREAM;
+    }
+
+    @Override
+    public String group() {
+        return "chat-inbox";
+    }
+
+    @Override
+    @Transactional
+    public void consume(List<OutboxRecord> records) {
+
+        records.stream()
+                .map(this::read)
+                .sorted(Comparator.comparing(ChatMessageCreatedEvent::messageId))
+                .forEach(event -> chatInboxRepository.applyMessage(event.roomId(), event.messageId(), event.sender(),
+                        event.preview(), event.messageType() != null ? event.messageType().name() : null, event.sentAt()));
+    }
+
+    private ChatMessageCreatedEvent read(OutboxRecord record) {
+        try {
+            return objectMapper.readValue(record.payload(), ChatMessageCreatedEvent.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("채팅 메시지 이벤트 역직렬화 실패: " + record.recordId(), e);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.core.halpme.api.chat.event;
+
+import com.core.halpme.api.chat.entity.MessageType;
+import com.core.halpme.common.outbox.OutboxMessage;
+
+import java.time.LocalDateTime;
+
+/**
+ * 채팅 메시지 저장 이벤트 (채팅방 마지막 메시지, 채팅 목록 등 부가 정보 갱신용)
+ * 소비자가 메시지를 다시 조회하지 않도록 목록 미리보기에 필요한 값을 함께 전달
+ * 트랜잭션 아웃박스를 거쳐 Redis Stream 으로 전달
+ */
+public record ChatMessageCreatedEvent(String roomId, Long messageId, String sender, String preview,
+                                      MessageType messageType, LocalDateTime sentAt) implements OutboxMessage {
+
+    public static final String STREAM = "outbox:chat-message";
+
+    @Override
+    public String stream() {
+        return STREAM;
+    }
+
+    @Override
+    public String aggregateId() {
+        return roomId;
+    }
+}
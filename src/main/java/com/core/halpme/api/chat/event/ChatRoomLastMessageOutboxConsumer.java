@@ -0,0 +1,60 @@
+package com.core.halpme.api.chat.event;
+
+import com.core.halpme.api.chat.repository.ChatRoomRepository;
+import com.core.halpme.common.outbox.OutboxConsumer;
+import com.core.halpme.common.outbox.OutboxRecord;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 채팅 메시지 저장 이벤트 배치로 채팅방 마지막 메시지 갱신
+ * 배치 안에서 방마다 가장 큰 messageId 만 남겨 방당 UPDATE 1회 (더 최신일 때만 갱신하므로 중복/역순 전달에도 결과 동일)
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatRoomLastMessageOutboxConsumer implements OutboxConsumer {
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public String stream() {
+        return ChatMessageCreatedEvent.STREAM;
+    }
+
+    @Override
+    public String group() {
+        return "chat-room-last-message";
+    }
+
+    @Override
+    @Transactional
+    public void consume(List<OutboxRecord> records) {
+
+        Map<String, Long> lastMessageIds = new HashMap<>();
+
+        for (OutboxRecord record : records) {
+            ChatMessageCreatedEvent event = read(record);
+            lastMessageIds.merge(event.roomId(), event.messageId(), Math::max);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        lastMessageIds.forEach((roomId, messageId) -> chatRoomRepository.updateLastMessageIfNewer(roomId, messageId, now));
+    }
+
+    private ChatMessageCreatedEvent read(OutboxRecord record) {
+        try {
+            return objectMapper.readValue(record.payload(), ChatMessageCreatedEvent.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("채팅 메시지 이벤트 역직렬화 실패: " + record.recordId(), e);
+        }
+    }
+}
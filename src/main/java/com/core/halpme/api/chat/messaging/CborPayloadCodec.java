@@ -0,0 +1,42 @@
+package com.core.halpme.api.chat.messaging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * 채팅 페이로드 CBOR 인코딩
+ * CBORMapper 도 ObjectMapper 하위 타입이므로 Bean 으로 등록하면 Spring Boot 기본 ObjectMapper 가 생성되지 않아 컴포넌트 내부에 보관
+ */
+@Component
+public class CborPayloadCodec {
+
+    private final ObjectMapper jsonMapper;
+    private final CBORMapper cborMapper;
+
+    // 날짜 형식 등은 JSON 과 동일하게 유지
+    public CborPayloadCodec(ObjectMapper jsonMapper) {
+        this.jsonMapper = jsonMapper;
+        this.cborMapper = CBORMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+
+    public CBORMapper mapper() {
+        return cborMapper;
+    }
+
+    public ObjectWriter writerFor(Class<?> type) {
+        return cborMapper.writerFor(type);
+    }
+
+    public byte[] fromJson(byte[] json) throws IOException {
+        return cborMapper.writeValueAsBytes(jsonMapper.readTree(json));
+    }
+}
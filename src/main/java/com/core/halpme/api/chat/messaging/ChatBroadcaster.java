@@ -0,0 +1,88 @@
+package com.core.halpme.api.chat.messaging;
+
+import com.core.halpme.api.chat.dto.ChatMessageDto;
+import com.core.halpme.api.chat.dto.ReadStatusMessage;
+import com.core.halpme.common.exception.InternalServerException;
+import com.core.halpme.common.response.ErrorStatus;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * 채팅방 브로드캐스트 전송
+ * 페이로드를 타입별로 미리 만들어 둔 ObjectWriter 로 한 번만 직렬화하고,
+ * 같은 byte[] 를 브로커가 모든 구독자에게 그대로 전달 (convertAndSend 의 변환기 탐색/재직렬화 생략)
+ * CBOR 를 협상한 세션이 있으면 CBOR 페이로드도 브로드캐스트당 한 번만 직렬화
+ */
+@Slf4j
+@Component
+public class ChatBroadcaster {
+
+    private static final String ROOM_DESTINATION_PREFIX = "/sub/channel/";
+    private static final String READ_STATUS_SUFFIX = "/read-status";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final PayloadFormatRegistry payloadFormatRegistry;
+
+    private final ObjectWriter chatMessageWriter;
+    private final ObjectWriter readStatusWriter;
+    private final ObjectWriter chatMessageCborWriter;
+    private final ObjectWriter readStatusCborWriter;
+
+    // Spring Boot 의 ObjectMapper 를 사용하여 기존 convertAndSend 와 동일한 JSON 형식 유지
+    public ChatBroadcaster(SimpMessagingTemplate messagingTemplate, ObjectMapper objectMapper,
+                           CborPayloadCodec cborPayloadCodec, PayloadFormatRegistry payloadFormatRegistry) {
+        this.messagingTemplate = messagingTemplate;
+        this.payloadFormatRegistry = payloadFormatRegistry;
+        this.chatMessageWriter = objectMapper.writerFor(ChatMessageDto.class);
+        this.readStatusWriter = objectMapper.writerFor(ReadStatusMessage.class);
+        this.chatMessageCborWriter = cborPayloadCodec.writerFor(ChatMessageDto.class);
+        this.readStatusCborWriter = cborPayloadCodec.writerFor(ReadStatusMessage.class);
+    }
+
+    public void broadcastMessage(String roomId, ChatMessageDto message) {
+        send(ROOM_DESTINATION_PREFIX + roomId, message, chatMessageWriter, chatMessageCborWriter, null);
+    }
+
+    // 전송 대기 중인 read-status 와 합칠 수 있도록 원본 객체를 내부 헤더로 함께 전달 (OutboundBackpressureInterceptor)
+    public void broadcastReadStatus(String roomId, ReadStatusMessage readStatus) {
+        send(ROOM_DESTINATION_PREFIX + roomId + READ_STATUS_SUFFIX, readStatus, readStatusWriter, readStatusCborWriter,
+                OutboundBackpressureInterceptor.READ_STATUS_HEADER);
+    }
+
+    private byte[] serialize(ObjectWriter writer, Object payload) {
+        try {
+            return writer.writeValueAsBytes(payload);
+        } catch (JsonProcessingException e) {
+            log.error("브로드캐스트 페이로드 직렬화 실패: {}", payload.getClass().getSimpleName(), e);
+            throw new InternalServerException(ErrorStatus.INTERNAL_SERVER_ERROR.getMessage());
+        }
+    }
+
+    private void send(String destination, Object payload, ObjectWriter jsonWriter, ObjectWriter cborWriter, String payloadHeader) {
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+
+        if (payloadHeader != null) {
+            accessor.setHeader(payloadHeader, payload);
+        }
+
+        // CBOR 세션이 있으면 CBOR 바이트도 한 번만 만들어 헤더로 전달 (CompactPayloadInterceptor 에서 세션별로 선택)
+        if (payloadFormatRegistry.hasCompactSessions()) {
+            accessor.setHeader(CompactPayloadInterceptor.COMPACT_PAYLOAD_HEADER, serialize(cborWriter, payload));
+        }
+
+        Message<byte[]> message = MessageBuilder.createMessage(serialize(jsonWriter, payload), accessor.getMessageHeaders());
+        messagingTemplate.send(destination, message);
+    }
+}
@@ -0,0 +1,72 @@
+package com.core.halpme.api.chat.messaging;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+import java.io.IOException;
+
+/**
+ * clientOutboundChannel 에서 CBOR 를 협상한 세션으로 가는 MESSAGE 프레임의 페이로드를 CBOR 로 교체
+ * ChatBroadcaster 가 미리 만들어 둔 CBOR 바이트가 있으면 그대로 사용하고, 없으면 JSON 을 변환
+ * 바이너리 WebSocket 프레임으로 나가도록 content-type 은 application/octet-stream, 실제 형식은 payload-format 헤더로 표시
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CompactPayloadInterceptor implements ChannelInterceptor {
+
+    public static final String COMPACT_PAYLOAD_HEADER = "compactPayload";
+
+    private final PayloadFormatRegistry payloadFormatRegistry;
+    private final CborPayloadCodec cborPayloadCodec;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        return encodeForSession(message);
+    }
+
+    // 대상 세션이 CBOR 를 협상했으면 CBOR 페이로드로 바꾼 메시지, 아니면 원본 반환
+    public Message<?> encodeForSession(Message<?> message) {
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+
+        if (accessor.getMessageType() != SimpMessageType.MESSAGE
+                || payloadFormatRegistry.formatOf(accessor.getSessionId()) != PayloadFormat.CBOR
+                || !(message.getPayload() instanceof byte[] json)
+                || accessor.getContentType() == null
+                || !MimeTypeUtils.APPLICATION_JSON.isCompatibleWith(accessor.getContentType())) {
+            return message;
+        }
+
+        byte[] cbor = message.getHeaders().get(COMPACT_PAYLOAD_HEADER, byte[].class);
+        if (cbor == null) {
+            cbor = transcode(json);
+            if (cbor == null) {
+                return message;
+            }
+        }
+
+        accessor.setContentType(MimeTypeUtils.APPLICATION_OCTET_STREAM);
+        accessor.setNativeHeader(PayloadFormat.CONNECT_HEADER, "cbor");
+        accessor.removeHeader(COMPACT_PAYLOAD_HEADER);
+
+        return MessageBuilder.createMessage(cbor, accessor.getMessageHeaders());
+    }
+
+    private byte[] transcode(byte[] json) {
+        try {
+            return cborPayloadCodec.fromJson(json);
+        } catch (IOException e) {
+            log.warn("CBOR 변환 실패, JSON 으로 전송합니다.", e);
+            return null;
+        }
+    }
+}
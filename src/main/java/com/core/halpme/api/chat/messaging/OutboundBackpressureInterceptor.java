@@ -0,0 +1,247 @@
+package com.core.halpme.api.chat.messaging;
+
+import com.core.halpme.api.chat.dto.ReadStatusMessage;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+
+import java.io.IOException;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * clientOutboundChannel 세션별 적재량 제한
+ * - 세션마다 아직 전송되지 않은 MESSAGE 프레임 수를 세고, 한도를 넘으면 overflow 정책(evict: 세션 종료, drop: 새 메시지 폐기) 적용
+ * - 같은 방/같은 독자의 read-status 는 전송 대기 중인 프레임에 읽은 메시지 ID 를 합쳐 한 번만 전송
+ * 세션 종료(stomp.outbound.evicted), 폐기(stomp.outbound.dropped), 병합(stomp.outbound.coalesced) 수는 메트릭으로 노출
+ */
+@Slf4j
+@Component
+public class OutboundBackpressureInterceptor implements ExecutorChannelInterceptor {
+
+    // ChatBroadcaster 가 read-status 브로드캐스트에 원본 ReadStatusMessage 를 담아 보내는 내부 헤더
+    public static final String READ_STATUS_HEADER = "readStatus";
+
+    private static final String OVERFLOW_DROP = "drop";
+
+    private final CompactPayloadInterceptor compactPayloadInterceptor;
+    private final ObjectWriter readStatusWriter;
+
+    private final Map<String, SessionQueue> queues = new ConcurrentHashMap<>();
+    private final Map<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
+    private final AtomicLong totalPending = new AtomicLong();
+
+    private final Counter coalesced;
+    private final Counter dropped;
+    private final Counter evicted;
+
+    @Value("${websocket.outbound.max-pending-per-session:256}")
+    private int maxPendingPerSession;
+
+    @Value("${websocket.outbound.overflow:evict}")
+    private String overflow;
+
+    public OutboundBackpressureInterceptor(CompactPayloadInterceptor compactPayloadInterceptor, ObjectMapper objectMapper,
+                                           MeterRegistry meterRegistry) {
+        this.compactPayloadInterceptor = compactPayloadInterceptor;
+        this.readStatusWriter = objectMapper.writerFor(ReadStatusMessage.class);
+
+        this.coalesced = Counter.builder("stomp.outbound.coalesced")
+                .description("전송 대기 중인 프레임에 합쳐진 read-status 수")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("stomp.outbound.dropped")
+                .description("세션 적재 한도 초과로 폐기된 메시지 수")
+                .register(meterRegistry);
+        this.evicted = Counter.builder("stomp.outbound.evicted")
+                .description("세션 적재 한도 초과로 종료된 세션 수")
+                .register(meterRegistry);
+
+        meterRegistry.gauge("stomp.outbound.pending", totalPending);
+    }
+
+    // 한도 초과 세션을 닫기 위해 WebSocketSession 을 보관하는 데코레이터 (WebSocketConfig 에서 등록)
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                sessions.put(session.getId(), session);
+                super.afterConnectionEstablished(session);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                sessions.remove(session.getId());
+                SessionQueue queue = queues.remove(session.getId());
+                if (queue != null) {
+                    totalPending.addAndGet(-queue.pending.get());
+                }
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        String sessionId = accessor.getSessionId();
+
+        if (accessor.getMessageType() != SimpMessageType.MESSAGE || sessionId == null || !sessions.containsKey(sessionId)) {
+            return message;
+        }
+
+        SessionQueue queue = queues.computeIfAbsent(sessionId, id -> new SessionQueue());
+
+        ReadStatusMessage readStatus = message.getHeaders().get(READ_STATUS_HEADER, ReadStatusMessage.class);
+        if (readStatus != null && !queue.offerReadStatus(accessor.getDestination(), readStatus)) {
+            coalesced.increment();
+            return null;
+        }
+
+        if (queue.pending.get() >= maxPendingPerSession) {
+            queue.discardReadStatus(accessor.getDestination(), readStatus);
+            overflow(sessionId);
+            return null;
+        }
+
+        queue.pending.incrementAndGet();
+        totalPending.incrementAndGet();
+        return message;
+    }
+
+    // 전송 직전에 병합된 read-status 가 있으면 합친 내용으로 교체
+    @Override
+    public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+
+        ReadStatusMessage readStatus = message.getHeaders().get(READ_STATUS_HEADER, ReadStatusMessage.class);
+        if (readStatus == null) {
+            return message;
+        }
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        SessionQueue queue = accessor.getSessionId() != null ? queues.get(accessor.getSessionId()) : null;
+        if (queue == null) {
+            return message;
+        }
+
+        Set<Long> readMessageIds = queue.takeReadStatus(accessor.getDestination(), readStatus);
+        if (readMessageIds == null || readMessageIds.size() == readStatus.getReadMessageIds().size()) {
+            return message;
+        }
+
+        return rebuild(accessor, new ReadStatusMessage(readStatus.getReaderEmail(), List.copyOf(readMessageIds)), message);
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        SessionQueue queue = sessionId != null ? queues.get(sessionId) : null;
+
+        if (queue != null && SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) == SimpMessageType.MESSAGE) {
+            queue.pending.decrementAndGet();
+            totalPending.decrementAndGet();
+        }
+    }
+
+    private void overflow(String sessionId) {
+
+        if (OVERFLOW_DROP.equals(overflow)) {
+            dropped.increment();
+            return;
+        }
+
+        WebSocketSession session = sessions.remove(sessionId);
+        if (session == null) {
+            return;
+        }
+
+        evicted.increment();
+        log.warn("아웃바운드 적재 한도({}건) 초과로 세션을 종료합니다. 세션 ID: {}", maxPendingPerSession, sessionId);
+
+        try {
+            session.close(CloseStatus.SESSION_NOT_RELIABLE);
+        } catch (IOException e) {
+            log.warn("세션 종료 실패. 세션 ID: {}", sessionId, e);
+        }
+    }
+
+    // 병합된 내용을 JSON 으로 다시 직렬화하고, CBOR 세션이면 CompactPayloadInterceptor 로 다시 변환
+    private Message<?> rebuild(SimpMessageHeaderAccessor accessor, ReadStatusMessage merged, Message<?> original) {
+
+        byte[] json;
+        try {
+            json = readStatusWriter.writeValueAsBytes(merged);
+        } catch (JsonProcessingException e) {
+            log.warn("병합한 read-status 직렬화 실패, 원본을 전송합니다.", e);
+            return original;
+        }
+
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.removeNativeHeader(PayloadFormat.CONNECT_HEADER);
+        accessor.setHeader(READ_STATUS_HEADER, merged);
+
+        return compactPayloadInterceptor.encodeForSession(MessageBuilder.createMessage(json, accessor.getMessageHeaders()));
+    }
+
+    private static class SessionQueue {
+
+        private final AtomicInteger pending = new AtomicInteger();
+
+        // 전송 대기 중인 read-status (목적지 + 독자 -> 누적된 읽은 메시지 ID)
+        private final Map<String, Set<Long>> readStatuses = new ConcurrentHashMap<>();
+
+        // 대기 중인 프레임이 없으면 true (새 프레임으로 전송), 있으면 그 프레임에 합치고 false
+        private boolean offerReadStatus(String destination, ReadStatusMessage readStatus) {
+
+            boolean[] created = {false};
+            readStatuses.compute(key(destination, readStatus), (key, ids) -> {
+                if (ids == null) {
+                    created[0] = true;
+                    return new LinkedHashSet<>(readStatus.getReadMessageIds());
+                }
+                ids.addAll(readStatus.getReadMessageIds());
+                return ids;
+            });
+
+            return created[0];
+        }
+
+        private Set<Long> takeReadStatus(String destination, ReadStatusMessage readStatus) {
+            return readStatuses.remove(key(destination, readStatus));
+        }
+
+        private void discardReadStatus(String destination, ReadStatusMessage readStatus) {
+            if (readStatus != null) {
+                readStatuses.remove(key(destination, readStatus));
+            }
+        }
+
+        private static String key(String destination, ReadStatusMessage readStatus) {
+            return destination + '|' + readStatus.getReaderEmail();
+        }
+    }
+}
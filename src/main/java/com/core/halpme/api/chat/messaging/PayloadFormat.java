@@ -0,0 +1,31 @@
+package com.core.halpme.api.chat.messaging;
+
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * STOMP 페이로드 인코딩 (CONNECT 프레임의 payload-format 헤더로 협상)
+ * CBOR 는 바이너리 프레임이 필요하므로 SockJS 가 아닌 네이티브 WebSocket 엔드포인트에서만 허용
+ */
+public enum PayloadFormat {
+
+    JSON(MimeTypeUtils.APPLICATION_JSON),
+    CBOR(new MimeType("application", "cbor"));
+
+    public static final String CONNECT_HEADER = "payload-format";
+
+    private final MimeType mimeType;
+
+    PayloadFormat(MimeType mimeType) {
+        this.mimeType = mimeType;
+    }
+
+    public MimeType getMimeType() {
+        return mimeType;
+    }
+
+    // 알 수 없는 값이나 미지정은 기존 클라이언트 호환을 위해 JSON
+    public static PayloadFormat fromHeader(String value) {
+        return "cbor".equalsIgnoreCase(value) ? CBOR : JSON;
+    }
+}
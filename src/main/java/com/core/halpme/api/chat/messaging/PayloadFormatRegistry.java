@@ -0,0 +1,43 @@
+package com.core.halpme.api.chat.messaging;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * STOMP 세션별 협상된 페이로드 인코딩 보관 (JSON 세션은 저장하지 않음)
+ */
+@Slf4j
+@Component
+public class PayloadFormatRegistry {
+
+    private final Map<String, PayloadFormat> compactSessions = new ConcurrentHashMap<>();
+
+    public void register(String sessionId, PayloadFormat format) {
+        if (format == PayloadFormat.JSON) {
+            compactSessions.remove(sessionId);
+            return;
+        }
+
+        compactSessions.put(sessionId, format);
+        log.debug("STOMP 세션 {} 페이로드 인코딩: {}", sessionId, format);
+    }
+
+    public PayloadFormat formatOf(String sessionId) {
+        return sessionId == null ? PayloadFormat.JSON : compactSessions.getOrDefault(sessionId, PayloadFormat.JSON);
+    }
+
+    // 바이너리 인코딩 세션이 하나도 없으면 브로드캐스트 시 CBOR 직렬화 생략
+    public boolean hasCompactSessions() {
+        return !compactSessions.isEmpty();
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        compactSessions.remove(event.getSessionId());
+    }
+}
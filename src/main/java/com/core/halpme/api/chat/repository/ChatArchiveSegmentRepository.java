@@ -0,0 +1,13 @@
+package com.core.halpme.api.chat.repository;
+
+import com.core.halpme.api.chat.entity.ChatArchiveSegment;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface ChatArchiveSegmentRepository extends JpaRepository<ChatArchiveSegment, Long> {
+
+    List<ChatArchiveSegment> findByRoomIdOrderByArchiveMonthAsc(String roomId);
+
+    boolean existsByRoomIdAndArchiveMonth(String roomId, int archiveMonth);
+}
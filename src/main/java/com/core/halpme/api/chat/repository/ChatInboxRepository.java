@@ -0,0 +1,61 @@
+package com.core.halpme.api.chat.repository;
+
+import com.core.halpme.api.chat.entity.ChatInbox;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface ChatInboxRepository extends JpaRepository<ChatInbox, Long> {
+
+    // (owner_email, last_activity_at) 인덱스 역순 범위 읽기
+    List<ChatInbox> findByOwnerEmailOrderByLastActivityAtDesc(String ownerEmail);
+
+    // 메시지 수신 반영과 읽음 처리가 같은 행을 동시에 갱신하지 않도록 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT i FROM ChatInbox i WHERE i.ownerEmail = :ownerEmail AND i.roomId = :roomId")
+    Optional<ChatInbox> findForUpdate(@Param("ownerEmail") String ownerEmail, @Param("roomId") String roomId);
+
+    // 방의 두 참여자 행에 새 메시지 반영 (이미 반영한 메시지면 무시, 수신자가 이미 읽은 메시지는 안 읽은 수에 더하지 않음)
+    @Modifying
+    @Query(value = "UPDATE chat_inbox SET " +
+            "unread_count = unread_count + CASE WHEN owner_email <> :sender " +
+            "AND :messageId > COALESCE(last_read_message_id, 0) THEN 1 ELSE 0 END, " +
+            "last_message_id = :messageId, last_message_sender = :sender, last_message_preview = :preview, " +
+            "last_message_type = :messageType, last_activity_at = :sentAt " +
+            "WHERE room_id = UUID_TO_BIN(:roomId) " +
+            "AND (last_message_id IS NULL OR last_message_id < :messageId)", nativeQuery = true)
+    int applyMessage(@Param("roomId") String roomId, @Param("messageId") Long messageId, @Param("sender") String sender,
+                     @Param("preview") String preview, @Param("messageType") String messageType,
+                     @Param("sentAt") LocalDateTime sentAt);
+
+    @Modifying
+    @Query("UPDATE ChatInbox i SET i.opponentNickname = :nickname WHERE i.opponentMemberId = :memberId")
+    int updateOpponentNickname(@Param("memberId") Long memberId, @Param("nickname") String nickname);
+
+    // 목록 행이 없는 기존 채팅방 참여자 행 생성 (도입 전 데이터, 대량 생성 데이터)
+    @Modifying
+    @Query(value = "INSERT INTO chat_inbox (owner_email, room_id, opponent_member_id, opponent_email, opponent_nickname, " +
+            "room_type, last_message_id, last_message_sender, last_message_preview, last_message_type, last_activity_at, " +
+            "last_read_message_id, unread_count) " +
+            "SELECT owner.email, r.id, opponent.member_id, opponent.email, opponent.nickname, " +
+            "CASE WHEN r.room_maker_id = owner.member_id THEN '봉사참여' ELSE '도움요청' END, " +
+            "m.id, m.sender, LEFT(m.message, 100), m.message_type, COALESCE(m.created_at, r.created_at, NOW()), NULL, " +
+            "(SELECT COUNT(*) FROM message_read_status s JOIN chat_message cm ON cm.id = s.message_id " +
+            " WHERE cm.room_id = r.id AND s.reader_email = owner.email AND s.is_read = false) " +
+            "FROM chat_room r " +
+            "JOIN chat_room_members om ON om.chat_room_id = r.id " +
+            "JOIN members owner ON owner.member_id = om.user_id " +
+            "LEFT JOIN chat_room_members pm ON pm.chat_room_id = r.id AND pm.user_id <> om.user_id " +
+            "LEFT JOIN members opponent ON opponent.member_id = pm.user_id " +
+            "LEFT JOIN chat_message m ON m.id = r.last_chat_mesg_id " +
+            "WHERE NOT EXISTS (SELECT 1 FROM chat_inbox i WHERE i.owner_email = owner.email AND i.room_id = r.id)",
+            nativeQuery = true)
+    int backfillMissing();
+}
@@ -2,6 +2,8 @@ package com.core.halpme.api.chat.repository;
 
 import com.core.halpme.api.chat.entity.ChatMessage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -11,4 +13,7 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
     List<ChatMessage> findAllByRoomId(String roomId); // 대화방별 메시지 조회용
     List<ChatMessage> findByRoomId(String roomId);
     Optional<ChatMessage> findTopByRoomIdOrderByCreatedAtDesc(String roomId);
+
+    @Query("SELECT m.roomId FROM ChatMessage m WHERE m.id = :messageId")
+    Optional<String> findRoomIdById(@Param("messageId") Long messageId);
 }
\ No newline at end of file
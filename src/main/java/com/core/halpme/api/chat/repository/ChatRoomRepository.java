@@ -2,9 +2,11 @@ package com.core.halpme.api.chat.repository;
 
 import com.core.halpme.api.chat.entity.ChatRoom;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,11 +20,25 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom,String> {
     @Query("SELECT r FROM ChatRoom r JOIN r.chatRoomMembers m WHERE m.email = :email")
     List<ChatRoom> findAllByMemberEmail(@Param("email") String email);
 
-    @Query("SELECT r FROM ChatRoom r " +
-            "JOIN r.chatRoomMembers m1 " +
-            "JOIN r.chatRoomMembers m2 " +
-            "WHERE m1.email = :email1 AND m2.email = :email2 " +
-            "AND SIZE(r.chatRoomMembers) = 2")
-    Optional<ChatRoom> findRoomByTwoMembers(@Param("email1") String email1, @Param("email2") String email2);
+    // 정렬된 두 회원 ID 키로 1:1 채팅방 조회 (uk_chat_room_member_pair 인덱스 단건 조회)
+    Optional<ChatRoom> findByMemberPairKey(String memberPairKey);
+
+    // 더 최신 메시지일 때만 마지막 메시지 갱신
+    @Modifying
+    @Query(value = "UPDATE chat_room SET last_chat_mesg_id = :messageId, updated_at = :updatedAt " +
+            "WHERE id = UUID_TO_BIN(:roomId) " +
+            "AND (last_chat_mesg_id IS NULL OR last_chat_mesg_id < :messageId)", nativeQuery = true)
+    int updateLastMessageIfNewer(@Param("roomId") String roomId, @Param("messageId") Long messageId,
+                                 @Param("updatedAt") LocalDateTime updatedAt);
+
+    // 참여자가 두 명인 기존 채팅방에 회원 쌍 키 채우기
+    // 같은 쌍의 방이 이미 여러 개면 유니크 충돌을 IGNORE 로 건너뛰어 그중 하나만 키를 가짐
+    @Modifying
+    @Query(value = "UPDATE IGNORE chat_room r " +
+            "JOIN (SELECT chat_room_id, CONCAT(MIN(user_id), ':', MAX(user_id)) AS pair_key " +
+            "      FROM chat_room_members GROUP BY chat_room_id HAVING COUNT(*) = 2) p ON p.chat_room_id = r.id " +
+            "SET r.member_pair_key = p.pair_key " +
+            "WHERE r.member_pair_key IS NULL", nativeQuery = true)
+    int backfillMemberPairKeys();
 
 }
@@ -2,6 +2,7 @@ package com.core.halpme.api.chat.repository;
 
 import com.core.halpme.api.chat.entity.MessageReadStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -34,4 +35,26 @@ public interface MessageReadStatusRepository extends JpaRepository<MessageReadSt
     List<MessageReadStatus> findAllUnreadByReaderEmailAndRoomId(@Param("readerEmail") String readerEmail,
                                                                 @Param("roomId") String roomId);
 
+    // 읽음 워터마크(messageId) 이하의 안 읽은 메시지 ID (엔티티 로딩 없이 ID 만 조회)
+    @Query("""
+    SELECT m.message.id FROM MessageReadStatus m
+    WHERE m.readerEmail = :readerEmail
+      AND m.isRead = false
+      AND m.message.id <= :messageId
+      AND m.message.roomId = :roomId
+    ORDER BY m.message.id
+""")
+    List<Long> findUnreadMessageIdsUpTo(@Param("readerEmail") String readerEmail,
+                                        @Param("roomId") String roomId,
+                                        @Param("messageId") Long messageId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+    UPDATE MessageReadStatus m SET m.isRead = true
+    WHERE m.readerEmail = :readerEmail
+      AND m.isRead = false
+      AND m.message.id IN :messageIds
+""")
+    int markReadByMessageIds(@Param("readerEmail") String readerEmail, @Param("messageIds") List<Long> messageIds);
+
 }
@@ -9,4 +9,5 @@ import java.util.UUID;
 public interface ChatMessageService {
     ChatMessage createChatMessage(ChatMessageDto dto);
     List<ChatMessage> getMessagesByRoomId(String roomId);
+    List<Long> markReadUpTo(String roomId, String readerEmail, Long watermark);
 }
@@ -1,17 +1,22 @@
 package com.core.halpme.api.chat.service;
 
 import com.core.halpme.api.chat.dto.ChatMessageDto;
+import com.core.halpme.api.chat.entity.ChatInbox;
 import com.core.halpme.api.chat.entity.ChatMessage;
 import com.core.halpme.api.chat.entity.ChatMessageImage;
 import com.core.halpme.api.chat.entity.ChatRoom;
 import com.core.halpme.api.chat.entity.MessageReadStatus;
+import com.core.halpme.api.chat.event.ChatMessageCreatedEvent;
+import com.core.halpme.api.chat.repository.ChatInboxRepository;
 import com.core.halpme.api.chat.repository.ChatMessageImageRepository;
 import com.core.halpme.api.chat.repository.ChatMessageRepository;
 import com.core.halpme.api.chat.repository.ChatRoomRepository;
 import com.core.halpme.api.chat.repository.MessageReadStatusRepository;
 import com.core.halpme.api.members.entity.Member;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -23,8 +28,15 @@ public class ChatMessageServiceImpl implements ChatMessageService{
     private final ChatMessageRepository chatMessageRepository;
     private final MessageReadStatusRepository messageReadStatusRepository;
     private final ChatMessageImageRepository chatMessageImageRepository;
+    private final ChatInboxRepository chatInboxRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
+    // 읽음 처리 UPDATE 한 문장의 IN 목록 최대 크기 (오래 안 읽은 방도 문장 크기가 일정하도록)
+    private static final int MARK_READ_CHUNK_SIZE = 500;
+
+    // 채팅방 마지막 메시지, 채팅 목록 갱신은 아웃박스 이벤트로 요청 트랜잭션 밖에서 배치 처리
     @Override
+    @Transactional
     public ChatMessage createChatMessage(ChatMessageDto chatMessageDto) {
         ChatMessage chatMessage = chatMessageDto.toEntity();
 
@@ -40,7 +52,7 @@ public class ChatMessageServiceImpl implements ChatMessageService{
                         .imageUrl(imageUrl)
                         .imageOrder(order++)
                         .build();
-                chatMessageImageRepository.save(image);
+                saved.getImages().add(chatMessageImageRepository.save(image));
             }
         }
 
@@ -48,11 +60,7 @@ public class ChatMessageServiceImpl implements ChatMessageService{
         ChatRoom chatRoom = chatRoomRepository.findById(saved.getRoomId())
                 .orElseThrow(() -> new RuntimeException("채팅방 없음"));
 
-        // 4. 채팅방에 마지막 메시지 지정
-        chatRoom.setLastChatMesg(saved);
-        chatRoomRepository.save(chatRoom);
-
-        // 5. 읽음 상태 저장 (모든 참여자)
+        // 4. 읽음 상태 저장 (모든 참여자)
         for (Member participant : chatRoom.getChatRoomMembers()) {
             boolean isSender = participant.getEmail().equals(chatMessage.getSender());
 
@@ -65,11 +73,35 @@ public class ChatMessageServiceImpl implements ChatMessageService{
             );
         }
 
-        return chatMessageRepository.findById(saved.getId())
-                .orElseThrow(() -> new RuntimeException("메시지 재조회 실패"));
+        // 5. 마지막 메시지, 채팅 목록 갱신 이벤트 (커밋 직전 아웃박스에 기록)
+        eventPublisher.publishEvent(new ChatMessageCreatedEvent(saved.getRoomId(), saved.getId(), saved.getSender(),
+                ChatInbox.preview(saved.getMessage()), saved.getMessageType(), saved.getCreatedAt()));
+
+        // 같은 트랜잭션의 영속성 컨텍스트에 이미지까지 반영되어 있으므로 재조회하지 않음
+        return saved;
     }
 
     public List<ChatMessage> getMessagesByRoomId(String roomId) {
         return chatMessageRepository.findByRoomId(roomId);
     }
+
+    // 워터마크 이하의 안 읽은 메시지를 MARK_READ_CHUNK_SIZE 개씩 UPDATE 로 읽음 처리하고 처리된 메시지 ID 반환
+    @Override
+    @Transactional
+    public List<Long> markReadUpTo(String roomId, String readerEmail, Long watermark) {
+
+        List<Long> unreadMessageIds = messageReadStatusRepository.findUnreadMessageIdsUpTo(readerEmail, roomId, watermark);
+
+        if (!unreadMessageIds.isEmpty()) {
+            for (int from = 0; from < unreadMessageIds.size(); from += MARK_READ_CHUNK_SIZE) {
+                messageReadStatusRepository.markReadByMessageIds(readerEmail,
+                        unreadMessageIds.subList(from, Math.min(from + MARK_READ_CHUNK_SIZE, unreadMessageIds.size())));
+            }
+
+            chatInboxRepository.findForUpdate(readerEmail, roomId)
+                    .ifPresent(inbox -> inbox.markRead(unreadMessageIds));
+        }
+
+        return unreadMessageIds;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,52 @@
+package com.core.halpme.api.chat.service;
+
+import com.core.halpme.api.chat.repository.ChatInboxRepository;
+import com.core.halpme.api.chat.repository.ChatRoomRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 기동 시 기존 채팅방 데이터 보충 (도입 전 채팅방, BulkDataGenerator 로 생성한 채팅방)
+ * - 회원 쌍 키가 없는 1:1 채팅방에 키 채우기
+ * - 채팅 목록 행이 없는 채팅방 참여자 행을 INSERT ... SELECT 한 번으로 생성
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@PropertySource("classpath:chat.properties")
+public class ChatRoomBackfill {
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final ChatInboxRepository chatInboxRepository;
+
+    @Value("${chat.room.pair-key-backfill-on-startup:true}")
+    private boolean pairKeyEnabled;
+
+    @Value("${chat.inbox.backfill-on-startup:true}")
+    private boolean inboxEnabled;
+
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+
+        if (pairKeyEnabled) {
+            int updated = chatRoomRepository.backfillMemberPairKeys();
+            if (updated > 0) {
+                log.info("채팅방 회원 쌍 키 보충 완료 ({}건)", updated);
+            }
+        }
+
+        if (inboxEnabled) {
+            int inserted = chatInboxRepository.backfillMissing();
+            if (inserted > 0) {
+                log.info("채팅 목록 읽기 모델 보충 생성 완료 ({}건)", inserted);
+            }
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.core.halpme.api.chat.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 채팅방 ID 컬럼 VARCHAR(36) -> BINARY(16) 변환 (기존 UUID 문자열은 UUID_TO_BIN 으로 그대로 옮김)
+ * EntityManagerFactory(ddl-auto) 보다 먼저 실행, 이미 BINARY 인 컬럼과 없는 테이블은 건너뜀
+ * - UUID 형식이 아닌 값이 하나라도 있으면 DDL 전에 중단
+ * - 관련 FK 제거 -> 컬럼별로 col_bin 추가, 값 복사, 원래 컬럼과 교체(인덱스 재생성) -> FK 복구
+ * - col_bin 이 남은 상태로 중단돼도 다시 실행하면 이어서 진행, 빠진 FK/인덱스는 ddl-auto=update 가 다시 생성
+ * chat.room.binary-id-migration.enabled=true 일 때만 실행하는 점검 시간 전용 작업
+ * 플래그가 꺼져 있는데 문자열 컬럼이 남아 있으면 기동 실패
+ * (기존 인스턴스는 VARCHAR ID 로 바인딩하므로 롤링 배포 중에 켜면 안 됨)
+ * 절차: 모든 인스턴스 중지 -> 한 인스턴스만 플래그를 켜고 기동해 변환 -> 플래그를 끄고 나머지 인스턴스 기동
+ */
+@Slf4j
+@Component
+@PropertySource("classpath:chat.properties")
+public class ChatRoomIdMigration {
+
+    // 변환 대상 (테이블, 컬럼)
+    private static final List<String[]> COLUMNS = List.of(
+            new String[]{"chat_room", "id"},
+            new String[]{"chat_room_members", "chat_room_id"},
+            new String[]{"chat_message", "room_id"},
+            new String[]{"chat_inbox", "room_id"},
+            new String[]{"chat_archive_segment", "room_id"});
+
+    private static final String SUFFIX = "_bin";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${chat.room.binary-id-migration.enabled:false}")
+    private boolean enabled;
+
+    private record ForeignKey(String table, String name, List<String> columns, String referencedTable,
+                              List<String> referencedColumns, String updateRule, String deleteRule) {
+    }
+
+    public ChatRoomIdMigration(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void migrate() {
+
+        List<String[]> pending = COLUMNS.stream().filter(this::needsConversion).toList();
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        // 변환 전 스키마로 기동하면 BINARY(16) 바인딩이 아무 행과도 일치하지 않아 조용히 오동작하므로 기동 중단
+        if (!enabled) {
+            throw new IllegalStateException("채팅방 ID 컬럼이 아직 문자열 ("
+                    + String.join(", ", pending.stream().map(column -> column[0] + "." + column[1]).toList())
+                    + "), 점검 시간에 chat.room.binary-id-migration.enabled=true 로 한 인스턴스를 기동해 변환할 것");
+        }
+
+        for (String[] column : pending) {
+            Long invalid = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + column[0]
+                    + " WHERE " + column[1] + " IS NOT NULL AND NOT IS_UUID(" + column[1] + ")", Long.class);
+            if (invalid != null && invalid > 0) {
+                throw new IllegalStateException(column[0] + "." + column[1] + " 에 UUID 형식이 아닌 값 " + invalid
+                        + "건, 채팅방 ID BINARY(16) 변환 중단");
+            }
+        }
+
+        Set<String> tables = new LinkedHashSet<>();
+        pending.forEach(column -> tables.add(column[0]));
+
+        List<ForeignKey> foreignKeys = foreignKeys(tables);
+        for (ForeignKey foreignKey : foreignKeys) {
+            jdbcTemplate.execute("ALTER TABLE " + foreignKey.table() + " DROP FOREIGN KEY " + foreignKey.name());
+        }
+
+        for (String[] column : pending) {
+            convert(column[0], column[1]);
+        }
+
+        for (ForeignKey foreignKey : foreignKeys) {
+            jdbcTemplate.execute("ALTER TABLE " + foreignKey.table() + " ADD CONSTRAINT " + foreignKey.name()
+                    + " FOREIGN KEY (" + String.join(", ", foreignKey.columns()) + ") REFERENCES "
+                    + foreignKey.referencedTable() + " (" + String.join(", ", foreignKey.referencedColumns()) + ")"
+                    + " ON UPDATE " + foreignKey.updateRule() + " ON DELETE " + foreignKey.deleteRule());
+        }
+
+        log.info("채팅방 ID 컬럼 BINARY(16) 변환 완료 ({}개 컬럼, FK {}개 재생성)", pending.size(), foreignKeys.size());
+    }
+
+    // 원래 컬럼이 아직 문자열 (이전 실행이 교체 전에 중단되어 col_bin 만 남은 경우 포함)
+    private boolean needsConversion(String[] column) {
+        String type = columnType(column[0], column[1]);
+        return "varchar".equals(type) || "char".equals(type);
+    }
+
+    private void convert(String table, String column) {
+
+        String binary = column + SUFFIX;
+
+        if (columnType(table, binary) == null) {
+            jdbcTemplate.execute("ALTER TABLE " + table + " ADD COLUMN " + binary + " BINARY(16) NULL");
+        }
+        jdbcTemplate.update("UPDATE " + table + " SET " + binary + " = UUID_TO_BIN(" + column + ")");
+
+        String nullable = jdbcTemplate.queryForObject(
+                "SELECT IS_NULLABLE FROM information_schema.COLUMNS "
+                        + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND COLUMN_NAME = ?",
+                String.class, table, column);
+
+        Map<String, List<String>> indexes = new LinkedHashMap<>();
+        Map<String, Boolean> unique = new LinkedHashMap<>();
+        jdbcTemplate.query(
+                "SELECT INDEX_NAME, COLUMN_NAME, NON_UNIQUE, SUB_PART FROM information_schema.STATISTICS "
+                        + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND INDEX_NAME IN ("
+                        + "SELECT INDEX_NAME FROM information_schema.STATISTICS "
+                        + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND COLUMN_NAME = ?) "
+                        + "ORDER BY INDEX_NAME, SEQ_IN_INDEX",
+                rs -> {
+                    String name = rs.getString("INDEX_NAME");
+                    String indexColumn = rs.getString("COLUMN_NAME");
+                    long subPart = rs.getLong("SUB_PART");
+                    // 변환 컬럼은 접두어 길이 없이, 나머지 컬럼은 기존 접두어 길이 유지
+                    String part = !indexColumn.equals(column) && subPart > 0 ? indexColumn + "(" + subPart + ")" : indexColumn;
+                    indexes.computeIfAbsent(name, key -> new ArrayList<>()).add(part);
+                    unique.put(name, rs.getInt("NON_UNIQUE") == 0);
+                },
+                table, table, column);
+
+        List<String> clauses = new ArrayList<>();
+        indexes.keySet().forEach(name -> clauses.add("PRIMARY".equals(name) ? "DROP PRIMARY KEY" : "DROP INDEX " + name));
+        clauses.add("DROP COLUMN " + column);
+        clauses.add("CHANGE " + binary + " " + column + " BINARY(16)" + ("NO".equals(nullable) ? " NOT NULL" : " NULL"));
+        indexes.forEach((name, parts) -> {
+            String columns = "(" + String.join(", ", parts) + ")";
+            if ("PRIMARY".equals(name)) {
+                clauses.add("ADD PRIMARY KEY " + columns);
+            } else {
+                clauses.add("ADD " + (unique.get(name) ? "UNIQUE " : "") + "INDEX " + name + " " + columns);
+            }
+        });
+
+        // 인덱스 삭제, 컬럼 교체, 인덱스 재생성을 한 문장으로 (중간 상태가 남지 않도록)
+        jdbcTemplate.execute("ALTER TABLE " + table + " " + String.join(", ", clauses));
+        log.info("{}.{} BINARY(16) 변환 (인덱스 {}개 재생성)", table, column, indexes.size());
+    }
+
+    // 대상 테이블이 가진 FK, 대상 테이블을 참조하는 FK
+    private List<ForeignKey> foreignKeys(Set<String> tables) {
+
+        String in = String.join(", ", tables.stream().map(table -> "?").toList());
+        List<Object> args = new ArrayList<>(tables);
+        args.addAll(tables);
+
+        Map<String, ForeignKey> foreignKeys = new LinkedHashMap<>();
+        jdbcTemplate.query(
+                "SELECT k.TABLE_NAME, k.CONSTRAINT_NAME, k.COLUMN_NAME, k.REFERENCED_TABLE_NAME, k.REFERENCED_COLUMN_NAME, "
+                        + "r.UPDATE_RULE, r.DELETE_RULE FROM information_schema.KEY_COLUMN_USAGE k "
+                        + "JOIN information_schema.REFERENTIAL_CONSTRAINTS r "
+                        + "ON r.CONSTRAINT_SCHEMA = k.CONSTRAINT_SCHEMA AND r.CONSTRAINT_NAME = k.CONSTRAINT_NAME "
+                        + "AND r.TABLE_NAME = k.TABLE_NAME "
+                        + "WHERE k.TABLE_SCHEMA = DATABASE() AND (k.TABLE_NAME IN (" + in + ") "
+                        + "OR k.REFERENCED_TABLE_NAME IN (" + in + ")) "
+                        + "ORDER BY k.TABLE_NAME, k.CONSTRAINT_NAME, k.ORDINAL_POSITION",
+                rs -> {
+                    String table = rs.getString("TABLE_NAME");
+                    String name = rs.getString("CONSTRAINT_NAME");
+                    ForeignKey foreignKey = foreignKeys.get(table + "." + name);
+                    if (foreignKey == null) {
+                        foreignKey = new ForeignKey(table, name, new ArrayList<>(), rs.getString("REFERENCED_TABLE_NAME"),
+                                new ArrayList<>(), rs.getString("UPDATE_RULE"), rs.getString("DELETE_RULE"));
+                        foreignKeys.put(table + "." + name, foreignKey);
+                    }
+                    foreignKey.columns().add(rs.getString("COLUMN_NAME"));
+                    foreignKey.referencedColumns().add(rs.getString("REFERENCED_COLUMN_NAME"));
+                },
+                args.toArray());
+
+        return new ArrayList<>(foreignKeys.values());
+    }
+
+    private String columnType(String table, String column) {
+        List<String> types = jdbcTemplate.queryForList(
+                "SELECT DATA_TYPE FROM information_schema.COLUMNS "
+                        + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND COLUMN_NAME = ?",
+                String.class, table, column);
+        return types.isEmpty() ? null : types.get(0);
+    }
+
+    // ddl-auto 가 새 매핑(BINARY(16))으로 스키마를 검사/수정하기 전에 변환
+    @Component
+    static class DependsOn extends EntityManagerFactoryDependsOnPostProcessor {
+        DependsOn() {
+            super(ChatRoomIdMigration.class);
+        }
+    }
+}
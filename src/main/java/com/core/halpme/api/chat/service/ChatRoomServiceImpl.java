@@ -4,10 +4,11 @@ import com.core.halpme.api.chat.dto.ChatRoomDto;
 import com.core.halpme.api.chat.dto.ChatRoomIdToPostIdDto;
 import com.core.halpme.api.chat.dto.CreateChatRoomResponseDto;
 import com.core.halpme.api.chat.dto.OpponentInfoDto;
+import com.core.halpme.api.chat.entity.ChatInbox;
 import com.core.halpme.api.chat.entity.ChatRoom;
+import com.core.halpme.api.chat.repository.ChatInboxRepository;
 import com.core.halpme.api.chat.repository.ChatMessageRepository;
 import com.core.halpme.api.chat.repository.ChatRoomRepository;
-import com.core.halpme.api.chat.repository.MessageReadStatusRepository;
 import com.core.halpme.api.members.entity.Member;
 import com.core.halpme.api.members.jwt.SecurityUtil;
 import com.core.halpme.api.members.repository.MemberRepository;
@@ -19,7 +20,10 @@ import com.core.halpme.common.exception.NotFoundException;
 import com.core.halpme.common.response.ErrorStatus;
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 import java.util.Optional;
@@ -31,12 +35,22 @@ public class ChatRoomServiceImpl implements ChatRoomService {
     private final MemberRepository memberRepository;
     private final ChatRoomRepository chatRoomRepository;
     private final SecurityUtil securityUtil;
-    private final MessageReadStatusRepository messageReadStatusRepository;
     private final ChatMessageRepository chatMessageRepository;
     private final PostRepository postRepository;
+    private final ChatInboxRepository chatInboxRepository;
+    private final TransactionTemplate transactionTemplate;
 
     @Override
     public CreateChatRoomResponseDto createChatRoomForPersonal(String roomMakerEmail, Long guestPostId) {
+        try {
+            return transactionTemplate.execute(status -> findOrCreateRoom(roomMakerEmail, guestPostId));
+        } catch (DataIntegrityViolationException e) {
+            // 같은 두 회원의 방을 동시 요청이 먼저 생성 (uk_chat_room_member_pair) -> 새 트랜잭션에서 다시 조회
+            return transactionTemplate.execute(status -> findOrCreateRoom(roomMakerEmail, guestPostId));
+        }
+    }
+
+    private CreateChatRoomResponseDto findOrCreateRoom(String roomMakerEmail, Long guestPostId) {
 
         Member roomMaker = memberRepository.findByEmail(roomMakerEmail)
                 .orElseThrow(() -> new BaseException(
@@ -66,7 +80,8 @@ public class ChatRoomServiceImpl implements ChatRoomService {
                 ));
 
         // 이미 존재하는 DM방이 있는지 확인
-        Optional<ChatRoom> existingRoom = chatRoomRepository.findRoomByTwoMembers(roomMakerEmail, guestEmail);
+        Optional<ChatRoom> existingRoom = chatRoomRepository.findByMemberPairKey(
+                ChatRoom.memberPairKey(roomMaker.getId(), guest.getId()));
 
         if (existingRoom.isPresent()) {
             return new CreateChatRoomResponseDto(
@@ -80,7 +95,13 @@ public class ChatRoomServiceImpl implements ChatRoomService {
         ChatRoom newRoom = ChatRoom.create(roomMaker, guestPostId);
         newRoom.addMembers(roomMaker, guest);
 
-        chatRoomRepository.save(newRoom);
+        // 유니크 충돌을 이 자리에서 드러내도록 즉시 flush
+        chatRoomRepository.saveAndFlush(newRoom);
+
+        // 두 참여자의 채팅 목록 행 생성
+        chatInboxRepository.saveAll(List.of(
+                ChatInbox.of(newRoom, roomMaker, guest),
+                ChatInbox.of(newRoom, guest, roomMaker)));
 
         return new CreateChatRoomResponseDto(
                 roomMakerEmail,
@@ -90,11 +111,11 @@ public class ChatRoomServiceImpl implements ChatRoomService {
     }
 
 
+    // 채팅 목록 읽기 모델에서 최근 활동 순으로 조회 (채팅방/참여자/메시지 조인 없이 인덱스 범위 읽기 1회)
+    @Transactional(readOnly = true)
     public List<ChatRoomDto> getChatRoomsForUser(String userEmail) {
-        List<ChatRoom> rooms = chatRoomRepository.findAllByMemberEmail(userEmail);
-
-        return rooms.stream()
-                .map(room -> ChatRoomDto.fromEntity(room, userEmail, messageReadStatusRepository))
+        return chatInboxRepository.findByOwnerEmailOrderByLastActivityAtDesc(userEmail).stream()
+                .map(ChatRoomDto::fromInbox)
                 .toList();
     }
 
@@ -0,0 +1,135 @@
+package com.core.halpme.api.chat.service;
+
+import com.core.halpme.api.chat.dto.ReadStatusMessage;
+import com.core.halpme.api.chat.messaging.ChatBroadcaster;
+import com.core.halpme.common.datasource.DataSourceWorkload;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 채팅방/독자별 읽음 이벤트 병합
+ * 첫 /pub/read 이후 window 동안 들어온 읽음 요청은 가장 큰 messageId(워터마크)만 남기고,
+ * window 가 끝나면 워터마크까지 한 번에 읽음 처리(보통 UPDATE 1회, 안 읽은 메시지가 많으면 500개 단위로 나눠 실행) 후 read-status 를 한 번만 브로드캐스트
+ */
+@Slf4j
+@Component
+@PropertySource("classpath:chat.properties")
+public class ReadReceiptAggregator {
+
+    // 방 입장 시 전체 읽음 처리용 워터마크
+    public static final long ALL_MESSAGES = Long.MAX_VALUE;
+
+    private final ChatMessageService chatMessageService;
+    private final ChatBroadcaster chatBroadcaster;
+
+    private final Map<ReaderKey, Watermark> pending = new ConcurrentHashMap<>();
+
+    private final Counter received;
+    private final Counter flushed;
+
+    @Value("${chat.read-receipt.window-ms:300}")
+    private long windowMs;
+
+    @Value("${chat.read-receipt.flush-threads:2}")
+    private int flushThreads;
+
+    private ScheduledExecutorService scheduler;
+
+    public ReadReceiptAggregator(ChatMessageService chatMessageService, ChatBroadcaster chatBroadcaster,
+                                 MeterRegistry meterRegistry) {
+        this.chatMessageService = chatMessageService;
+        this.chatBroadcaster = chatBroadcaster;
+        this.received = Counter.builder("chat.read.receipts.received")
+                .description("수신한 읽음 요청 수")
+                .register(meterRegistry);
+        this.flushed = Counter.builder("chat.read.receipts.flushed")
+                .description("병합 후 실제 반영한 읽음 처리 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        scheduler = Executors.newScheduledThreadPool(flushThreads, runnable -> {
+            // 읽음 처리도 채팅 작업 (chat 커넥션 풀 사용)
+            Thread thread = new Thread(DataSourceWorkload.chat(runnable), "read-receipt-flush-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // 종료 시 대기 중인 읽음 처리는 바로 반영
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdownNow();
+        pending.keySet().forEach(this::flush);
+    }
+
+    public void submit(String roomId, String readerEmail, long messageId) {
+
+        received.increment();
+
+        pending.compute(new ReaderKey(roomId, readerEmail), (key, watermark) -> {
+            if (watermark == null) {
+                scheduler.schedule(() -> flush(key), windowMs, TimeUnit.MILLISECONDS);
+                return new Watermark(messageId);
+            }
+
+            watermark.raise(messageId);
+            return watermark;
+        });
+    }
+
+    private void flush(ReaderKey key) {
+
+        Watermark watermark = pending.remove(key);
+        if (watermark == null) {
+            return;
+        }
+
+        flushed.increment();
+
+        try {
+            List<Long> readMessageIds = chatMessageService.markReadUpTo(key.roomId(), key.readerEmail(), watermark.messageId);
+            if (readMessageIds.isEmpty()) {
+                return;
+            }
+
+            chatBroadcaster.broadcastReadStatus(key.roomId(), new ReadStatusMessage(key.readerEmail(), readMessageIds));
+            log.debug("{}개의 메시지를 읽음 처리했습니다. (roomId: {}, reader: {})", readMessageIds.size(), key.roomId(), key.readerEmail());
+        } catch (RuntimeException e) {
+            log.error("읽음 처리 실패 (roomId: {}, reader: {})", key.roomId(), key.readerEmail(), e);
+        }
+    }
+
+    private record ReaderKey(String roomId, String readerEmail) {
+    }
+
+    // pending.compute 안에서만 갱신
+    private static class Watermark {
+
+        private long messageId;
+
+        private Watermark(long messageId) {
+            this.messageId = messageId;
+        }
+
+        private void raise(long messageId) {
+            this.messageId = Math.max(this.messageId, messageId);
+        }
+    }
+}
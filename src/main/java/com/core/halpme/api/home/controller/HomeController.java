@@ -0,0 +1,38 @@
+package com.core.halpme.api.home.controller;
+
+import com.core.halpme.api.home.dto.HomeResponseDto;
+import com.core.halpme.api.home.service.HomeService;
+import com.core.halpme.common.response.ApiResponse;
+import com.core.halpme.common.response.SuccessStatus;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Home", description = "홈 화면 관련 API 입니다.")
+@RestController
+@RequestMapping("/api/v1/home")
+@RequiredArgsConstructor
+public class HomeController {
+
+    private final HomeService homeService;
+
+    @Operation(
+            summary = "홈 화면 정보 조회",
+            description = "내 정보, 내 봉사시간, Top 10 랭킹, 봉사 신청글 첫 페이지, 채팅방 목록을 한 번에 조회합니다. "
+                    + "시간 안에 조회하지 못한 항목은 null 로 내려가고 이름이 failedSections 에 담깁니다."
+    )
+    @GetMapping
+    public ResponseEntity<ApiResponse<HomeResponseDto>> getHome() {
+
+        String email = SecurityContextHolder.getContext().getAuthentication().getName();
+
+        HomeResponseDto home = homeService.getHome(email);
+
+        return ApiResponse.success(SuccessStatus.HOME_GET_SUCCESS, home);
+    }
+}
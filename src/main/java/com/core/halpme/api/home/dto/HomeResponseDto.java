@@ -0,0 +1,28 @@
+package com.core.halpme.api.home.dto;
+
+import com.core.halpme.api.chat.dto.ChatRoomDto;
+import com.core.halpme.api.members.dto.MemberInfoResponseDto;
+import com.core.halpme.api.post.dto.PostFeedResponseDto;
+import com.core.halpme.api.rank.dto.RankResponseDto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 홈 화면 첫 진입 정보 (내 정보, 내 봉사시간, Top 10 랭킹, 봉사 신청글 첫 페이지, 채팅방 목록)
+ * 시간 안에 조회하지 못한 항목은 null 이고 이름이 failedSections 에 담김 (클라이언트는 해당 API 를 따로 호출)
+ */
+@Getter
+@AllArgsConstructor
+@Builder
+public class HomeResponseDto {
+
+    private final MemberInfoResponseDto member;
+    private final Integer myVolunteerHours;
+    private final List<RankResponseDto> topRanks;
+    private final PostFeedResponseDto posts;
+    private final List<ChatRoomDto> chatRooms;
+    private final List<String> failedSections;
+}
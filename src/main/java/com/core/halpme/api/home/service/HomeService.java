@@ -0,0 +1,145 @@
+package com.core.halpme.api.home.service;
+
+import com.core.halpme.api.chat.dto.ChatRoomDto;
+import com.core.halpme.api.chat.service.ChatRoomService;
+import com.core.halpme.api.home.dto.HomeResponseDto;
+import com.core.halpme.api.members.dto.MemberInfoResponseDto;
+import com.core.halpme.api.members.service.MemberService;
+import com.core.halpme.api.post.dto.PostFeedResponseDto;
+import com.core.halpme.api.post.repository.PostFeedCondition;
+import com.core.halpme.api.post.service.PostService;
+import com.core.halpme.api.rank.dto.RankResponseDto;
+import com.core.halpme.api.rank.service.RankService;
+import com.core.halpme.common.metrics.HibernateStatementCounter;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.security.concurrent.DelegatingSecurityContextCallable;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 홈 화면 항목을 가상 스레드로 동시에 조회해 한 응답으로 합침 (JWT 인증 1회, 요청 5번 -> 1번)
+ * - 항목마다 요청 시작 기준 시간 예산(home.budget-ms.*) 안에 끝나지 않거나 실패하면 해당 항목만 빼고 응답
+ * - 요청 스레드의 SecurityContext 를 각 작업에 전달 (읽기 전용 트랜잭션의 read-your-writes 라우팅 유지)
+ * - 각 작업이 실행한 SQL 수는 요청 스레드 집계(QueryCountFilter)에 합산
+ */
+@Slf4j
+@Service
+@PropertySource("classpath:home.properties")
+public class HomeService {
+
+    static final String MEMBER = "member";
+    static final String MY_VOLUNTEER_HOURS = "myVolunteerHours";
+    static final String TOP_RANKS = "topRanks";
+    static final String POSTS = "posts";
+    static final String CHAT_ROOMS = "chatRooms";
+
+    private static final PostFeedCondition LATEST_POSTS = new PostFeedCondition(null, null, null, null, null);
+
+    private final MemberService memberService;
+    private final RankService rankService;
+    private final PostService postService;
+    private final ChatRoomService chatRoomService;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Value("${home.budget-ms.member:300}")
+    private long memberBudgetMs;
+
+    @Value("${home.budget-ms.rank:300}")
+    private long rankBudgetMs;
+
+    @Value("${home.budget-ms.posts:500}")
+    private long postsBudgetMs;
+
+    @Value("${home.budget-ms.chat-rooms:300}")
+    private long chatRoomsBudgetMs;
+
+    @Value("${home.posts-size:20}")
+    private int postsSize;
+
+    // 작업 결과와 작업 스레드에서 실행한 SQL 수
+    private record Counted<T>(T value, int statements) {
+    }
+
+    public HomeService(MemberService memberService, RankService rankService, PostService postService,
+                       ChatRoomService chatRoomService) {
+        this.memberService = memberService;
+        this.rankService = rankService;
+        this.postService = postService;
+        this.chatRoomService = chatRoomService;
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    public HomeResponseDto getHome(String email) {
+
+        long startedAt = System.nanoTime();
+
+        Future<Counted<MemberInfoResponseDto>> member = fork(() -> memberService.getMyInfo(email));
+        Future<Counted<Integer>> hours = fork(() -> rankService.getMyTotalVolunteerHours(email));
+        Future<Counted<List<RankResponseDto>>> topRanks = fork(() -> RankResponseDto.fromEntities(rankService.getToRanks()));
+        Future<Counted<PostFeedResponseDto>> posts = fork(() -> postService.getTotalPostList(LATEST_POSTS, 0, postsSize));
+        Future<Counted<List<ChatRoomDto>>> chatRooms = fork(() -> chatRoomService.getChatRoomsForUser(email));
+
+        List<String> failed = new ArrayList<>();
+
+        return HomeResponseDto.builder()
+                .member(join(MEMBER, member, startedAt, memberBudgetMs, failed))
+                .myVolunteerHours(join(MY_VOLUNTEER_HOURS, hours, startedAt, rankBudgetMs, failed))
+                .topRanks(join(TOP_RANKS, topRanks, startedAt, rankBudgetMs, failed))
+                .posts(join(POSTS, posts, startedAt, postsBudgetMs, failed))
+                .chatRooms(join(CHAT_ROOMS, chatRooms, startedAt, chatRoomsBudgetMs, failed))
+                .failedSections(failed)
+                .build();
+    }
+
+    private <T> Future<Counted<T>> fork(Callable<T> task) {
+
+        Callable<Counted<T>> counted = () -> {
+            HibernateStatementCounter.reset();
+            T value = task.call();
+            return new Counted<>(value, HibernateStatementCounter.current());
+        };
+
+        return executor.submit(new DelegatingSecurityContextCallable<>(counted, SecurityContextHolder.getContext()));
+    }
+
+    // 요청 시작 시각 + budgetMs 까지 대기, 시간 초과/실패면 null 반환하고 failed 에 항목 이름 추가
+    private <T> T join(String section, Future<Counted<T>> future, long startedAt, long budgetMs, List<String> failed) {
+
+        long remaining = startedAt + TimeUnit.MILLISECONDS.toNanos(budgetMs) - System.nanoTime();
+
+        try {
+            Counted<T> result = future.get(Math.max(0, remaining), TimeUnit.NANOSECONDS);
+            HibernateStatementCounter.add(result.statements());
+            return result.value();
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("홈 화면 [{}] 조회 시간 초과 ({}ms), 해당 항목 제외하고 응답", section, budgetMs);
+        } catch (ExecutionException e) {
+            log.warn("홈 화면 [{}] 조회 실패, 해당 항목 제외하고 응답", section, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+        }
+
+        failed.add(section);
+        return null;
+    }
+}
@@ -1,5 +1,6 @@
 package com.core.halpme.api.members.service;
 
+import com.core.halpme.api.chat.repository.ChatInboxRepository;
 import com.core.halpme.api.members.dto.LoginRequestDto;
 import com.core.halpme.api.members.dto.MemberInfoResponseDto;
 import com.core.halpme.api.members.dto.SignupRequestDto;
@@ -32,6 +33,7 @@ public class MemberService {
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
     private final RankRepository rankRepository;
+    private final ChatInboxRepository chatInboxRepository;
 
     @Transactional
     public void signupMember(SignupRequestDto request) {
@@ -120,6 +122,8 @@ public class MemberService {
 
         if (!member.getNickname().equals(request.getNickname())) {
             member.updateNickname(request.getNickname());
+            // 상대방들의 채팅 목록에 보이는 닉네임도 갱신
+            chatInboxRepository.updateOpponentNickname(member.getId(), request.getNickname());
         }
 
         if (!member.getPhoneNumber().equals(request.getPhoneNumber())) {
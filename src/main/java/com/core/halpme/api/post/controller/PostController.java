@@ -1,6 +1,9 @@
 package com.core.halpme.api.post.controller;
 
 import com.core.halpme.api.post.dto.*;
+import com.core.halpme.api.post.entity.PostStatus;
+import com.core.halpme.api.post.geo.GeoPoint;
+import com.core.halpme.api.post.repository.PostFeedCondition;
 import com.core.halpme.api.post.service.PostService;
 import com.core.halpme.common.exception.BadRequestException;
 import com.core.halpme.common.response.ApiResponse;
@@ -11,12 +14,15 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
 import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.List;
 
 @Tag(name = "Post", description = "봉사 신청글 관련 API 입니다.")
@@ -120,20 +126,93 @@ public class PostController {
 
     @Operation(
             summary = "전체 봉사 신청글 조회",
-            description = "전체 봉사 신청글 목록을 조회합니다."
+            description = "봉사 신청글 목록을 조회합니다. 상태, 봉사 날짜 범위, 봉사 시간대로 필터링할 수 있으며 "
+                    + "날짜 조건이 있으면 봉사 일정 순, 없으면 최신 작성 순으로 정렬됩니다. "
+                    + "한 번에 size 개(기본 50, 최대 100)까지 반환하며 hasNext 가 true 면 page + 1 로 다음 페이지를 조회합니다(page 최대 50). "
+                    + "[호환성 변경] 이전에는 data 가 전체 글 배열이었으나 이제 { posts, page, size, hasNext } 객체이며 "
+                    + "page/size 없이 호출하면 첫 50건만 반환합니다."
     )
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "전체 봉사 신청글 조회 성공"),
-            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "필수 정보가 입력되지 않았습니다.")
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "조회 조건 또는 페이지 정보가 올바르지 않습니다.")
     })
     @GetMapping
-    public ResponseEntity<ApiResponse<List<PostTotalListResponseDto>>> getTotalPosts() {
+    public ResponseEntity<ApiResponse<PostFeedResponseDto>> getTotalPosts(
+            @RequestParam(required = false) PostStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "HH:mm") LocalTime startAfter,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "HH:mm") LocalTime endBefore,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size) {
+
+        // 깊은 OFFSET 조회 방지 (검색과 같은 상한)
+        if (page < 0 || page > 50 || size < 1 || size > 100) {
+            throw new BadRequestException(ErrorStatus.BAD_REQUEST_INVALID_PAGE.getMessage());
+        }
+
+        if ((from != null && to != null && from.isAfter(to))
+                || (startAfter != null && endBefore != null && startAfter.isAfter(endBefore))) {
+            throw new BadRequestException(ErrorStatus.BAD_REQUEST_INVALID_FEED_FILTER.getMessage());
+        }
 
-        List<PostTotalListResponseDto> posts = postService.getTotalPostList();
+        PostFeedCondition condition = new PostFeedCondition(status, from, to, startAfter, endBefore);
+        PostFeedResponseDto posts = postService.getTotalPostList(condition, page, size);
 
         return ApiResponse.success(SuccessStatus.ARTICLE_GET_SUCCESS, posts);
     }
 
+    @Operation(
+            summary = "봉사 신청글 검색",
+            description = "제목, 내용, 도로명/지번 주소에서 검색어와 관련도가 높은 순으로 봉사 신청글을 조회합니다."
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "게시글 검색 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "검색어 또는 페이지 정보가 올바르지 않습니다.")
+    })
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<PostSearchResponseDto>> searchPosts(
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+
+        if (keyword.isBlank()) {
+            throw new BadRequestException(ErrorStatus.BAD_REQUEST_INVALID_SEARCH_KEYWORD.getMessage());
+        }
+
+        if (page < 0 || page > 50 || size < 1 || size > 50) {
+            throw new BadRequestException(ErrorStatus.BAD_REQUEST_INVALID_PAGE.getMessage());
+        }
+
+        PostSearchResponseDto result = postService.searchPosts(keyword.strip(), page, size);
+
+        return ApiResponse.success(SuccessStatus.POST_SEARCH_SUCCESS, result);
+    }
+
+    @Operation(
+            summary = "내 주변 봉사 신청글 조회",
+            description = "요청 좌표 기준 반경(km) 이내의 대기 중(WAITING)인 봉사 신청글을 가까운 순으로 조회합니다."
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "주변 봉사 신청글 조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "좌표 또는 반경 정보가 올바르지 않습니다.")
+    })
+    @GetMapping("/nearby")
+    public ResponseEntity<ApiResponse<List<NearbyPostResponseDto>>> getNearbyPosts(
+            @RequestParam double latitude,
+            @RequestParam double longitude,
+            @RequestParam(defaultValue = "3") double radiusKm,
+            @RequestParam(defaultValue = "50") int limit) {
+
+        if (!GeoPoint.isValid(latitude, longitude) || radiusKm <= 0 || radiusKm > 50 || limit < 1 || limit > 200) {
+            throw new BadRequestException(ErrorStatus.BAD_REQUEST_INVALID_LOCATION.getMessage());
+        }
+
+        List<NearbyPostResponseDto> posts = postService.getNearbyWaitingPosts(latitude, longitude, radiusKm, limit);
+
+        return ApiResponse.success(SuccessStatus.NEARBY_POST_GET_SUCCESS, posts);
+    }
+
 
     @Operation(
             summary = "봉사 신청글 혹은 참여글 상세 조회",
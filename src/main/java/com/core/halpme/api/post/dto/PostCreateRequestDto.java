@@ -23,6 +23,12 @@ public class PostCreateRequestDto {
 
     private Address address;
 
+    @Schema(description = "주소 위도 (미입력 시 주소로 좌표 계산)", example = "37.5172")
+    private Double latitude;
+
+    @Schema(description = "주소 경도 (미입력 시 주소로 좌표 계산)", example = "127.0473")
+    private Double longitude;
+
     @NotNull
     @JsonFormat(pattern = "yyyy-MM-dd")
     private LocalDate requestDate;
@@ -0,0 +1,31 @@
+package com.core.halpme.api.post.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PostFeedResponseDto {
+
+    private List<PostTotalListResponseDto> posts;
+    private int page;
+    private int size;
+    // 다음 페이지(page + 1)에 글이 더 있는지 (size + 1 건 조회로 판단)
+    private boolean hasNext;
+
+    public static PostFeedResponseDto of(List<PostTotalListResponseDto> posts, int page, int size, boolean hasNext) {
+
+        return PostFeedResponseDto.builder()
+                .posts(posts)
+                .page(page)
+                .size(size)
+                .hasNext(hasNext)
+                .build();
+    }
+}
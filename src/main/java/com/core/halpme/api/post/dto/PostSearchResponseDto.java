@@ -0,0 +1,32 @@
+package com.core.halpme.api.post.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PostSearchResponseDto {
+
+    private List<PostTotalListResponseDto> posts;
+    private long totalCount;
+    private int page;
+    private int size;
+    private boolean hasNext;
+
+    public static PostSearchResponseDto of(List<PostTotalListResponseDto> posts, long totalCount, int page, int size) {
+
+        return PostSearchResponseDto.builder()
+                .posts(posts)
+                .totalCount(totalCount)
+                .page(page)
+                .size(size)
+                .hasNext((long) (page + 1) * size < totalCount)
+                .build();
+    }
+}
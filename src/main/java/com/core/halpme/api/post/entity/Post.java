@@ -4,6 +4,7 @@ import com.core.halpme.api.members.entity.Address;
 import com.core.halpme.api.members.entity.Member;
 import com.core.halpme.common.entity.BaseTimeEntity;
 import com.core.halpme.common.exception.ConflictException;
+import com.core.halpme.common.id.SnowflakeId;
 import com.core.halpme.common.response.ErrorStatus;
 import jakarta.persistence.*;
 import lombok.*;
@@ -17,11 +18,17 @@ import java.time.LocalTime;
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Builder(toBuilder = true)
-@Table(name = "posts")
+@Table(name = "posts", indexes = {
+        // 피드 조회용 복합 인덱스 (InnoDB 보조 인덱스는 PK를 포함하므로 post_id 조회까지 인덱스만으로 처리)
+        @Index(name = "idx_posts_created_at", columnList = "created_at"),
+        @Index(name = "idx_posts_status_created_at", columnList = "post_status, created_at"),
+        @Index(name = "idx_posts_schedule", columnList = "request_date, start_hour, end_hour"),
+        @Index(name = "idx_posts_status_schedule", columnList = "post_status, request_date, start_hour, end_hour")
+})
 public class Post extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     @Column(name = "post_id")
     private Long id;
 
@@ -47,12 +54,20 @@ public class Post extends BaseTimeEntity {
 
     // 게시글 봉사 현황 (대기, 완료, 취소)
     @Enumerated(EnumType.STRING)
+    @Column(name = "post_status")
     private PostStatus postStatus = PostStatus.WAITING;
 
     // 주소 (우편번호, 도로명/지번 주소, 상세주소, 찾아오시는 길)
     @Embedded
     private Address address;
 
+    // 주소 좌표 (위도, 경도) - 클라이언트 입력 또는 오프라인 지오코딩 결과
+    @Column(name = "latitude")
+    private Double latitude;
+
+    @Column(name = "longitude")
+    private Double longitude;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "member_id")
     private Member member;          // 봉사 신청자
@@ -93,6 +108,11 @@ public class Post extends BaseTimeEntity {
         this.address = address;
     }
 
+    public void updateLocation(Double latitude, Double longitude) {
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+
     public void updateStartTime(LocalTime startHour) {this.startHour = startHour; }
 
     public void updateEndTime(LocalTime endHour) {this.endHour = endHour; }
@@ -1,6 +1,7 @@
 package com.core.halpme.api.post.entity;
 
 import com.core.halpme.common.entity.BaseTimeEntity;
+import com.core.halpme.common.id.SnowflakeId;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -14,7 +15,7 @@ import lombok.NoArgsConstructor;
 public class PostImage extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     @Column(name = "post_image_id")
     private Long id;
 
@@ -0,0 +1,45 @@
+package com.core.halpme.api.post.event;
+
+import com.core.halpme.common.outbox.OutboxMessage;
+
+/**
+ * 봉사 신청글 변경 이벤트 (검색 인덱스 등 부가 저장소 갱신용)
+ * 트랜잭션 아웃박스를 거쳐 Redis Stream 으로 전달
+ */
+public record PostChangedEvent(Long postId, ChangeType changeType) implements OutboxMessage {
+
+    public static final String STREAM = "outbox:post";
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        STATUS_CHANGED,
+        DELETED
+    }
+
+    @Override
+    public String stream() {
+        return STREAM;
+    }
+
+    @Override
+    public String aggregateId() {
+        return String.valueOf(postId);
+    }
+
+    public static PostChangedEvent created(Long postId) {
+        return new PostChangedEvent(postId, ChangeType.CREATED);
+    }
+
+    public static PostChangedEvent updated(Long postId) {
+        return new PostChangedEvent(postId, ChangeType.UPDATED);
+    }
+
+    public static PostChangedEvent statusChanged(Long postId) {
+        return new PostChangedEvent(postId, ChangeType.STATUS_CHANGED);
+    }
+
+    public static PostChangedEvent deleted(Long postId) {
+        return new PostChangedEvent(postId, ChangeType.DELETED);
+    }
+}
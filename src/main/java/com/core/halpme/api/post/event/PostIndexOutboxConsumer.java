@@ -0,0 +1,98 @@
+package com.core.halpme.api.post.event;
+
+import com.core.halpme.api.post.entity.Post;
+import com.core.halpme.api.post.geo.PostGeoIndex;
+import com.core.halpme.api.post.repository.PostRepository;
+import com.core.halpme.api.post.search.PostSearchIndex;
+import com.core.halpme.common.outbox.OutboxConsumer;
+import com.core.halpme.common.outbox.OutboxRecord;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 게시글 변경 이벤트 배치를 인스턴스별 검색/공간 인덱스에 반영 (broadcast 그룹)
+ * 배치 안에서 같은 글의 변경은 마지막 것만 남기고, 남은 글은 한 번의 IN 조회로 최신 상태를 읽어 반영
+ */
+@Component
+@RequiredArgsConstructor
+public class PostIndexOutboxConsumer implements OutboxConsumer {
+
+    private final PostRepository postRepository;
+    private final PostSearchIndex postSearchIndex;
+    private final PostGeoIndex postGeoIndex;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public String stream() {
+        return PostChangedEvent.STREAM;
+    }
+
+    @Override
+    public String group() {
+        return "post-index";
+    }
+
+    @Override
+    public boolean broadcast() {
+        return true;
+    }
+
+    @Override
+    public void consume(List<OutboxRecord> records) {
+
+        Map<Long, PostChangedEvent.ChangeType> latest = new LinkedHashMap<>();
+        Set<Long> contentChanged = new HashSet<>();
+
+        for (OutboxRecord record : records) {
+            PostChangedEvent event = read(record);
+            latest.put(event.postId(), event.changeType());
+
+            if (event.changeType() != PostChangedEvent.ChangeType.STATUS_CHANGED) {
+                contentChanged.add(event.postId());
+            }
+        }
+
+        List<Long> deletedIds = new ArrayList<>();
+        List<Long> changedIds = new ArrayList<>();
+        latest.forEach((postId, changeType) ->
+                (changeType == PostChangedEvent.ChangeType.DELETED ? deletedIds : changedIds).add(postId));
+
+        List<Post> changed = postRepository.findAllById(changedIds);
+
+        // 이벤트 이후 삭제된 글은 삭제로 처리
+        Set<Long> found = new HashSet<>();
+        changed.forEach(post -> found.add(post.getId()));
+        changedIds.stream().filter(postId -> !found.contains(postId)).forEach(deletedIds::add);
+
+        // 상태 변경은 검색 대상 필드에 영향 없음 (반영 기준선인 updated_at 에는 포함)
+        LocalDateTime lastUpdatedAt = changed.stream()
+                .map(Post::getUpdatedAt)
+                .filter(Objects::nonNull)
+                .max(LocalDateTime::compareTo)
+                .orElse(null);
+        postSearchIndex.apply(changed.stream().filter(post -> contentChanged.contains(post.getId())).toList(), deletedIds,
+                lastUpdatedAt);
+
+        changed.forEach(postGeoIndex::apply);
+        deletedIds.forEach(postGeoIndex::remove);
+    }
+
+    private PostChangedEvent read(OutboxRecord record) {
+        try {
+            return objectMapper.readValue(record.payload(), PostChangedEvent.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("게시글 변경 이벤트 역직렬화 실패: " + record.recordId(), e);
+        }
+    }
+}
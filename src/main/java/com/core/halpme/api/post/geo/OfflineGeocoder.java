@@ -0,0 +1,118 @@
+package com.core.halpme.api.post.geo;
+
+import com.core.halpme.api.members.entity.Address;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 외부 API 없이 번들된 행정구역 중심좌표 데이터셋으로 주소를 좌표로 변환
+ * 시/군/구 단위까지 찾으면 해당 중심좌표, 시/도만 찾으면 시/도 중심좌표를 반환
+ */
+@Slf4j
+@Component
+public class OfflineGeocoder {
+
+    private static final String PROVINCES_PATH = "geo/provinces.csv";
+    private static final String DISTRICTS_PATH = "geo/districts.csv";
+
+    private final Map<String, GeoPoint> provinces = new HashMap<>();           // "서울" -> 좌표
+    private final Map<String, String> provinceAliases = new HashMap<>();       // "서울특별시" -> "서울"
+    private final Map<String, String> zipPrefixProvinces = new HashMap<>();    // "06" -> "서울"
+    private final Map<String, GeoPoint> districts = new HashMap<>();           // "서울 강남구" -> 좌표
+
+    @PostConstruct
+    public void load() throws IOException {
+
+        for (String[] row : readCsv(PROVINCES_PATH)) {
+            String province = row[0];
+
+            provinces.put(province, new GeoPoint(Double.parseDouble(row[1]), Double.parseDouble(row[2])));
+            provinceAliases.put(province, province);
+
+            for (String zipPrefix : row[3].split("\\|")) {
+                zipPrefixProvinces.put(zipPrefix, province);
+            }
+
+            for (String alias : row[4].split("\\|")) {
+                provinceAliases.put(alias, province);
+            }
+        }
+
+        for (String[] row : readCsv(DISTRICTS_PATH)) {
+            districts.put(row[0] + " " + row[1], new GeoPoint(Double.parseDouble(row[2]), Double.parseDouble(row[3])));
+        }
+
+        log.info("오프라인 지오코딩 데이터 로드 완료 (시/도: {}, 시/군/구: {})", provinces.size(), districts.size());
+    }
+
+    public Optional<GeoPoint> geocode(Address address) {
+
+        if (address == null) {
+            return Optional.empty();
+        }
+
+        String[] tokens = address.getBasicAddress() == null
+                ? new String[0]
+                : address.getBasicAddress().trim().split("\\s+");
+
+        String province = resolveProvince(tokens, address.getZipCode());
+
+        if (province == null) {
+            return Optional.empty();
+        }
+
+        for (String token : tokens) {
+            GeoPoint district = districts.get(province + " " + token);
+            if (district != null) {
+                return Optional.of(district);
+            }
+        }
+
+        return Optional.of(provinces.get(province));
+    }
+
+    // 주소 첫 토큰의 시/도 명칭 우선, 없으면 우편번호 앞 2자리로 시/도 판별
+    private String resolveProvince(String[] tokens, String zipCode) {
+
+        if (tokens.length > 0 && provinceAliases.containsKey(tokens[0])) {
+            return provinceAliases.get(tokens[0]);
+        }
+
+        if (zipCode != null && zipCode.length() == 5) {
+            return zipPrefixProvinces.get(zipCode.substring(0, 2));
+        }
+
+        return null;
+    }
+
+    private List<String[]> readCsv(String path) throws IOException {
+
+        List<String[]> rows = new ArrayList<>();
+
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(new ClassPathResource(path).getInputStream(), StandardCharsets.UTF_8))) {
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                rows.add(line.split(","));
+            }
+        }
+
+        return rows;
+    }
+}
@@ -0,0 +1,132 @@
+package com.core.halpme.api.post.geo;
+
+import com.core.halpme.api.post.entity.Post;
+import com.core.halpme.api.post.entity.PostStatus;
+import com.core.halpme.api.post.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 대기(WAITING) 상태 봉사 신청글의 인메모리 격자(grid) 공간 인덱스
+ * 약 1km 크기의 위경도 격자에 PostId를 버킷팅하여 반경 검색 시 주변 격자만 스캔
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostGeoIndex {
+
+    private static final double CELL_DEGREES = 0.01;
+    private static final double KM_PER_DEGREE_LATITUDE = 111.32;
+
+    private final PostRepository postRepository;
+
+    private final Map<Long, Set<Long>> cells = new ConcurrentHashMap<>();
+    private final Map<Long, GeoPoint> locations = new ConcurrentHashMap<>();
+
+    public record Hit(Long postId, double distanceKm) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+
+        List<Post> waitingPosts = postRepository.findAllByPostStatus(PostStatus.WAITING);
+
+        synchronized (this) {
+            cells.clear();
+            locations.clear();
+            waitingPosts.forEach(this::apply);
+        }
+
+        log.info("게시글 공간 인덱스 구축 완료 ({}건)", locations.size());
+    }
+
+    // 대기 상태이고 좌표가 있는 글만 인덱싱
+    public synchronized void apply(Post post) {
+
+        remove(post.getId());
+
+        if (post.getPostStatus() != PostStatus.WAITING || !GeoPoint.isValid(post.getLatitude(), post.getLongitude())) {
+            return;
+        }
+
+        GeoPoint point = new GeoPoint(post.getLatitude(), post.getLongitude());
+
+        locations.put(post.getId(), point);
+        cells.computeIfAbsent(cellKey(point), key -> ConcurrentHashMap.newKeySet()).add(post.getId());
+    }
+
+    public synchronized void remove(Long postId) {
+
+        GeoPoint previous = locations.remove(postId);
+
+        if (previous != null) {
+            cells.computeIfPresent(cellKey(previous), (key, postIds) -> {
+                postIds.remove(postId);
+                return postIds.isEmpty() ? null : postIds;
+            });
+        }
+    }
+
+    // 중심 좌표 기준 반경 내 게시글을 가까운 순으로 최대 limit 개 반환
+    public List<Hit> findWithin(GeoPoint center, double radiusKm, int limit) {
+
+        double latitudeSpan = radiusKm / KM_PER_DEGREE_LATITUDE;
+        double longitudeSpan = radiusKm / (KM_PER_DEGREE_LATITUDE * Math.max(0.01, Math.cos(Math.toRadians(center.latitude()))));
+
+        long minLatCell = cellIndex(center.latitude() - latitudeSpan);
+        long maxLatCell = cellIndex(center.latitude() + latitudeSpan);
+        long minLngCell = cellIndex(center.longitude() - longitudeSpan);
+        long maxLngCell = cellIndex(center.longitude() + longitudeSpan);
+
+        List<Hit> hits = new ArrayList<>();
+
+        for (long latCell = minLatCell; latCell <= maxLatCell; latCell++) {
+            for (long lngCell = minLngCell; lngCell <= maxLngCell; lngCell++) {
+
+                Set<Long> postIds = cells.get(cellKey(latCell, lngCell));
+                if (postIds == null) {
+                    continue;
+                }
+
+                for (Long postId : postIds) {
+                    GeoPoint point = locations.get(postId);
+                    if (point == null) {
+                        continue;
+                    }
+
+                    double distanceKm = center.distanceKm(point);
+                    if (distanceKm <= radiusKm) {
+                        hits.add(new Hit(postId, distanceKm));
+                    }
+                }
+            }
+        }
+
+        return hits.stream()
+                .sorted(Comparator.comparingDouble(Hit::distanceKm))
+                .limit(limit)
+                .toList();
+    }
+
+    private long cellKey(GeoPoint point) {
+        return cellKey(cellIndex(point.latitude()), cellIndex(point.longitude()));
+    }
+
+    private long cellKey(long latCell, long lngCell) {
+        return (latCell << 32) | (lngCell & 0xFFFFFFFFL);
+    }
+
+    private long cellIndex(double degrees) {
+        return (long) Math.floor(degrees / CELL_DEGREES);
+    }
+}
@@ -0,0 +1,23 @@
+package com.core.halpme.api.post.repository;
+
+import com.core.halpme.api.post.entity.PostStatus;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 봉사 신청글 피드 조회 조건 (모든 조건은 선택 사항)
+ */
+public record PostFeedCondition(
+        PostStatus status,
+        LocalDate from,
+        LocalDate to,
+        LocalTime startAfter,
+        LocalTime endBefore
+) {
+
+    // 봉사 날짜 조건이 있으면 일정 순, 없으면 최신 작성 순으로 정렬
+    public boolean hasDateRange() {
+        return from != null || to != null;
+    }
+}
@@ -0,0 +1,9 @@
+package com.core.halpme.api.post.repository;
+
+import java.util.List;
+
+public interface PostQueryRepository {
+
+    // 조건에 맞는 PostId만 커버링 인덱스로 먼저 조회 (엔티티 로딩은 findAllWithMemberByIdIn)
+    List<Long> findFeedPostIds(PostFeedCondition condition, int offset, int limit);
+}
@@ -0,0 +1,58 @@
+package com.core.halpme.api.post.repository;
+
+import com.core.halpme.api.post.entity.Post;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.util.List;
+
+public class PostQueryRepositoryImpl implements PostQueryRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Long> findFeedPostIds(PostFeedCondition condition, int offset, int limit) {
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Post> root = query.from(Post.class);
+
+        query.select(root.get("id"));
+
+        Predicate predicate = PostSpecifications.feed(condition).toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        query.orderBy(feedOrder(condition, root, cb));
+
+        return entityManager.createQuery(query)
+                .setFirstResult(offset)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    // 정렬 컬럼 순서를 인덱스 컬럼 순서(+ PK)와 맞춰 filesort 방지
+    private List<Order> feedOrder(PostFeedCondition condition, Root<Post> root, CriteriaBuilder cb) {
+
+        if (condition.hasDateRange()) {
+            return List.of(
+                    cb.asc(root.get("requestDate")),
+                    cb.asc(root.get("startHour")),
+                    cb.asc(root.get("endHour")),
+                    cb.asc(root.get("id"))
+            );
+        }
+
+        return List.of(
+                cb.desc(root.get("createdAt")),
+                cb.desc(root.get("id"))
+        );
+    }
+}
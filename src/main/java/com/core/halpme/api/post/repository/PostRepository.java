@@ -3,17 +3,41 @@ package com.core.halpme.api.post.repository;
 import com.core.halpme.api.members.entity.Member;
 import com.core.halpme.api.post.entity.Post;
 import com.core.halpme.api.post.entity.PostStatus;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface PostRepository extends JpaRepository<Post, Long> {
+public interface PostRepository extends JpaRepository<Post, Long>, PostQueryRepository {
 
     List<Post> findPostByMemberEmail(String memberEmail);
 
     void deleteAllByMember(Member member);
 
     List<Post> findByVolunteerEmailAndPostStatusInOrderByRequestDateDesc(String email, List<PostStatus> statuses);
+
+    List<Post> findAllByPostStatus(PostStatus postStatus);
+
+    @EntityGraph(attributePaths = "member")
+    List<Post> findAllWithMemberByIdIn(Collection<Long> ids);
+
+    // 검색 인덱스 기준선 (인덱스에 반영된 마지막 수정 시각과 비교)
+    @Query("select max(p.updatedAt) from Post p")
+    LocalDateTime findMaxUpdatedAt();
+
+    // 봉사자 미배정 글에만 봉사자를 배정하는 조건부 UPDATE (락 없이 단 한 명만 성공)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Post p set p.volunteer = :volunteer, p.postStatus = :status, p.updatedAt = :now "
+            + "where p.id = :postId and p.volunteer is null")
+    int claimVolunteer(@Param("postId") Long postId,
+                       @Param("volunteer") Member volunteer,
+                       @Param("status") PostStatus status,
+                       @Param("now") LocalDateTime now);
 }
@@ -0,0 +1,44 @@
+package com.core.halpme.api.post.repository;
+
+import com.core.halpme.api.post.entity.Post;
+import com.core.halpme.api.post.entity.PostStatus;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+public final class PostSpecifications {
+
+    private PostSpecifications() {
+    }
+
+    public static Specification<Post> feed(PostFeedCondition condition) {
+        return Specification.where(hasStatus(condition.status()))
+                .and(requestDateFrom(condition.from()))
+                .and(requestDateTo(condition.to()))
+                .and(startsAtOrAfter(condition.startAfter()))
+                .and(endsAtOrBefore(condition.endBefore()));
+    }
+
+    // 조건 값이 null 이면 null 을 반환하여 where 절에서 제외
+
+    public static Specification<Post> hasStatus(PostStatus status) {
+        return status == null ? null : (root, query, cb) -> cb.equal(root.get("postStatus"), status);
+    }
+
+    public static Specification<Post> requestDateFrom(LocalDate from) {
+        return from == null ? null : (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("requestDate"), from);
+    }
+
+    public static Specification<Post> requestDateTo(LocalDate to) {
+        return to == null ? null : (root, query, cb) -> cb.lessThanOrEqualTo(root.get("requestDate"), to);
+    }
+
+    public static Specification<Post> startsAtOrAfter(LocalTime startAfter) {
+        return startAfter == null ? null : (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("startHour"), startAfter);
+    }
+
+    public static Specification<Post> endsAtOrBefore(LocalTime endBefore) {
+        return endBefore == null ? null : (root, query, cb) -> cb.lessThanOrEqualTo(root.get("endHour"), endBefore);
+    }
+}
@@ -0,0 +1,80 @@
+package com.core.halpme.api.post.search;
+
+import com.core.halpme.api.members.entity.Address;
+import com.core.halpme.api.members.entity.Member;
+import com.core.halpme.api.post.entity.Post;
+import com.core.halpme.api.post.entity.PostStatus;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 검색 벤치마크용 더미 게시글 코퍼스 생성기
+ * 실제 도움 요청과 비슷한 어휘 분포를 갖도록 요청 유형, 상황, 지역을 조합
+ */
+public final class PostCorpusGenerator {
+
+    private static final List<String> TASKS = List.of(
+            "장보기", "병원 동행", "형광등 교체", "말벗", "반찬 나눔", "짐 나르기",
+            "휴대폰 사용법", "컴퓨터 설치", "산책 동행", "집 청소", "분리수거", "약 수령",
+            "은행 업무", "택배 수령", "도배", "화분 옮기기", "겨울 이불 정리", "서류 작성"
+    );
+
+    private static final List<String> SITUATIONS = List.of(
+            "거동이 불편해서", "혼자 살고 있어서", "무릎 수술 후라", "눈이 잘 안 보여서",
+            "자녀가 멀리 살아서", "무거운 물건을 들 수 없어서", "처음 해보는 일이라", "시간이 없어서"
+    );
+
+    private static final List<String> DETAILS = List.of(
+            "오전 중으로 부탁드립니다.", "간단한 일이라 오래 걸리지 않아요.", "엘리베이터 없는 3층입니다.",
+            "주차 공간이 있습니다.", "시장 근처라 찾기 쉬워요.", "끝나고 차 한잔 대접하겠습니다.",
+            "반려견이 있으니 참고해주세요.", "도착하시면 전화 주세요."
+    );
+
+    private static final List<String> DISTRICTS = List.of(
+            "강남구", "강동구", "강북구", "강서구", "관악구", "광진구", "구로구", "금천구", "노원구",
+            "도봉구", "동대문구", "동작구", "마포구", "서대문구", "서초구", "성동구", "성북구", "송파구",
+            "양천구", "영등포구", "용산구", "은평구", "종로구", "중구", "중랑구"
+    );
+
+    private static final List<String> ROADS = List.of(
+            "중앙로", "시장길", "한강대로", "공원로", "학교길", "역전로", "새마을로", "현충로"
+    );
+
+    private PostCorpusGenerator() {
+    }
+
+    public static Post generate(int sequence, Member member, Random random) {
+
+        String task = pick(TASKS, random);
+        String district = pick(DISTRICTS, random);
+
+        String title = district + " " + task + " 도와주실 분 구합니다";
+        String content = pick(SITUATIONS, random) + " " + task + " 도움이 필요합니다. "
+                + pick(DETAILS, random) + " " + pick(DETAILS, random);
+
+        LocalTime startHour = LocalTime.of(8 + random.nextInt(10), 0);
+        LocalTime endHour = startHour.plusHours(1 + random.nextInt(4));
+
+        return Post.builder()
+                .title(title)
+                .content(content)
+                .requestDate(LocalDate.now().plusDays(random.nextInt(30)))
+                .startHour(startHour)
+                .endHour(endHour)
+                .postStatus(PostStatus.WAITING)
+                .address(new Address(
+                        String.format("%05d", 1000 + random.nextInt(8000)),
+                        "서울특별시 " + district + " " + pick(ROADS, random) + " " + (1 + random.nextInt(300)),
+                        "상세주소" + sequence,
+                        "찾아오시는길" + sequence))
+                .member(member)
+                .build();
+    }
+
+    private static String pick(List<String> values, Random random) {
+        return values.get(random.nextInt(values.size()));
+    }
+}
@@ -0,0 +1,265 @@
+package com.core.halpme.api.post.search;
+
+import com.core.halpme.api.post.entity.Post;
+import com.core.halpme.api.post.repository.PostRepository;
+import com.core.halpme.common.exception.BadRequestException;
+import com.core.halpme.common.exception.InternalServerException;
+import com.core.halpme.common.response.ErrorStatus;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.ko.KoreanAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
+import org.apache.lucene.queryparser.classic.ParseException;
+import org.apache.lucene.queryparser.classic.QueryParserBase;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 봉사 신청글 전문 검색용 Lucene 역색인 (제목, 내용, 도로명/지번 주소)
+ * 반영한 게시글의 최대 updated_at 을 커밋 데이터(high-water mark)로 저장
+ * -> 인스턴스가 내려가 있는 동안의 수정 이벤트(broadcast 그룹은 latest 부터 수신)를 기동 시 DB 와 비교해 감지
+ * 재색인(rebuild)과 배치 반영(apply)은 같은 IndexWriter 를 쓰므로 서로 배타적으로 실행
+ * (재색인 도중 배치 커밋이 반쯤 만든 인덱스를 검색기/디스크에 공개하지 않도록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostSearchIndex {
+
+    private static final String FIELD_ID = "id";
+    private static final String FIELD_TITLE = "title";
+    private static final String FIELD_CONTENT = "content";
+    private static final String FIELD_ADDRESS = "address";
+
+    private static final String[] SEARCH_FIELDS = {FIELD_TITLE, FIELD_CONTENT, FIELD_ADDRESS};
+
+    // 제목 > 주소 > 내용 순으로 관련도 가중치 부여
+    private static final Map<String, Float> FIELD_BOOSTS = Map.of(
+            FIELD_TITLE, 3.0f,
+            FIELD_ADDRESS, 2.0f,
+            FIELD_CONTENT, 1.0f
+    );
+
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    // 커밋 데이터 키: 인덱스에 반영된 게시글의 최대 updated_at
+    private static final String COMMIT_UPDATED_AT = "maxUpdatedAt";
+
+    private final PostRepository postRepository;
+
+    @Value("${search.index.path:./data/post-index}")
+    private String indexPath;
+
+    private Analyzer analyzer;
+    private Directory directory;
+    private IndexWriter indexWriter;
+    private SearcherManager searcherManager;
+    private LocalDateTime appliedUpTo;
+
+    @PostConstruct
+    public void open() throws IOException {
+        analyzer = new KoreanAnalyzer();
+        directory = FSDirectory.open(Path.of(indexPath));
+
+        IndexWriterConfig config = new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+
+        indexWriter = new IndexWriter(directory, config);
+        searcherManager = new SearcherManager(indexWriter, null);
+        appliedUpTo = committedUpdatedAt();
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        indexWriter.commit();
+        indexWriter.close();
+        directory.close();
+        analyzer.close();
+    }
+
+    // 기동 시 인덱스 문서 수 또는 마지막 반영 수정 시각이 DB 와 다르면 전체 재색인
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuildIfStale() {
+
+        long indexed = indexWriter.getDocStats().numDocs;
+        long stored = postRepository.count();
+        LocalDateTime latest = postRepository.findMaxUpdatedAt();
+
+        if (indexed != stored || !Objects.equals(appliedUpTo, latest)) {
+            log.info("게시글 검색 인덱스 재구축 시작 (인덱스: {}건/{}, DB: {}건/{})", indexed, appliedUpTo, stored, latest);
+            rebuild();
+        }
+    }
+
+    public synchronized void rebuild() {
+        try {
+            // 재색인 중의 수정은 이후 이벤트로 반영되고, 기준선보다 새로우므로 다음 기동 시 비교에도 걸림
+            LocalDateTime latest = postRepository.findMaxUpdatedAt();
+            indexWriter.deleteAll();
+
+            int page = 0;
+            Page<Post> posts;
+            do {
+                posts = postRepository.findAll(PageRequest.of(page++, REBUILD_BATCH_SIZE, Sort.by("id")));
+                for (Post post : posts) {
+                    indexWriter.addDocument(toDocument(post));
+                }
+            } while (posts.hasNext());
+
+            raiseAppliedUpTo(latest);
+            indexWriter.commit();
+            searcherManager.maybeRefresh();
+
+            log.info("게시글 검색 인덱스 재구축 완료 ({}건)", indexWriter.getDocStats().numDocs);
+        } catch (IOException e) {
+            log.error("게시글 검색 인덱스 재구축 실패", e);
+        }
+    }
+
+    // 아웃박스 이벤트 배치 반영 (문서 갱신/삭제 후 커밋과 검색기 갱신은 한 번만)
+    // lastUpdatedAt: 배치에서 읽은 게시글(상태 변경만 있는 글 포함)의 최대 updated_at
+    public synchronized void apply(Collection<Post> changed, Collection<Long> deletedIds, LocalDateTime lastUpdatedAt) {
+        try {
+            for (Post post : changed) {
+                indexWriter.updateDocument(idTerm(post.getId()), toDocument(post));
+            }
+            for (Long postId : deletedIds) {
+                indexWriter.deleteDocuments(idTerm(postId));
+            }
+            raiseAppliedUpTo(lastUpdatedAt);
+            // 배치마다 커밋 (비정상 종료 시에도 반영분과 기준선이 디스크에 남도록, 커밋 비용은 배치당 1회)
+            indexWriter.commit();
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            log.error("게시글 검색 인덱스 배치 반영 실패 (변경: {}건, 삭제: {}건)", changed.size(), deletedIds.size(), e);
+        }
+    }
+
+    // 관련도 순으로 page 번째 size 개의 PostId 반환
+    public PostSearchResult search(String keyword, int page, int size) {
+
+        Query query = parseQuery(keyword);
+        IndexSearcher searcher = null;
+
+        try {
+            searcher = searcherManager.acquire();
+
+            TopDocs topDocs = searcher.search(query, (page + 1) * size);
+            ScoreDoc[] hits = topDocs.scoreDocs;
+            StoredFields storedFields = searcher.storedFields();
+
+            List<Long> postIds = new ArrayList<>();
+            for (int i = page * size; i < hits.length; i++) {
+                postIds.add(Long.valueOf(storedFields.document(hits[i].doc).get(FIELD_ID)));
+            }
+
+            return new PostSearchResult(postIds, topDocs.totalHits.value);
+        } catch (IOException e) {
+            log.error("게시글 검색 실패 (keyword: {})", keyword, e);
+            throw new InternalServerException(ErrorStatus.INTERNAL_SERVER_ERROR.getMessage());
+        } finally {
+            release(searcher);
+        }
+    }
+
+    private Query parseQuery(String keyword) {
+
+        // QueryParser 는 thread-safe 하지 않으므로 요청마다 생성
+        MultiFieldQueryParser parser = new MultiFieldQueryParser(SEARCH_FIELDS, analyzer, FIELD_BOOSTS);
+
+        try {
+            return parser.parse(QueryParserBase.escape(keyword));
+        } catch (ParseException e) {
+            throw new BadRequestException(ErrorStatus.BAD_REQUEST_INVALID_SEARCH_KEYWORD.getMessage());
+        }
+    }
+
+    private void release(IndexSearcher searcher) {
+        if (searcher == null) {
+            return;
+        }
+
+        try {
+            searcherManager.release(searcher);
+        } catch (IOException e) {
+            log.warn("IndexSearcher 반환 실패", e);
+        }
+    }
+
+    // 기준선은 올리기만 함 (더 오래된 값으로 덮어써 이미 반영한 수정을 놓친 것처럼 보이지 않도록), 다음 commit 에 함께 저장
+    private void raiseAppliedUpTo(LocalDateTime updatedAt) {
+
+        if (updatedAt == null || (appliedUpTo != null && !updatedAt.isAfter(appliedUpTo))) {
+            return;
+        }
+
+        appliedUpTo = updatedAt;
+        indexWriter.setLiveCommitData(Map.of(COMMIT_UPDATED_AT, appliedUpTo.toString()).entrySet());
+    }
+
+    private LocalDateTime committedUpdatedAt() throws IOException {
+
+        if (!DirectoryReader.indexExists(directory)) {
+            return null;
+        }
+
+        String value = SegmentInfos.readLatestCommit(directory).getUserData().get(COMMIT_UPDATED_AT);
+        return value != null ? LocalDateTime.parse(value) : null;
+    }
+
+    private Document toDocument(Post post) {
+
+        String basicAddress = post.getAddress() != null ? post.getAddress().getBasicAddress() : null;
+
+        Document document = new Document();
+        document.add(new StringField(FIELD_ID, String.valueOf(post.getId()), Field.Store.YES));
+        document.add(new TextField(FIELD_TITLE, nullToEmpty(post.getTitle()), Field.Store.NO));
+        document.add(new TextField(FIELD_CONTENT, nullToEmpty(post.getContent()), Field.Store.NO));
+        document.add(new TextField(FIELD_ADDRESS, nullToEmpty(basicAddress), Field.Store.NO));
+
+        return document;
+    }
+
+    private Term idTerm(Long postId) {
+        return new Term(FIELD_ID, String.valueOf(postId));
+    }
+
+    private String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
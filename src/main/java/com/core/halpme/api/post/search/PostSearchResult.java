@@ -0,0 +1,9 @@
+package com.core.halpme.api.post.search;
+
+import java.util.List;
+
+/**
+ * 검색 인덱스 조회 결과 (관련도 순 PostId, 전체 적중 수)
+ */
+public record PostSearchResult(List<Long> postIds, long totalHits) {
+}
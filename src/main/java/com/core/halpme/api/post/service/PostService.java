@@ -6,24 +6,34 @@ import com.core.halpme.api.members.repository.MemberRepository;
 import com.core.halpme.api.post.dto.*;
 import com.core.halpme.api.post.entity.Post;
 import com.core.halpme.api.post.entity.PostStatus;
+import com.core.halpme.api.post.event.PostChangedEvent;
+import com.core.halpme.api.post.geo.GeoPoint;
+import com.core.halpme.api.post.geo.OfflineGeocoder;
+import com.core.halpme.api.post.geo.PostGeoIndex;
+import com.core.halpme.api.post.repository.PostFeedCondition;
 import com.core.halpme.api.post.repository.PostRepository;
 
+import com.core.halpme.api.post.search.PostSearchIndex;
+import com.core.halpme.api.post.search.PostSearchResult;
 import com.core.halpme.api.rank.service.RankService;
 import com.core.halpme.common.exception.ConflictException;
 import com.core.halpme.common.exception.NotFoundException;
 import com.core.halpme.common.exception.UnauthorizedException;
+import com.core.halpme.common.seed.BulkDataGenerator;
 import com.core.halpme.common.response.ErrorStatus;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.parameters.P;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDate;
-import java.time.LocalTime;
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.IntStream;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 
 @Service
@@ -33,16 +43,21 @@ public class PostService {
     private final MemberRepository memberRepository;
     private final PostRepository postRepository;
     private final RankService rankService;
+    private final PostSearchIndex postSearchIndex;
+    private final PostGeoIndex postGeoIndex;
+    private final OfflineGeocoder offlineGeocoder;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BulkDataGenerator bulkDataGenerator;
 
     // 봉사 신청글 생성
     @Transactional
-    @CacheEvict(value = "postsCache", key = "'allPosts'")
     public void createPost(String email, PostCreateRequestDto request) throws NotFoundException, UnauthorizedException {
 
         Member member = memberRepository.findByEmail(email)
                 .orElseThrow(() -> new NotFoundException(ErrorStatus.NOT_FOUND_USER.getMessage()));
 
         Address address = request.getAddress();
+        Optional<GeoPoint> location = resolveLocation(request);
 
         Post post = Post.builder()
                 .title(request.getTitle())
@@ -51,11 +66,15 @@ public class PostService {
                 .startHour(request.getStartHour())
                 .endHour(request.getEndHour())
                 .address(address)
+                .latitude(location.map(GeoPoint::latitude).orElse(null))
+                .longitude(location.map(GeoPoint::longitude).orElse(null))
                 .member(member)
                 .postStatus(PostStatus.WAITING)
                 .build();
 
         postRepository.save(post);
+
+        eventPublisher.publishEvent(PostChangedEvent.created(post.getId()));
     }
 
     // 내 봉사 신청글 전체 조회
@@ -86,17 +105,20 @@ public class PostService {
     @Transactional
     public void participateAsVolunteer(Long postId, String volunteerEmail) {
 
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.NOT_FOUND_RESOURCE.getMessage()));
+        Member volunteer = memberRepository.findByEmail(volunteerEmail)
+                .orElseThrow(() -> new NotFoundException(ErrorStatus.NOT_FOUND_VOLUNTEER.getMessage()));
 
-        if (post.getVolunteer() != null) {
+        // 먼저 조회 후 검사하면 동시 요청이 모두 통과하므로, 조건부 UPDATE 결과로 배정 성공 여부 판단
+        int claimed = postRepository.claimVolunteer(postId, volunteer, PostStatus.AUTHENTICATED, LocalDateTime.now());
+
+        if (claimed == 0) {
+            if (!postRepository.existsById(postId)) {
+                throw new NotFoundException(ErrorStatus.NOT_FOUND_RESOURCE.getMessage());
+            }
             throw new ConflictException(ErrorStatus.BAD_REQUEST_ALREADY_ASSIGNED_VOLUNTEER.getMessage());
         }
 
-        Member volunteer = memberRepository.findByEmail(volunteerEmail)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.NOT_FOUND_VOLUNTEER.getMessage()));
-
-        post.assignVolunteer(volunteer);
+        eventPublisher.publishEvent(PostChangedEvent.statusChanged(postId));
     }
 
     //봉사자 인증
@@ -120,21 +142,29 @@ public class PostService {
 
         // 봉사 요청글의 상태를 "완료"로 변경
         post.updateActivityStatus(PostStatus.COMPLETED);
+
+        eventPublisher.publishEvent(PostChangedEvent.statusChanged(post.getId()));
     }
 
-    // 전체 봉사 신청글 조회
-    //@Cacheable(value = "postsCache", key = "'allPosts'")
-    public List<PostTotalListResponseDto> getTotalPostList() {
+    // 전체 봉사 신청글 조회 (상태, 봉사 날짜, 시간대 필터), 한 건 더 조회해 다음 페이지 여부 판단
+    @Transactional(readOnly = true)
+    public PostFeedResponseDto getTotalPostList(PostFeedCondition condition, int page, int size) {
 
-        List<Post> posts = postRepository.findAll();
+        List<Long> fetchedIds = postRepository.findFeedPostIds(condition, page * size, size + 1);
+        boolean hasNext = fetchedIds.size() > size;
+        List<Long> postIds = hasNext ? fetchedIds.subList(0, size) : fetchedIds;
 
-        List<Post> sortedPosts = posts.stream()
-                .sorted((p1, p2) -> p2.getCreatedAt().compareTo(p1.getCreatedAt()))
-                .toList();
+        Map<Long, Post> postsById = postRepository.findAllWithMemberByIdIn(postIds).stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
 
-        return sortedPosts.stream()
+        // id 조회 시의 정렬 순서 유지
+        List<PostTotalListResponseDto> posts = postIds.stream()
+                .map(postsById::get)
+                .filter(Objects::nonNull)
                 .map(PostTotalListResponseDto::toDto)
                 .toList();
+
+        return PostFeedResponseDto.of(posts, page, size, hasNext);
     }
 
     // 봉사 신청글 상세 조회
@@ -148,7 +178,6 @@ public class PostService {
 
     // 봉사 신청글 수정
     @Transactional
-    @CacheEvict(value = "postsCache", key = "'allPosts'")
     public void updatePost(Long postId, String email, PostCreateRequestDto request) {
 
         Post post = postRepository.findById(postId)
@@ -163,11 +192,17 @@ public class PostService {
         post.updateTitle(request.getTitle());
         post.updateContent(request.getContent());
         post.updateAddress(address);
+
+        Optional<GeoPoint> location = resolveLocation(request);
+        post.updateLocation(
+                location.map(GeoPoint::latitude).orElse(null),
+                location.map(GeoPoint::longitude).orElse(null));
+
+        eventPublisher.publishEvent(PostChangedEvent.updated(post.getId()));
     }
 
     // 봉사 신청글 삭제
     @Transactional
-    @CacheEvict(value = "postsCache", key = "'allPosts'")
     public void deletePost(Long postId, String email) {
 
         Post post = postRepository.findById(postId)
@@ -178,28 +213,59 @@ public class PostService {
         }
 
         postRepository.delete(post);
+
+        eventPublisher.publishEvent(PostChangedEvent.deleted(postId));
     }
 
-    @Transactional
-    @CacheEvict(value = "postsCache", key = "'allPosts'")
+    // 봉사 신청글 검색 (제목, 내용, 도로명/지번 주소 관련도 순)
+    @Transactional(readOnly = true)
+    public PostSearchResponseDto searchPosts(String keyword, int page, int size) {
+
+        PostSearchResult result = postSearchIndex.search(keyword, page, size);
+
+        Map<Long, Post> postsById = postRepository.findAllWithMemberByIdIn(result.postIds()).stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+
+        // 인덱스의 관련도 순서 유지 (인덱스 반영 전 삭제된 글은 제외)
+        List<PostTotalListResponseDto> posts = result.postIds().stream()
+                .map(postsById::get)
+                .filter(Objects::nonNull)
+                .map(PostTotalListResponseDto::toDto)
+                .toList();
+
+        return PostSearchResponseDto.of(posts, result.totalHits(), page, size);
+    }
+
+    // 내 주변 대기 중인 봉사 신청글 조회 (가까운 순)
+    @Transactional(readOnly = true)
+    public List<NearbyPostResponseDto> getNearbyWaitingPosts(double latitude, double longitude, double radiusKm, int limit) {
+
+        List<PostGeoIndex.Hit> hits = postGeoIndex.findWithin(new GeoPoint(latitude, longitude), radiusKm, limit);
+
+        Map<Long, Post> postsById = postRepository.findAllWithMemberByIdIn(
+                        hits.stream().map(PostGeoIndex.Hit::postId).toList()).stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+
+        // 인덱스 반영 전 상태가 바뀐 글은 제외
+        return hits.stream()
+                .filter(hit -> postsById.containsKey(hit.postId()))
+                .filter(hit -> postsById.get(hit.postId()).getPostStatus() == PostStatus.WAITING)
+                .map(hit -> NearbyPostResponseDto.toDto(postsById.get(hit.postId()), hit.distanceKm()))
+                .toList();
+    }
+
+    // 요청 좌표가 있으면 그대로 사용, 없으면 주소로 오프라인 지오코딩
+    private Optional<GeoPoint> resolveLocation(PostCreateRequestDto request) {
+
+        if (GeoPoint.isValid(request.getLatitude(), request.getLongitude())) {
+            return Optional.of(new GeoPoint(request.getLatitude(), request.getLongitude()));
+        }
+
+        return offlineGeocoder.geocode(request.getAddress());
+    }
+
+    // 더미 작성자(없으면 생성)의 게시글 500건을 다중 행 INSERT 로 생성
     public void createDummyPosts() {
-        // 더미 작성자 찾기 또는 생성 (없으면 예외 대신 생성하거나 처리)
-        Member member = memberRepository.findByEmail("dummy@halpme.com")
-                .orElseThrow(() -> new RuntimeException("더미 회원이 없습니다."));
-
-        IntStream.rangeClosed(1, 500).forEach(i -> {
-            Post post = Post.builder()
-                    .title("더미 게시글 제목 " + i)
-                    .content("더미 게시글 내용 " + i)
-                    .requestDate(LocalDate.now())
-                    .startHour(LocalTime.of(9, 0))
-                    .endHour(LocalTime.of(12, 0))
-                    .postStatus(PostStatus.WAITING)
-                    .address(new Address("12345", "서울시", "상세주소" + i, "찾아오시는길" + i))
-                    .member(member)
-                    .build();
-
-            postRepository.save(post);
-        });
+        bulkDataGenerator.seedDummyPosts(500, 500L);
     }
 }
@@ -1,7 +1,6 @@
 package com.core.halpme.api.rank.controller;
 
 import com.core.halpme.api.rank.dto.RankResponseDto;
-import com.core.halpme.api.rank.entity.Rank;
 import com.core.halpme.api.rank.service.RankService;
 import com.core.halpme.common.response.ApiResponse;
 import com.core.halpme.common.response.SuccessStatus;
@@ -14,7 +13,6 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.ArrayList;
 import java.util.List;
 
 @RestController
@@ -34,14 +32,7 @@ public class RankController {
     })
     @GetMapping("/top")
     public ResponseEntity<ApiResponse<List<RankResponseDto>>> getTopRanks() {
-        List<Rank> topRanks = rankService.getToRanks();
-
-        List<RankResponseDto> responseList = new ArrayList<>();
-        int rankOrder = 1;
-
-        for (Rank rank : topRanks) {
-            responseList.add(RankResponseDto.fromEntity(rank, rankOrder++));
-        }
+        List<RankResponseDto> responseList = RankResponseDto.fromEntities(rankService.getToRanks());
 
         return ApiResponse.success(SuccessStatus.RANK_GET_SUCCESS, responseList);
     }
@@ -5,6 +5,9 @@ import com.core.halpme.api.rank.entity.RankLevel;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Getter
 @Builder
 public class RankResponseDto {
@@ -21,4 +24,17 @@ public class RankResponseDto {
                 .myRank(myRank)
                 .build();
     }
+
+    // 정렬된 랭킹 목록 -> 1위부터 순위 부여
+    public static List<RankResponseDto> fromEntities(List<Rank> ranks) {
+
+        List<RankResponseDto> responseList = new ArrayList<>();
+        int rankOrder = 1;
+
+        for (Rank rank : ranks) {
+            responseList.add(fromEntity(rank, rankOrder++));
+        }
+
+        return responseList;
+    }
 }
@@ -15,4 +15,18 @@ public enum RankLevel {
     RankLevel(String description) {
         this.description = description;
     }
+
+    // 누적 봉사시간 기준 레벨
+    public static RankLevel of(int totalVolunteerHours) {
+        if (totalVolunteerHours >= 100) {
+            return HERO;
+        } else if (totalVolunteerHours >= 60) {
+            return LOCAL_LEADER;
+        } else if (totalVolunteerHours >= 30) {
+            return GUARDIAN;
+        } else if (totalVolunteerHours >= 10) {
+            return ACTIVIST;
+        }
+        return SEED_HELPER;
+    }
 }
@@ -0,0 +1,22 @@
+package com.core.halpme.api.rank.event;
+
+import com.core.halpme.common.outbox.OutboxMessage;
+
+/**
+ * 누적 봉사시간 변경 이벤트 (리더보드 갱신용)
+ * 증가분이 아닌 갱신 후 누적값을 담아 중복 전달되어도 결과 동일
+ */
+public record RankChangedEvent(String memberEmail, int totalVolunteerHours) implements OutboxMessage {
+
+    public static final String STREAM = "outbox:rank";
+
+    @Override
+    public String stream() {
+        return STREAM;
+    }
+
+    @Override
+    public String aggregateId() {
+        return memberEmail;
+    }
+}
@@ -1,7 +1,10 @@
 package com.core.halpme.api.rank.repository;
 
 import com.core.halpme.api.rank.entity.Rank;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -9,5 +12,9 @@ import java.util.Optional;
 public interface RankRepository extends JpaRepository <Rank, Long> {
     Optional<Rank> findByMemberEmail(String email);
 
-    List<Rank> findTop10ByOrderByTotalVolunteerHoursDesc();
+    @Query("SELECT r FROM Rank r JOIN FETCH r.member ORDER BY r.totalVolunteerHours DESC")
+    List<Rank> findTopWithMember(Pageable pageable);
+
+    @Query("SELECT r FROM Rank r JOIN FETCH r.member m WHERE m.email IN :emails")
+    List<Rank> findAllWithMemberByMemberEmailIn(@Param("emails") List<String> emails);
 }
@@ -0,0 +1,126 @@
+package com.core.halpme.api.rank.service;
+
+import com.core.halpme.api.rank.entity.Rank;
+import com.core.halpme.api.rank.event.RankChangedEvent;
+import com.core.halpme.api.rank.repository.RankRepository;
+import com.core.halpme.common.outbox.OutboxConsumer;
+import com.core.halpme.common.outbox.OutboxRecord;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.RedisZSetCommands.ZAddArgs;
+import org.springframework.data.redis.connection.zset.DefaultTuple;
+import org.springframework.data.redis.connection.zset.Tuple;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 누적 봉사시간 리더보드 (Redis Sorted Set, member: 이메일, score: 누적 봉사시간)
+ * 봉사 인증 트랜잭션의 RankChangedEvent 를 아웃박스 Stream 으로 받아 배치당 ZADD GT 1회로 반영
+ * (여러 인스턴스의 릴레이가 이벤트를 나눠 발행하므로 회원별 순서가 보장되지 않음, 기존 점수보다 클 때만 갱신해 뒤로 가지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RankLeaderboard implements OutboxConsumer {
+
+    private static final String KEY = "rank:leaderboard";
+    private static final byte[] RAW_KEY = KEY.getBytes(StandardCharsets.UTF_8);
+
+    // 리더보드가 없을 때 DB 에서 채울 상위 인원 (이후 변경분은 이벤트로 추가되므로 상위권 조회에는 충분)
+    private static final int BOOTSTRAP_SIZE = 1_000;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RankRepository rankRepository;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public String stream() {
+        return RankChangedEvent.STREAM;
+    }
+
+    @Override
+    public String group() {
+        return "rank-leaderboard";
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() {
+        try {
+            if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(KEY))) {
+                return;
+            }
+
+            List<Rank> ranks = rankRepository.findTopWithMember(PageRequest.of(0, BOOTSTRAP_SIZE));
+            Set<Tuple> tuples = new HashSet<>();
+            ranks.forEach(rank -> tuples.add(tuple(rank.getMember().getEmail(), rank.getTotalVolunteerHours())));
+
+            if (!tuples.isEmpty()) {
+                addIfGreater(tuples);
+            }
+
+            log.info("랭킹 리더보드 구축 완료 ({}명)", tuples.size());
+        } catch (RuntimeException e) {
+            log.warn("랭킹 리더보드 구축 실패 (DB 조회로 대체)", e);
+        }
+    }
+
+    @Override
+    public void consume(List<OutboxRecord> records) {
+
+        // 누적값은 줄지 않으므로 배치 안에서는 최대값만 반영 (배치 사이는 ZADD GT 로 보장)
+        Map<String, Integer> latest = new HashMap<>();
+        for (OutboxRecord record : records) {
+            RankChangedEvent event = read(record);
+            latest.merge(event.memberEmail(), event.totalVolunteerHours(), Math::max);
+        }
+
+        Set<Tuple> tuples = new HashSet<>();
+        latest.forEach((email, hours) -> tuples.add(tuple(email, hours)));
+
+        if (!tuples.isEmpty()) {
+            addIfGreater(tuples);
+        }
+    }
+
+    // 누적 봉사시간 상위 limit 명의 이메일 (Redis 장애 시 빈 목록)
+    public List<String> topEmails(int limit) {
+        try {
+            Set<String> emails = stringRedisTemplate.opsForZSet().reverseRange(KEY, 0, limit - 1);
+            return emails != null ? List.copyOf(emails) : List.of();
+        } catch (RuntimeException e) {
+            log.warn("랭킹 리더보드 조회 실패", e);
+            return List.of();
+        }
+    }
+
+    // ZADD GT: 없는 회원은 추가, 있는 회원은 새 점수가 더 클 때만 갱신 (배치 간 순서가 바뀐 오래된 이벤트 무시)
+    private void addIfGreater(Set<Tuple> tuples) {
+        stringRedisTemplate.execute((RedisCallback<Long>) connection ->
+                connection.zSetCommands().zAdd(RAW_KEY, tuples, ZAddArgs.empty().gt()));
+    }
+
+    private static Tuple tuple(String email, int hours) {
+        return new DefaultTuple(email.getBytes(StandardCharsets.UTF_8), (double) hours);
+    }
+
+    private RankChangedEvent read(OutboxRecord record) {
+        try {
+            return objectMapper.readValue(record.payload(), RankChangedEvent.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("랭킹 변경 이벤트 역직렬화 실패: " + record.recordId(), e);
+        }
+    }
+}
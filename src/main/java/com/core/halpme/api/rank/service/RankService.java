@@ -4,19 +4,31 @@ import com.core.halpme.api.members.entity.Member;
 import com.core.halpme.api.post.entity.Post;
 import com.core.halpme.api.post.entity.PostStatus;
 import com.core.halpme.api.rank.entity.Rank;
+import com.core.halpme.api.rank.event.RankChangedEvent;
 import com.core.halpme.api.rank.repository.RankRepository;
 import com.core.halpme.common.exception.NotFoundException;
 import com.core.halpme.common.response.ErrorStatus;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class RankService {
+
+    private static final int TOP_SIZE = 10;
+
     private final RankRepository rankRepository;
+    private final RankLeaderboard rankLeaderboard;
+    private final ApplicationEventPublisher eventPublisher;
 
     //봉사 기록 갱신
     @Transactional
@@ -30,6 +42,9 @@ public class RankService {
 
         rank.updateVolunteerRecord(hours);
         rankRepository.save(rank);
+
+        // 리더보드는 아웃박스 이벤트로 요청 트랜잭션 밖에서 갱신
+        eventPublisher.publishEvent(new RankChangedEvent(volunteer.getEmail(), rank.getTotalVolunteerHours()));
     }
 
     //유저 총 봉사시간 조회
@@ -40,11 +55,24 @@ public class RankService {
                 .orElseThrow(() -> new NotFoundException(ErrorStatus.NOT_FOUND_USER.getMessage()));
     }
 
-    //랭킹 조회
+    //랭킹 조회 (Redis 리더보드 순위 기준, 리더보드가 비었거나 장애 시 DB 정렬 조회)
+    //회원까지 함께 조회해 트랜잭션 밖(홈 화면 가상 스레드 등)에서도 닉네임 접근 가능
     @Transactional(readOnly = true)
     public List<Rank> getToRanks() {
 
-        return rankRepository.findTop10ByOrderByTotalVolunteerHoursDesc();
+        List<String> emails = rankLeaderboard.topEmails(TOP_SIZE);
+        if (emails.isEmpty()) {
+            return rankRepository.findTopWithMember(PageRequest.of(0, TOP_SIZE));
+        }
+
+        Map<String, Rank> ranksByEmail = rankRepository.findAllWithMemberByMemberEmailIn(emails).stream()
+                .collect(Collectors.toMap(rank -> rank.getMember().getEmail(), Function.identity()));
+
+        // 리더보드 순서 유지 (탈퇴 회원 제외)
+        return emails.stream()
+                .map(ranksByEmail::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 
 }
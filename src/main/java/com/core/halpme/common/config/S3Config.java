@@ -1,5 +1,7 @@
 package com.core.halpme.common.config;
 
+import com.core.halpme.common.metrics.S3MetricsInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -15,11 +17,12 @@ public class S3Config {
     private String region;
 
     @Bean
-    public S3Client s3Client() {
+    public S3Client s3Client(MeterRegistry meterRegistry) {
 
         return S3Client.builder()
                 .region(Region.of(region))
                 .credentialsProvider(DefaultCredentialsProvider.create())
+                .overrideConfiguration(config -> config.addExecutionInterceptor(new S3MetricsInterceptor(meterRegistry)))
                 .build();
     }
 }
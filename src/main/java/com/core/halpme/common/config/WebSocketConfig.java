@@ -1,35 +1,154 @@
 package com.core.halpme.common.config;
 
+import com.core.halpme.api.chat.auth.StompErrorHandler;
 import com.core.halpme.api.chat.auth.StompHandler;
+import com.core.halpme.api.chat.auth.StompRateLimitInterceptor;
+import com.core.halpme.api.chat.messaging.CborPayloadCodec;
+import com.core.halpme.api.chat.messaging.CompactPayloadInterceptor;
+import com.core.halpme.api.chat.messaging.OutboundBackpressureInterceptor;
+import com.core.halpme.api.chat.messaging.PayloadFormat;
 import com.core.halpme.api.members.jwt.JwtTokenProvider;
+import com.core.halpme.common.datasource.ChatWorkloadInterceptor;
+import com.core.halpme.common.metrics.SqlStatementBudget;
+import com.core.halpme.common.metrics.StompMetricsInterceptor;
+import com.core.halpme.common.metrics.WebSocketSessionMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.converter.MessageConverter;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.web.socket.WebSocketExtension;
+import org.springframework.web.socket.WebSocketHandler;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+import org.springframework.web.socket.server.support.DefaultHandshakeHandler;
+
+import java.util.List;
+import java.util.Map;
 
 @Configuration
 @EnableWebSocketMessageBroker //STOMP기반의 WebSocket 메시징 기능 활성화
+@PropertySource("classpath:websocket.properties")
 @RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private static final String PERMESSAGE_DEFLATE = "permessage-deflate";
+
     private final StompHandler stompHandler;
+    private final StompRateLimitInterceptor stompRateLimitInterceptor;
+    private final StompErrorHandler stompErrorHandler;
     private final JwtTokenProvider jwtTokenProvider;
+    private final MeterRegistry meterRegistry;
+    private final SqlStatementBudget sqlStatementBudget;
+    private final CompactPayloadInterceptor compactPayloadInterceptor;
+    private final OutboundBackpressureInterceptor outboundBackpressureInterceptor;
+    private final CborPayloadCodec cborPayloadCodec;
+    private final ChatWorkloadInterceptor chatWorkloadInterceptor;
+
+    @Value("${websocket.transport.permessage-deflate:true}")
+    private boolean permessageDeflate;
+
+    @Value("${websocket.transport.message-size-limit:65536}")
+    private int messageSizeLimit;
+
+    @Value("${websocket.transport.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
+
+    @Value("${websocket.transport.send-time-limit-ms:10000}")
+    private int sendTimeLimitMs;
+
+    @Value("${websocket.transport.time-to-first-message-ms:30000}")
+    private int timeToFirstMessageMs;
+
+    @Value("${websocket.heartbeat.server-ms:10000}")
+    private long serverHeartbeatMs;
+
+    @Value("${websocket.heartbeat.client-ms:10000}")
+    private long clientHeartbeatMs;
+
+    @Value("${websocket.heartbeat.pool-size:2}")
+    private int heartbeatPoolSize;
+
+    @Value("${websocket.sockjs.enabled:true}")
+    private boolean sockJsEnabled;
+
+    @Value("${websocket.sockjs.heartbeat-time-ms:25000}")
+    private long sockJsHeartbeatTimeMs;
+
+    @Value("${websocket.sockjs.disconnect-delay-ms:5000}")
+    private long sockJsDisconnectDelayMs;
+
+    @Value("${websocket.sockjs.stream-bytes-limit:131072}")
+    private int sockJsStreamBytesLimit;
+
+    @Value("${websocket.sockjs.http-message-cache-size:100}")
+    private int sockJsHttpMessageCacheSize;
 
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
 
-        registry.addEndpoint("/chat/inbox") // 클라이언트가 웹소켓 연결을 할 엔드포인트
+        DeflateAwareHandshakeHandler handshakeHandler = new DeflateAwareHandshakeHandler(permessageDeflate);
+
+        // 발행 속도 제한 등 클라이언트 메시지 처리 오류를 ERROR 프레임으로 변환
+        registry.setErrorHandler(stompErrorHandler);
+
+        // SockJS 없는 네이티브 WebSocket 엔드포인트 (클라이언트는 여기부터 시도, 바이너리 프레임 필요한 CBOR 인코딩은 여기서만 가능)
+        registry.addEndpoint("/chat/ws")
                 .setAllowedOriginPatterns("*")
-                .withSockJS();
+                .setHandshakeHandler(handshakeHandler)
+                .addInterceptors(new NativeWebSocketHandshakeInterceptor());
+
+        if (!sockJsEnabled) {
+            return;
+        }
+
+        registry.addEndpoint("/chat/inbox") // 네이티브 WebSocket 을 쓸 수 없는 환경용 SockJS 폴백 엔드포인트
+                .setAllowedOriginPatterns("*")
+                .setHandshakeHandler(handshakeHandler)
+                .withSockJS()
+                .setHeartbeatTime(sockJsHeartbeatTimeMs)
+                .setDisconnectDelay(sockJsDisconnectDelayMs)
+                .setStreamBytesLimit(sockJsStreamBytesLimit)
+                .setHttpMessageCacheSize(sockJsHttpMessageCacheSize);
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setMessageSizeLimit(messageSizeLimit)
+                .setSendBufferSizeLimit(sendBufferSizeLimit)
+                .setSendTimeLimit(sendTimeLimitMs)
+                .setTimeToFirstMessage(timeToFirstMessageMs)
+                .addDecoratorFactory(handler -> new WebSocketSessionMetrics(handler, meterRegistry))
+                .addDecoratorFactory(outboundBackpressureInterceptor::decorate);
+    }
+
+    // 하트비트 전용 스케줄러 (브로커 내부 작업과 분리)
+    @Bean
+    public ThreadPoolTaskScheduler stompHeartbeatScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(heartbeatPoolSize);
+        scheduler.setThreadNamePrefix("stomp-heartbeat-");
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
     }
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
         // to subscriber
-        registry.enableSimpleBroker("/sub"); //채널 구독 경로
+        registry.enableSimpleBroker("/sub") //채널 구독 경로
+                .setHeartbeatValue(new long[]{serverHeartbeatMs, clientHeartbeatMs})
+                .setTaskScheduler(stompHeartbeatScheduler());
 
         // publish
         registry.setApplicationDestinationPrefixes("/pub"); //클라이언트 -> 서버로의 메시지 전송 경로
@@ -37,6 +156,62 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
-        registration.interceptors(stompHandler);
+        registration.interceptors(stompHandler, stompRateLimitInterceptor, chatWorkloadInterceptor,
+                new StompMetricsInterceptor(meterRegistry, sqlStatementBudget, "inbound"));
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        // 적재 한도 검사/read-status 병합을 먼저 거쳐 폐기될 메시지는 CBOR 변환하지 않음
+        registration.interceptors(outboundBackpressureInterceptor, compactPayloadInterceptor,
+                new StompMetricsInterceptor(meterRegistry, sqlStatementBudget, "outbound"));
+    }
+
+    // CBOR 페이로드(application/cbor)로 보낸 인바운드 메시지 변환 (기본 JSON 변환기는 유지)
+    @Override
+    public boolean configureMessageConverters(List<MessageConverter> messageConverters) {
+        messageConverters.add(new MappingJackson2MessageConverter(cborPayloadCodec.mapper(), PayloadFormat.CBOR.getMimeType()));
+        return true;
+    }
+
+    // permessage-deflate 비활성화 시 클라이언트가 요청해도 협상에서 제외 (Tomcat 은 기본적으로 항상 수락)
+    private static class DeflateAwareHandshakeHandler extends DefaultHandshakeHandler {
+
+        private final boolean permessageDeflate;
+
+        private DeflateAwareHandshakeHandler(boolean permessageDeflate) {
+            this.permessageDeflate = permessageDeflate;
+        }
+
+        @Override
+        protected List<WebSocketExtension> filterRequestedExtensions(ServerHttpRequest request,
+                                                                     List<WebSocketExtension> requestedExtensions,
+                                                                     List<WebSocketExtension> supportedExtensions) {
+
+            List<WebSocketExtension> extensions = super.filterRequestedExtensions(request, requestedExtensions, supportedExtensions);
+
+            if (permessageDeflate) {
+                return extensions;
+            }
+
+            return extensions.stream()
+                    .filter(extension -> !PERMESSAGE_DEFLATE.equalsIgnoreCase(extension.getName()))
+                    .toList();
+        }
+    }
+
+    private static class NativeWebSocketHandshakeInterceptor implements HandshakeInterceptor {
+
+        @Override
+        public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                       WebSocketHandler wsHandler, Map<String, Object> attributes) {
+            attributes.put(StompHandler.NATIVE_WEBSOCKET_ATTRIBUTE, true);
+            return true;
+        }
+
+        @Override
+        public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                   WebSocketHandler wsHandler, Exception exception) {
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,50 @@
+package com.core.halpme.common.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * STOMP 인바운드 메시지 처리 스레드를 채팅 작업으로 표시 (chat 커넥션 풀 사용)
+ * 처리가 끝났는데 스레드에 트랜잭션/커넥션 리소스가 남아 있으면 누수로 보고 경고 로그 + datasource.chat.thread.leaks 메트릭
+ * (풀 스레드가 재사용되면서 다음 메시지가 남은 트랜잭션에 참여하는 것을 추적)
+ */
+@Slf4j
+@Component
+public class ChatWorkloadInterceptor implements ExecutorChannelInterceptor {
+
+    private final Counter leaks;
+
+    public ChatWorkloadInterceptor(MeterRegistry meterRegistry) {
+        this.leaks = Counter.builder("datasource.chat.thread.leaks")
+                .description("처리 후 트랜잭션/커넥션 리소스가 남은 STOMP 메시지 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+        DataSourceWorkload.enterChat();
+        return message;
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+
+        DataSourceWorkload.exit();
+
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.getResourceMap().isEmpty()) {
+            leaks.increment();
+            log.warn("STOMP 메시지 처리 후 스레드에 남은 트랜잭션 리소스 [{}] {}",
+                    SimpMessageHeaderAccessor.getDestination(message.getHeaders()),
+                    TransactionSynchronizationManager.getResourceMap().keySet());
+        }
+    }
+}
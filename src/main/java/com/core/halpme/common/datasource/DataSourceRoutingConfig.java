@@ -0,0 +1,185 @@
+package com.core.halpme.common.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 작업별 커넥션 풀 분리(bulkhead)와 읽기 전용 트랜잭션 복제본 라우팅 (둘 중 하나라도 켜면 적용, 기본은 spring.datasource 단일 풀)
+ * - primary 풀: spring.datasource(.hikari) 설정 그대로 (REST 쓰기, 아웃박스 등 나머지 전부)
+ * - chat 풀: 채팅 작업 스레드 전용, 짧은 대기 시간 + 커넥션 누수 감지 (datasource.bulkhead.enabled=true 일 때만)
+ * - read 풀: 채팅 외 읽기 전용 트랜잭션, 복제본 라우팅 시 복제본을 쓸 수 없을 때만 (datasource.bulkhead.enabled=true 일 때만)
+ * - 복제본 풀: datasource.replica.enabled=true 일 때만
+ * bulkhead 를 끄고 복제본만 켜면 chat/read 자리는 primary 풀이 대신함
+ * bulkhead 를 켜면 인스턴스당 MySQL 커넥션이 primary + chat + read (+ 복제본은 복제본 서버에) 까지 늘어남
+ * - 인스턴스 수 x (primary + chat + read) 가 MySQL max_connections 를 넘지 않게 풀 크기를 나눠 잡을 것 (datasource.properties)
+ * 풀 메트릭은 hikaricp.connections.* (pool 태그 = 풀 이름)
+ */
+@Configuration
+@ConditionalOnExpression("${datasource.bulkhead.enabled:false} or ${datasource.replica.enabled:false}")
+@PropertySource("classpath:datasource.properties")
+public class DataSourceRoutingConfig {
+
+    @Value("${datasource.pool.chat.maximum-pool-size:10}")
+    private int chatMaximumPoolSize;
+
+    @Value("${datasource.pool.chat.connection-timeout-ms:1000}")
+    private long chatConnectionTimeoutMs;
+
+    @Value("${datasource.pool.chat.leak-detection-threshold-ms:2000}")
+    private long chatLeakDetectionThresholdMs;
+
+    @Value("${datasource.pool.read.maximum-pool-size:20}")
+    private int readMaximumPoolSize;
+
+    @Value("${datasource.pool.read.connection-timeout-ms:3000}")
+    private long readConnectionTimeoutMs;
+
+    @Value("${datasource.replica.urls:}")
+    private List<String> replicaUrls;
+
+    @Value("${datasource.replica.username:}")
+    private String replicaUsername;
+
+    @Value("${datasource.replica.password:}")
+    private String replicaPassword;
+
+    @Value("${datasource.replica.maximum-pool-size:20}")
+    private int replicaMaximumPoolSize;
+
+    @Value("${datasource.replica.max-lag-seconds:3}")
+    private double maxLagSeconds;
+
+    @Value("${datasource.replica.lag-check-interval-ms:1000}")
+    private long lagCheckIntervalMs;
+
+    @Value("${datasource.replica.sticky-ms:5000}")
+    private long stickyMs;
+
+    @Value("${datasource.replica.max-sticky-members:100000}")
+    private int maxStickyMembers;
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        tune(dataSource);
+        return dataSource;
+    }
+
+    // 채팅 작업 스레드가 커넥션을 leak-detection-threshold 이상 잡고 있으면 빌린 스레드의 스택과 함께 경고 로그
+    @Bean
+    @ConditionalOnProperty(name = "datasource.bulkhead.enabled", havingValue = "true")
+    public HikariDataSource chatDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = pool("chat", properties.determineUrl(), properties.determineUsername(),
+                properties.determinePassword(), chatMaximumPoolSize);
+        dataSource.setConnectionTimeout(chatConnectionTimeoutMs);
+        dataSource.setLeakDetectionThreshold(chatLeakDetectionThresholdMs);
+        return dataSource;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "datasource.bulkhead.enabled", havingValue = "true")
+    public HikariDataSource readDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = pool("read", properties.determineUrl(), properties.determineUsername(),
+                properties.determinePassword(), readMaximumPoolSize);
+        dataSource.setConnectionTimeout(readConnectionTimeoutMs);
+        return dataSource;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+    public ReplicaSet replicaSet(DataSourceProperties properties, MeterRegistry meterRegistry) {
+
+        boolean ownAccount = StringUtils.hasText(replicaUsername);
+        List<HikariDataSource> replicas = new ArrayList<>();
+
+        for (String url : replicaUrls) {
+            if (!StringUtils.hasText(url)) {
+                continue;
+            }
+
+            HikariDataSource replica = pool("replica-" + replicas.size(), url.trim(),
+                    ownAccount ? replicaUsername : properties.determineUsername(),
+                    ownAccount ? replicaPassword : properties.determinePassword(), replicaMaximumPoolSize);
+            replica.setReadOnly(true);
+            // 빈으로 등록하지 않는 풀이므로 메트릭 직접 연결
+            replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            replicas.add(replica);
+        }
+
+        if (replicas.isEmpty()) {
+            throw new IllegalStateException("datasource.replica.urls 에 복제본 JDBC URL 이 없습니다.");
+        }
+
+        return new ReplicaSet(replicas, maxLagSeconds, lagCheckIntervalMs, meterRegistry);
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker() {
+        return new ReadYourWritesTracker(stickyMs, maxStickyMembers);
+    }
+
+    // JPA, JdbcTemplate, 트랜잭션 매니저가 사용하는 기본 DataSource (chat/read 풀이 없으면 primary 풀로 대신)
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("chatDataSource") ObjectProvider<DataSource> chatDataSource,
+                                 @Qualifier("readDataSource") ObjectProvider<DataSource> readDataSource,
+                                 ObjectProvider<ReplicaSet> replicaSet,
+                                 ReadYourWritesTracker readYourWritesTracker, MeterRegistry meterRegistry) {
+        return new LazyConnectionDataSourceProxy(new WorkloadRoutingDataSource(primaryDataSource,
+                chatDataSource.getIfAvailable(() -> primaryDataSource),
+                readDataSource.getIfAvailable(() -> primaryDataSource),
+                replicaSet.getIfAvailable(), readYourWritesTracker, meterRegistry));
+    }
+
+    // 커넥션을 트랜잭션마다 새로 선택하도록 트랜잭션 종료 시 반납
+    // (기본값인 HOLD 는 open-in-view 세션이 앞선 트랜잭션의 커넥션을 다른 종류의 트랜잭션에 재사용)
+    @Bean
+    public HibernatePropertiesCustomizer releaseConnectionAfterTransactionCustomizer() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+
+    private static HikariDataSource pool(String name, String url, String username, String password, int maximumPoolSize) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(name);
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        dataSource.setMaximumPoolSize(maximumPoolSize);
+        tune(dataSource);
+        return dataSource;
+    }
+
+    // MySQL Connector/J prepared statement 캐시 (풀 커넥션마다 같은 SQL 재파싱 방지)
+    // JDBC 배치 insert 를 다중 행 INSERT 한 문장으로 재작성 (Hibernate 배치가 왕복 1회로 전송됨)
+    private static void tune(HikariDataSource dataSource) {
+        dataSource.getDataSourceProperties().putIfAbsent("cachePrepStmts", "true");
+        dataSource.getDataSourceProperties().putIfAbsent("prepStmtCacheSize", "250");
+        dataSource.getDataSourceProperties().putIfAbsent("prepStmtCacheSqlLimit", "2048");
+        dataSource.getDataSourceProperties().putIfAbsent("rewriteBatchedStatements", "true");
+    }
+}
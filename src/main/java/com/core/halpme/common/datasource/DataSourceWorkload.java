@@ -0,0 +1,38 @@
+package com.core.halpme.common.datasource;
+
+/**
+ * 현재 스레드의 커넥션 풀 선택용 작업 구분
+ * 채팅 작업(STOMP 인바운드 메시지 처리, 읽음 처리 스레드)으로 표시된 스레드는 chat 풀만 사용
+ * -> 채팅 메시지가 몰려도 REST 조회/쓰기 풀의 커넥션을 잠식하지 않음
+ */
+public final class DataSourceWorkload {
+
+    private static final ThreadLocal<Boolean> CHAT = new ThreadLocal<>();
+
+    private DataSourceWorkload() {
+    }
+
+    public static void enterChat() {
+        CHAT.set(Boolean.TRUE);
+    }
+
+    public static void exit() {
+        CHAT.remove();
+    }
+
+    public static boolean isChat() {
+        return CHAT.get() != null;
+    }
+
+    // 채팅 작업 전용 스레드(ThreadFactory)용
+    public static Runnable chat(Runnable task) {
+        return () -> {
+            enterChat();
+            try {
+                task.run();
+            } finally {
+                exit();
+            }
+        };
+    }
+}
@@ -0,0 +1,47 @@
+package com.core.halpme.common.datasource;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 회원별 마지막 쓰기 커밋 이후 stickyMillis 동안 primary 읽기 유지 (read-your-writes)
+ * 항목 수가 maxMembers 를 넘으면 만료된 항목을 정리
+ */
+public class ReadYourWritesTracker {
+
+    private final long stickyMillis;
+    private final int maxMembers;
+
+    private final Map<String, Long> stickyUntil = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(long stickyMillis, int maxMembers) {
+        this.stickyMillis = stickyMillis;
+        this.maxMembers = maxMembers;
+    }
+
+    public void markWritten(String member) {
+
+        long now = System.currentTimeMillis();
+
+        if (stickyUntil.size() > maxMembers) {
+            stickyUntil.values().removeIf(until -> until <= now);
+        }
+
+        stickyUntil.put(member, now + stickyMillis);
+    }
+
+    public boolean isSticky(String member) {
+
+        Long until = stickyUntil.get(member);
+        if (until == null) {
+            return false;
+        }
+
+        if (until <= System.currentTimeMillis()) {
+            stickyUntil.remove(member, until);
+            return false;
+        }
+
+        return true;
+    }
+}
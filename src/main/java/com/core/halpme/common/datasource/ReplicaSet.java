@@ -0,0 +1,119 @@
+package com.core.halpme.common.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 복제본 커넥션 풀 묶음
+ * lagCheckIntervalMs 마다 SHOW REPLICA STATUS 로 복제 지연을 확인해 maxLagSeconds 이하인 복제본만 라운드 로빈으로 사용
+ * 복제가 멈췄거나(Seconds_Behind_Source = NULL) 연결할 수 없는 복제본은 다음 확인까지 제외
+ * 복제 설정이 없는 인스턴스(로컬 테스트용 읽기 인스턴스)는 지연 0 으로 간주
+ */
+@Slf4j
+public class ReplicaSet implements AutoCloseable {
+
+    private final List<Replica> replicas;
+    private final double maxLagSeconds;
+    private final ScheduledExecutorService scheduler;
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    private static final class Replica {
+
+        private final HikariDataSource dataSource;
+        private volatile double lagSeconds;
+        private volatile boolean available;
+
+        private Replica(HikariDataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+    }
+
+    public ReplicaSet(List<HikariDataSource> dataSources, double maxLagSeconds, long lagCheckIntervalMs,
+                      MeterRegistry meterRegistry) {
+        this.replicas = dataSources.stream().map(Replica::new).toList();
+        this.maxLagSeconds = maxLagSeconds;
+
+        for (Replica replica : replicas) {
+            Gauge.builder("datasource.replica.lag", replica, r -> r.available ? r.lagSeconds : Double.NaN)
+                    .description("복제본 복제 지연(초), 제외된 복제본은 NaN")
+                    .baseUnit("seconds")
+                    .tag("replica", replica.dataSource.getPoolName())
+                    .register(meterRegistry);
+        }
+
+        // 기동 직후부터 라우팅할 수 있도록 첫 확인은 동기로 수행
+        checkAll();
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::checkAll, lagCheckIntervalMs, lagCheckIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    // 사용 가능한 복제본이 없으면 null
+    public DataSource next() {
+
+        int size = replicas.size();
+        int start = Math.floorMod(cursor.getAndIncrement(), size);
+
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.available) {
+                return replica.dataSource;
+            }
+        }
+
+        return null;
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        replicas.forEach(replica -> replica.dataSource.close());
+    }
+
+    private void checkAll() {
+        replicas.forEach(this::check);
+    }
+
+    private void check(Replica replica) {
+
+        boolean wasAvailable = replica.available;
+
+        try (Connection connection = replica.dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SHOW REPLICA STATUS")) {
+
+            if (resultSet.next()) {
+                long lag = resultSet.getLong("Seconds_Behind_Source");
+                replica.available = !resultSet.wasNull() && lag <= maxLagSeconds;
+                replica.lagSeconds = lag;
+            } else {
+                replica.available = true;
+                replica.lagSeconds = 0;
+            }
+        } catch (Exception e) {
+            replica.available = false;
+            log.debug("복제본 상태 확인 실패 [{}]", replica.dataSource.getPoolName(), e);
+        }
+
+        if (wasAvailable != replica.available) {
+            log.warn("복제본 {} [{}] (지연 {}초)", replica.available ? "복귀" : "제외",
+                    replica.dataSource.getPoolName(), replica.lagSeconds);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.core.halpme.common.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 작업 종류와 트랜잭션 종류에 따라 커넥션 풀 선택
+ * - 채팅 작업 스레드(DataSourceWorkload): chat 풀
+ * - 읽기 전용 트랜잭션: 사용 가능한 복제본 (복제본이 없거나 모두 제외되면 read 풀)
+ * - 쓰기 가능 트랜잭션, 트랜잭션 밖: primary 풀
+ * - 인증된 회원이 쓰기 트랜잭션을 커밋하면 ReadYourWritesTracker 기간 동안 그 회원의 읽기는 복제본 대신 read 풀
+ * 트랜잭션 시작 시점에는 읽기 전용 여부가 아직 등록되지 않으므로 LazyConnectionDataSourceProxy 로 감싸서 사용
+ * (첫 SQL 실행 시점에 커넥션을 선택)
+ */
+public class WorkloadRoutingDataSource extends AbstractDataSource {
+
+    private final DataSource primary;
+    private final DataSource chat;
+    private final DataSource read;
+    private final ReplicaSet replicaSet;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final MeterRegistry meterRegistry;
+
+    // replicaSet 은 복제본 라우팅을 쓰지 않으면 null
+    public WorkloadRoutingDataSource(DataSource primary, DataSource chat, DataSource read, ReplicaSet replicaSet,
+                                     ReadYourWritesTracker readYourWritesTracker, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.chat = chat;
+        this.read = read;
+        this.replicaSet = replicaSet;
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return determineTarget().getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return determineTarget().getConnection(username, password);
+    }
+
+    private DataSource determineTarget() {
+
+        if (DataSourceWorkload.isChat()) {
+            return route(chat, "chat");
+        }
+
+        String member = currentMember();
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (replicaSet != null && member != null && TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        readYourWritesTracker.markWritten(member);
+                    }
+                });
+            }
+            return route(primary, "write");
+        }
+
+        if (replicaSet == null) {
+            return route(read, "read");
+        }
+
+        if (member != null && readYourWritesTracker.isSticky(member)) {
+            return route(read, "sticky");
+        }
+
+        DataSource replica = replicaSet.next();
+        return replica != null ? route(replica, "replica") : route(read, "fallback");
+    }
+
+    private DataSource route(DataSource target, String reason) {
+        meterRegistry.counter("datasource.routing", "reason", reason).increment();
+        return target;
+    }
+
+    private String currentMember() {
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return authentication.getName();
+        }
+
+        return null;
+    }
+}
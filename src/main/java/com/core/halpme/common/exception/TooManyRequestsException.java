@@ -0,0 +1,16 @@
+package com.core.halpme.common.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+@Getter
+public class TooManyRequestsException extends BaseException {
+
+  // 다음 요청이 가능해질 때까지 남은 시간 (ms)
+  private final long retryAfterMillis;
+
+  public TooManyRequestsException(String message, long retryAfterMillis) {
+    super(HttpStatus.TOO_MANY_REQUESTS, message);
+    this.retryAfterMillis = retryAfterMillis;
+  }
+}
@@ -0,0 +1,95 @@
+package com.core.halpme.common.id;
+
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.type.descriptor.jdbc.JdbcType;
+import org.hibernate.usertype.UserType;
+
+import java.io.Serializable;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Objects;
+
+/**
+ * 엔티티에서는 UUID 문자열(String), DB 에는 BINARY(16) 으로 저장하는 Hibernate 타입 (@Type(BinaryUuidType.class))
+ * 36자 VARCHAR 대비 PK/FK/보조 인덱스 키가 16바이트로 줄고 비교도 바이트 비교
+ * UUID 형식이 아닌 문자열은 어떤 행과도 일치하지 않는 값(0 16바이트)으로 바인딩 -> 조회 결과 없음으로 처리
+ * 네이티브 쿼리에서는 UUID_TO_BIN(:id) / BIN_TO_UUID(column) 로 변환
+ */
+public class BinaryUuidType implements UserType<String> {
+
+    private static final byte[] NO_MATCH = new byte[16];
+
+    @Override
+    public int getSqlType() {
+        return Types.BINARY;
+    }
+
+    @Override
+    public Class<String> returnedClass() {
+        return String.class;
+    }
+
+    @Override
+    public boolean equals(String x, String y) {
+        return Objects.equals(x, y);
+    }
+
+    @Override
+    public int hashCode(String x) {
+        return Objects.hashCode(x);
+    }
+
+    @Override
+    public String nullSafeGet(ResultSet rs, int position, SharedSessionContractImplementor session, Object owner)
+            throws SQLException {
+
+        byte[] bytes = rs.getBytes(position);
+        return bytes != null ? TimeOrderedUuids.fromBytes(bytes) : null;
+    }
+
+    @Override
+    public void nullSafeSet(PreparedStatement st, String value, int index, SharedSessionContractImplementor session)
+            throws SQLException {
+
+        if (value == null) {
+            st.setNull(index, Types.BINARY);
+            return;
+        }
+
+        st.setBytes(index, TimeOrderedUuids.isValid(value) ? TimeOrderedUuids.toBytes(value) : NO_MATCH);
+    }
+
+    @Override
+    public String deepCopy(String value) {
+        return value;
+    }
+
+    @Override
+    public boolean isMutable() {
+        return false;
+    }
+
+    @Override
+    public Serializable disassemble(String value) {
+        return value;
+    }
+
+    @Override
+    public String assemble(Serializable cached, Object owner) {
+        return (String) cached;
+    }
+
+    @Override
+    public String replace(String detached, String managed, Object owner) {
+        return detached;
+    }
+
+    // 조인 테이블 FK 컬럼까지 BINARY(16) 으로 생성
+    @Override
+    public long getDefaultSqlLength(Dialect dialect, JdbcType jdbcType) {
+        return 16;
+    }
+}
@@ -0,0 +1,93 @@
+package com.core.halpme.common.id;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+import java.net.Inet4Address;
+import java.net.InetAddress;
+import java.net.NetworkInterface;
+import java.net.SocketException;
+import java.util.Collections;
+
+/**
+ * Snowflake ID 노드 설정과 Hibernate JDBC 배치 설정
+ * 서버 인스턴스마다 id.snowflake.node-id 를 다르게 지정 (0 ~ 30, 31 은 오프라인 작업용), 지정하지 않으면 기동 실패
+ * 로컬 개발에서만 id.snowflake.allow-address-fallback=true 로 사설 IPv4 주소 마지막 옥텟 % 31 사용 가능
+ * (다른 인스턴스와 값이 겹치면 같은 ID 를 발급하므로 운영에서는 사용 금지)
+ */
+@Slf4j
+@Configuration
+@PropertySource("classpath:id.properties")
+public class IdGenerationConfig {
+
+    @Value("${id.snowflake.node-id:-1}")
+    private int nodeId;
+
+    @Value("${id.snowflake.allow-address-fallback:false}")
+    private boolean allowAddressFallback;
+
+    @Value("${id.jdbc.batch-size:50}")
+    private int batchSize;
+
+    @Bean
+    public SnowflakeIdGenerator snowflakeIdGenerator() {
+
+        if (nodeId < 0 && !allowAddressFallback) {
+            throw new IllegalStateException("id.snowflake.node-id(SNOWFLAKE_NODE_ID) 미지정, 인스턴스마다 0 ~ "
+                    + (SnowflakeIdGenerator.OFFLINE_NODE_ID - 1) + " 중 서로 다른 값을 지정할 것");
+        }
+
+        int resolved = nodeId >= 0 ? nodeId : nodeIdFromAddress();
+        if (resolved >= SnowflakeIdGenerator.OFFLINE_NODE_ID) {
+            throw new IllegalStateException("id.snowflake.node-id 는 0 ~ " + (SnowflakeIdGenerator.OFFLINE_NODE_ID - 1)
+                    + " 범위여야 함: " + resolved);
+        }
+
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(resolved);
+        SnowflakeIdGenerator.install(generator);
+
+        log.info("Snowflake ID 노드 {}{}", resolved, nodeId >= 0 ? "" : " (개발용 IP 주소 대체값, 다른 인스턴스와 겹칠 수 있음)");
+        return generator;
+    }
+
+    // 첫 insert 전에 노드가 설정되도록 EntityManagerFactory 보다 먼저 생성
+    @Bean
+    public static EntityManagerFactoryDependsOnPostProcessor snowflakeIdGeneratorDependsOn() {
+        return new EntityManagerFactoryDependsOnPostProcessor("snowflakeIdGenerator");
+    }
+
+    // ID 를 미리 정하는 엔티티는 같은 테이블 insert 를 모아 한 번에 전송 (application.yml 값이 있으면 우선)
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchCustomizer() {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+            properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+            properties.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+        };
+    }
+
+    private static int nodeIdFromAddress() {
+        try {
+            for (NetworkInterface networkInterface : Collections.list(NetworkInterface.getNetworkInterfaces())) {
+                if (networkInterface.isLoopback() || !networkInterface.isUp()) {
+                    continue;
+                }
+                for (InetAddress address : Collections.list(networkInterface.getInetAddresses())) {
+                    if (address instanceof Inet4Address && address.isSiteLocalAddress()) {
+                        byte[] octets = address.getAddress();
+                        return (octets[3] & 0xff) % SnowflakeIdGenerator.OFFLINE_NODE_ID;
+                    }
+                }
+            }
+        } catch (SocketException e) {
+            log.warn("네트워크 인터페이스 조회 실패, Snowflake 노드 0 사용", e);
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,18 @@
+package com.core.halpme.common.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Long @Id 를 SnowflakeIdGenerator 로 채움 (@GeneratedValue(IDENTITY) 대신 사용)
+ * persist 시점에 ID 가 정해지고 insert 는 flush 때 배치로 실행
+ */
+@IdGeneratorType(SnowflakeIdentifierGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface SnowflakeId {
+}
@@ -0,0 +1,147 @@
+package com.core.halpme.common.id;
+
+import java.time.Instant;
+import java.util.function.LongSupplier;
+
+/**
+ * 시간 순 64비트 ID 생성기 (Snowflake 변형)
+ * [타임스탬프 40비트: EPOCH 이후 ms (약 34년)][노드 5비트][시퀀스 8비트] = 53비트
+ * - JS Number 안전 정수 범위(2^53) 안이라 JSON 숫자로 그대로 내려도 클라이언트에서 값이 바뀌지 않음
+ * - 같은 노드에서는 단조 증가, 노드 간에도 ms 단위 시각 순 -> PK B-tree 오른쪽 끝에만 삽입 (UUID 처럼 페이지 분할 X)
+ * - DB 왕복 없이 애플리케이션에서 ID 를 정하므로 Hibernate insert 배치 가능 (IDENTITY 는 배치 불가)
+ * 노드당 ms 당 256개까지, 소진하면 다음 ms 까지 대기
+ * 시계가 뒤로 가면 MAX_BACKWARD_MILLIS 까지는 따라잡을 때까지 대기, 그 이상이면 중복 ID 를 막기 위해 예외
+ */
+public final class SnowflakeIdGenerator {
+
+    public static final long EPOCH_MILLIS = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+
+    static final int TIMESTAMP_BITS = 40;
+    static final int NODE_BITS = 5;
+    static final int SEQUENCE_BITS = 8;
+
+    public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+    // 시드/백필 같은 오프라인 작업 전용 노드 (서버 인스턴스는 0 ~ MAX_NODE_ID - 1)
+    public static final int OFFLINE_NODE_ID = MAX_NODE_ID;
+
+    private static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+    private static final long MAX_TIMESTAMP = (1L << TIMESTAMP_BITS) - 1;
+    private static final long MAX_BACKWARD_MILLIS = 10;
+
+    private static volatile SnowflakeIdGenerator shared;
+
+    private final long nodeId;
+    private final LongSupplier clock;
+
+    private long lastTimestamp = -1;
+    private long sequence;
+    // reserveBlock 으로 예약한 마지막 ms (이후 ID 는 이 시각 다음부터)
+    private long reservedUntil = -1;
+
+    public SnowflakeIdGenerator(int nodeId) {
+        this(nodeId, System::currentTimeMillis);
+    }
+
+    SnowflakeIdGenerator(int nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("노드 ID 범위 초과 (0 ~ " + MAX_NODE_ID + "): " + nodeId);
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+    }
+
+    /**
+     * Hibernate ID 생성기가 사용하는 프로세스 공용 생성기 (IdGenerationConfig 가 설정한 노드)
+     * 설치 전에 호출하면 노드가 겹칠 수 있는 기본값 대신 예외
+     */
+    public static SnowflakeIdGenerator shared() {
+        SnowflakeIdGenerator generator = shared;
+        if (generator == null) {
+            throw new IllegalStateException("Snowflake ID 생성기가 설치되지 않음 (IdGenerationConfig, id.snowflake.node-id 확인)");
+        }
+        return generator;
+    }
+
+    static synchronized void install(SnowflakeIdGenerator generator) {
+        shared = generator;
+    }
+
+    public synchronized long nextId() {
+
+        long timestamp = currentTimestamp();
+
+        if (timestamp < lastTimestamp) {
+            if (lastTimestamp - timestamp > MAX_BACKWARD_MILLIS) {
+                throw new IllegalStateException("시계가 " + (lastTimestamp - timestamp) + "ms 뒤로 이동하여 ID 생성 중단");
+            }
+            timestamp = waitUntil(lastTimestamp);
+        }
+
+        if (timestamp == lastTimestamp) {
+            sequence = (sequence + 1) & MAX_SEQUENCE;
+            if (sequence == 0) {
+                timestamp = waitUntil(lastTimestamp + 1);
+            }
+        } else {
+            sequence = 0;
+        }
+
+        lastTimestamp = timestamp;
+        return compose(timestamp - EPOCH_MILLIS, nodeId, sequence);
+    }
+
+    /**
+     * count 개 ID 블록 예약 (대량 적재용, 채번 호출 없이 blockId(first, index) 로 index 번째 ID 계산)
+     * 블록이 차지하는 ms 구간(count / 256 ms)은 이 생성기에서 다시 발급하지 않음
+     */
+    public synchronized long reserveBlock(long count) {
+
+        long start = Math.max(currentTimestamp(), lastTimestamp + 1);
+        reservedUntil = start + Math.max(1, (count + MAX_SEQUENCE) / (MAX_SEQUENCE + 1)) - 1;
+
+        return compose(start - EPOCH_MILLIS, nodeId, 0);
+    }
+
+    public static long blockId(long first, long index) {
+        return first + ((index >>> SEQUENCE_BITS) << (NODE_BITS + SEQUENCE_BITS)) + (index & MAX_SEQUENCE);
+    }
+
+    public int nodeId() {
+        return (int) nodeId;
+    }
+
+    /**
+     * 해당 시각 이후에 생성된 모든 ID 보다 작거나 같은 값 (시각 기준 범위 조건, 파티션 경계용)
+     */
+    public static long lowestIdAt(Instant instant) {
+        return compose(Math.max(0, instant.toEpochMilli() - EPOCH_MILLIS), 0, 0);
+    }
+
+    public static Instant timestampOf(long id) {
+        return Instant.ofEpochMilli((id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH_MILLIS);
+    }
+
+    public static int nodeOf(long id) {
+        return (int) ((id >>> SEQUENCE_BITS) & MAX_NODE_ID);
+    }
+
+    private static long compose(long elapsed, long nodeId, long sequence) {
+        if (elapsed > MAX_TIMESTAMP) {
+            throw new IllegalStateException("타임스탬프 비트 소진 (EPOCH 이후 " + elapsed + "ms)");
+        }
+        return (elapsed << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+    }
+
+    private long waitUntil(long target) {
+        long timestamp = currentTimestamp();
+        while (timestamp < target) {
+            Thread.onSpinWait();
+            timestamp = currentTimestamp();
+        }
+        return timestamp;
+    }
+
+    private long currentTimestamp() {
+        return Math.max(clock.getAsLong(), reservedUntil + 1);
+    }
+}
@@ -0,0 +1,30 @@
+package com.core.halpme.common.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 실행하는 SQL 수를 스레드 단위로 집계 (HTTP 요청, STOMP 메시지 처리 단위 측정용)
+ */
+public class HibernateStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNT = ThreadLocal.withInitial(() -> new int[1]);
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.get()[0]++;
+        return sql;
+    }
+
+    public static void reset() {
+        COUNT.get()[0] = 0;
+    }
+
+    public static int current() {
+        return COUNT.get()[0];
+    }
+
+    // 다른 스레드(가상 스레드 작업 등)에서 실행한 SQL 수를 현재 스레드 집계에 합산
+    public static void add(int statements) {
+        COUNT.get()[0] += statements;
+    }
+}
@@ -0,0 +1,64 @@
+package com.core.halpme.common.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * HTTP 요청 1건당 실행된 SQL 수를 엔드포인트별로 기록하고 예산 초과 여부 검사
+ * strict 모드 예외는 요청이 정상 처리된 경우에만 던짐 (이미 실패한 요청의 원래 예외를 가리지 않도록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+    private final SqlStatementBudget sqlStatementBudget;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        HibernateStatementCounter.reset();
+        boolean completed = false;
+
+        try {
+            filterChain.doFilter(request, response);
+            completed = true;
+        } finally {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+            int statements = HibernateStatementCounter.current();
+
+            DistributionSummary.builder("hibernate.statements.per.request")
+                    .description("HTTP 요청 1건당 실행된 SQL 수")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(statements);
+
+            String target = request.getMethod() + " " + uri;
+            if (completed) {
+                sqlStatementBudget.check(SqlStatementBudget.SCOPE_HTTP, target, statements);
+            } else {
+                try {
+                    sqlStatementBudget.check(SqlStatementBudget.SCOPE_HTTP, target, statements);
+                } catch (SqlStatementBudget.SqlBudgetExceededException e) {
+                    log.warn("요청 처리 실패로 SQL 예산 초과 예외 대신 원래 예외 전달 [{}]", target);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.core.halpme.common.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * HTTP 요청 / STOMP 메시지 1건당 SQL 실행 수 예산 검사 (N+1 감지)
+ * 예산 초과 시 경고 로그와 sql.budget.exceeded 메트릭을 남기고, strict 모드에서는 예외 발생
+ */
+@Slf4j
+@Component
+public class SqlStatementBudget {
+
+    public static final String SCOPE_HTTP = "http";
+    public static final String SCOPE_STOMP = "stomp";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${sql.budget.http:20}")
+    private int httpBudget;
+
+    @Value("${sql.budget.stomp:10}")
+    private int stompBudget;
+
+    // 테스트 환경에서 true 로 설정하면 예산 초과 시 SqlBudgetExceededException 발생
+    @Value("${sql.budget.strict:false}")
+    private boolean strict;
+
+    public SqlStatementBudget(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void check(String scope, String target, int statements) {
+
+        int budget = SCOPE_STOMP.equals(scope) ? stompBudget : httpBudget;
+        if (statements <= budget) {
+            return;
+        }
+
+        log.warn("SQL 실행 수 예산 초과 [{} {}] {}건 (예산 {}건)", scope, target, statements, budget);
+
+        Counter.builder("sql.budget.exceeded")
+                .description("SQL 실행 수 예산을 초과한 요청/메시지 수")
+                .tag("scope", scope)
+                .tag("target", target)
+                .register(meterRegistry)
+                .increment();
+
+        if (strict) {
+            throw new SqlBudgetExceededException(scope, target, statements, budget);
+        }
+    }
+
+    public static class SqlBudgetExceededException extends RuntimeException {
+
+        public SqlBudgetExceededException(String scope, String target, int statements, int budget) {
+            super(String.format("SQL 실행 수 예산 초과 [%s %s] %d건 (예산 %d건)", scope, target, statements, budget));
+        }
+    }
+}
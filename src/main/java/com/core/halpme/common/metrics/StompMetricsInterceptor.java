@@ -0,0 +1,91 @@
+package com.core.halpme.common.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.annotation.support.SimpAnnotationMethodMessageHandler;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+
+/**
+ * STOMP 채널 메시지 처리 시간 측정 (핸들러, 목적지별)
+ * 인바운드 @MessageMapping 처리 시에는 메시지 1건당 실행된 SQL 수도 함께 기록하고 예산 초과 여부 검사
+ */
+public class StompMetricsInterceptor implements ExecutorChannelInterceptor {
+
+    private final MeterRegistry meterRegistry;
+    private final SqlStatementBudget sqlStatementBudget;
+    private final String channelName;
+
+    // beforeHandle, afterMessageHandled 는 같은 executor 스레드에서 호출됨
+    private final ThreadLocal<Timer.Sample> sample = new ThreadLocal<>();
+
+    public StompMetricsInterceptor(MeterRegistry meterRegistry, SqlStatementBudget sqlStatementBudget, String channelName) {
+        this.meterRegistry = meterRegistry;
+        this.sqlStatementBudget = sqlStatementBudget;
+        this.channelName = channelName;
+    }
+
+    @Override
+    public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+
+        if (handler instanceof SimpAnnotationMethodMessageHandler) {
+            HibernateStatementCounter.reset();
+        }
+
+        sample.set(Timer.start(meterRegistry));
+        return message;
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+
+        Timer.Sample started = sample.get();
+        sample.remove();
+
+        if (started == null) {
+            return;
+        }
+
+        String destination = destinationTag(SimpMessageHeaderAccessor.getDestination(message.getHeaders()));
+
+        started.stop(Timer.builder("stomp.channel.handle")
+                .description("STOMP 채널 메시지 처리 시간")
+                .tag("channel", channelName)
+                .tag("handler", handler.getClass().getSimpleName())
+                .tag("destination", destination)
+                .tag("outcome", ex == null ? "SUCCESS" : "ERROR")
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+
+        if (handler instanceof SimpAnnotationMethodMessageHandler) {
+            int statements = HibernateStatementCounter.current();
+
+            DistributionSummary.builder("hibernate.statements.per.message")
+                    .description("STOMP 메시지 1건당 실행된 SQL 수")
+                    .tag("destination", destination)
+                    .register(meterRegistry)
+                    .record(statements);
+
+            sqlStatementBudget.check(SqlStatementBudget.SCOPE_STOMP, destination, statements);
+        }
+    }
+
+    // 채팅방 ID 등이 포함된 목적지는 태그 카디널리티를 막기 위해 앞 두 경로만 사용 (/sub/channel/123 -> /sub/channel/*)
+    static String destinationTag(String destination) {
+
+        if (destination == null) {
+            return "none";
+        }
+
+        String[] segments = destination.split("/");
+        if (segments.length <= 3) {
+            return destination;
+        }
+
+        return "/" + segments[1] + "/" + segments[2] + "/*";
+    }
+}
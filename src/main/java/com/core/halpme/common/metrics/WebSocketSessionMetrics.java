@@ -0,0 +1,56 @@
+package com.core.halpme.common.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.sockjs.transport.session.AbstractSockJsSession;
+
+/**
+ * WebSocket 세션 연결/종료 메트릭
+ * 연결 시 전송 방식(native, sockjs)과 permessage-deflate 협상 여부를, 종료 시 느린 소비자 강제 종료 여부를 기록
+ */
+@Slf4j
+public class WebSocketSessionMetrics extends WebSocketHandlerDecorator {
+
+    private static final String PERMESSAGE_DEFLATE = "permessage-deflate";
+
+    private final MeterRegistry meterRegistry;
+    private final Counter slowConsumerDisconnects;
+
+    public WebSocketSessionMetrics(WebSocketHandler delegate, MeterRegistry meterRegistry) {
+        super(delegate);
+        this.meterRegistry = meterRegistry;
+        this.slowConsumerDisconnects = Counter.builder("websocket.sessions.slow.consumer")
+                .description("송신 버퍼/시간 한도 초과로 종료된 세션 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+
+        boolean deflate = session.getExtensions().stream()
+                .anyMatch(extension -> PERMESSAGE_DEFLATE.equalsIgnoreCase(extension.getName()));
+
+        meterRegistry.counter("websocket.sessions.opened",
+                "transport", session instanceof AbstractSockJsSession ? "sockjs" : "native",
+                "deflate", String.valueOf(deflate)).increment();
+
+        super.afterConnectionEstablished(session);
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+
+        // ConcurrentWebSocketSessionDecorator 가 한도 초과 시 SESSION_NOT_RELIABLE 로 세션을 닫음
+        if (CloseStatus.SESSION_NOT_RELIABLE.equalsCode(closeStatus)) {
+            slowConsumerDisconnects.increment();
+            log.warn("느린 소비자 세션 종료. 세션 ID: {}", session.getId());
+        }
+
+        super.afterConnectionClosed(session, closeStatus);
+    }
+}
@@ -0,0 +1,22 @@
+package com.core.halpme.common.outbox;
+
+import java.util.List;
+
+/**
+ * 아웃박스 Redis Stream 소비자 (OutboxConsumerRunner 가 컨슈머 그룹으로 배치 전달)
+ * 전달은 최소 한 번이므로 같은 이벤트를 다시 받아도 결과가 같도록 구현
+ * 예외를 던지면 ACK 하지 않고, 일정 시간 뒤 다시 전달
+ */
+public interface OutboxConsumer {
+
+    String stream();
+
+    String group();
+
+    // true 면 서버 인스턴스마다 별도 그룹으로 모든 이벤트 수신 (인메모리 인덱스 등), false 면 인스턴스끼리 분담
+    default boolean broadcast() {
+        return false;
+    }
+
+    void consume(List<OutboxRecord> records);
+}
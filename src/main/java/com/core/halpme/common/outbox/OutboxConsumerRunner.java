@@ -0,0 +1,241 @@
+package com.core.halpme.common.outbox;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * OutboxConsumer 마다 전용 스레드에서 XREADGROUP 으로 배치를 읽어 전달하고, 처리에 성공한 배치만 ACK
+ * - 공유 그룹은 스트림 처음부터, broadcast 그룹은 인스턴스별로 만들어 기동 이후 이벤트부터 수신 (종료 시 그룹 삭제)
+ * - claim-idle-ms 동안 ACK 되지 않은 이벤트는 가져와 재처리하고, max-deliveries 를 넘은 이벤트는 로그 후 ACK
+ */
+@Slf4j
+@Component
+public class OutboxConsumerRunner {
+
+    private final List<OutboxConsumer> consumers;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final String consumerName = ManagementFactory.getRuntimeMXBean().getName();
+    private final List<Subscription> subscriptions = new ArrayList<>();
+
+    @Value("${outbox.consumer.batch-size:200}")
+    private int batchSize;
+
+    @Value("${outbox.consumer.block-ms:1000}")
+    private long blockMs;
+
+    @Value("${outbox.consumer.claim-idle-ms:60000}")
+    private long claimIdleMs;
+
+    @Value("${outbox.consumer.max-deliveries:5}")
+    private long maxDeliveries;
+
+    private volatile boolean running;
+    private ExecutorService executor;
+
+    private record Subscription(OutboxConsumer consumer, String stream, String group, ReadOffset initialOffset) {
+    }
+
+    public OutboxConsumerRunner(List<OutboxConsumer> consumers, StringRedisTemplate stringRedisTemplate,
+                                MeterRegistry meterRegistry) {
+        this.consumers = consumers;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+
+        if (consumers.isEmpty()) {
+            return;
+        }
+
+        for (OutboxConsumer consumer : consumers) {
+            String group = consumer.broadcast() ? consumer.group() + ":" + consumerName : consumer.group();
+            ReadOffset initialOffset = consumer.broadcast() ? ReadOffset.latest() : ReadOffset.from("0");
+            subscriptions.add(new Subscription(consumer, consumer.stream(), group, initialOffset));
+        }
+
+        AtomicInteger sequence = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(subscriptions.size(), runnable -> {
+            Thread thread = new Thread(runnable, "outbox-consumer-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        running = true;
+        subscriptions.forEach(subscription -> executor.submit(() -> poll(subscription)));
+    }
+
+    @PreDestroy
+    public void stop() {
+
+        running = false;
+
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+
+        for (Subscription subscription : subscriptions) {
+            if (subscription.consumer().broadcast()) {
+                try {
+                    streams().destroyGroup(subscription.stream(), subscription.group());
+                } catch (RuntimeException e) {
+                    log.warn("아웃박스 컨슈머 그룹 삭제 실패 ({} / {})", subscription.stream(), subscription.group(), e);
+                }
+            }
+        }
+    }
+
+    private void poll(Subscription subscription) {
+
+        long lastClaimAt = System.currentTimeMillis();
+        boolean groupCreated = false;
+
+        while (running) {
+            try {
+                // Redis 가 늦게 뜨거나 재시작되어도 다음 주기에 다시 시도
+                if (!groupCreated) {
+                    createGroup(subscription);
+                    groupCreated = true;
+                }
+
+                if (System.currentTimeMillis() - lastClaimAt >= claimIdleMs) {
+                    reclaim(subscription);
+                    lastClaimAt = System.currentTimeMillis();
+                }
+
+                List<MapRecord<String, Object, Object>> records = streams().read(
+                        Consumer.from(subscription.group(), consumerName),
+                        StreamReadOptions.empty().count(batchSize).block(Duration.ofMillis(blockMs)),
+                        StreamOffset.create(subscription.stream(), ReadOffset.lastConsumed()));
+
+                handle(subscription, records);
+            } catch (RuntimeException e) {
+                if (!running) {
+                    return;
+                }
+
+                if (isNoGroup(e)) {
+                    groupCreated = false;
+                }
+                meterRegistry.counter("outbox.consumer.failed", "group", subscription.consumer().group()).increment();
+                log.warn("아웃박스 이벤트 처리 실패 ({} / {})", subscription.stream(), subscription.group(), e);
+                pause();
+            }
+        }
+    }
+
+    private void handle(Subscription subscription, List<MapRecord<String, Object, Object>> records) {
+
+        if (records == null || records.isEmpty()) {
+            return;
+        }
+
+        subscription.consumer().consume(records.stream().map(this::toOutboxRecord).toList());
+
+        streams().acknowledge(subscription.stream(), subscription.group(),
+                records.stream().map(MapRecord::getId).toArray(RecordId[]::new));
+
+        meterRegistry.counter("outbox.consumer.processed", "group", subscription.consumer().group()).increment(records.size());
+    }
+
+    // 처리 도중 죽은 컨슈머나 실패한 배치의 미확인 이벤트를 가져와 재처리
+    private void reclaim(Subscription subscription) {
+
+        PendingMessages pending = streams().pending(subscription.stream(), subscription.group(), Range.unbounded(), batchSize);
+        List<RecordId> stale = new ArrayList<>();
+
+        for (PendingMessage message : pending) {
+            if (message.getElapsedTimeSinceLastDelivery().toMillis() < claimIdleMs) {
+                continue;
+            }
+
+            if (message.getTotalDeliveryCount() >= maxDeliveries) {
+                streams().acknowledge(subscription.stream(), subscription.group(), message.getId());
+                meterRegistry.counter("outbox.consumer.dead", "group", subscription.consumer().group()).increment();
+                log.error("아웃박스 이벤트 재처리 한도 초과로 폐기 ({} / {} / {})",
+                        subscription.stream(), subscription.group(), message.getIdAsString());
+                continue;
+            }
+
+            stale.add(message.getId());
+        }
+
+        if (!stale.isEmpty()) {
+            handle(subscription, streams().claim(subscription.stream(), subscription.group(), consumerName,
+                    Duration.ofMillis(claimIdleMs), stale.toArray(RecordId[]::new)));
+        }
+    }
+
+    private void createGroup(Subscription subscription) {
+        try {
+            streams().createGroup(subscription.stream(), subscription.initialOffset(), subscription.group());
+        } catch (RedisSystemException e) {
+            // 이미 있는 그룹이면 그대로 사용
+            if (!hasErrorCode(e, "BUSYGROUP")) {
+                throw e;
+            }
+        }
+    }
+
+    // 스트림/그룹이 지워진 경우 (Redis 초기화 등) 그룹부터 다시 생성
+    private boolean isNoGroup(RuntimeException e) {
+        return hasErrorCode(e, "NOGROUP");
+    }
+
+    private boolean hasErrorCode(Throwable e, String code) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause.getMessage() != null && cause.getMessage().contains(code)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private OutboxRecord toOutboxRecord(MapRecord<String, Object, Object> record) {
+        return new OutboxRecord(
+                record.getId().getValue(),
+                String.valueOf(record.getValue().get(OutboxRelay.FIELD_TYPE)),
+                String.valueOf(record.getValue().get(OutboxRelay.FIELD_AGGREGATE_ID)),
+                String.valueOf(record.getValue().get(OutboxRelay.FIELD_PAYLOAD)));
+    }
+
+    private StreamOperations<String, Object, Object> streams() {
+        return stringRedisTemplate.opsForStream();
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(1_000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
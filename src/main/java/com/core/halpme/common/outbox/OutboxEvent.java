@@ -0,0 +1,58 @@
+package com.core.halpme.common.outbox;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "outbox_events", indexes = {
+        // 미발행 이벤트를 id 순으로 가져오는 릴레이 조회용
+        @Index(name = "idx_outbox_events_published_at", columnList = "published_at, id")
+})
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    // 발행 대상 Redis Stream 키
+    @Column(name = "stream", nullable = false, length = 50)
+    private String stream;
+
+    // 이벤트 클래스 이름
+    @Column(name = "event_type", nullable = false, length = 50)
+    private String eventType;
+
+    @Column(name = "aggregate_id", nullable = false, length = 64)
+    private String aggregateId;
+
+    // 이벤트 JSON
+    @Lob
+    @Column(name = "payload", nullable = false)
+    private String payload;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    // Redis Stream 발행 시각 (null 이면 미발행)
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
+    public static OutboxEvent of(OutboxMessage message, String payload) {
+
+        OutboxEvent event = new OutboxEvent();
+        event.stream = message.stream();
+        event.eventType = message.getClass().getSimpleName();
+        event.aggregateId = message.aggregateId();
+        event.payload = payload;
+        event.createdAt = LocalDateTime.now();
+
+        return event;
+    }
+}
@@ -0,0 +1,29 @@
+package com.core.halpme.common.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 트랜잭션 안에서 발행된 OutboxMessage 를 커밋 직전 같은 트랜잭션으로 outbox_events 에 기록
+ * (도메인 변경과 이벤트 기록이 함께 커밋되거나 함께 롤백)
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxEventRecorder {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void record(OutboxMessage message) {
+        try {
+            outboxEventRepository.save(OutboxEvent.of(message, objectMapper.writeValueAsString(message)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("아웃박스 이벤트 직렬화 실패: " + message, e);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.core.halpme.common.outbox;
+
+/**
+ * 트랜잭션 아웃박스로 발행할 도메인 이벤트
+ * 트랜잭션 안에서 ApplicationEventPublisher 로 발행하면 커밋 직전 outbox_events 에 같은 트랜잭션으로 기록되고,
+ * OutboxRelay 가 stream() 이름의 Redis Stream 으로 전달
+ */
+public interface OutboxMessage {
+
+    // 발행 대상 Redis Stream 키
+    String stream();
+
+    // 이벤트 대상 식별자 (게시글 ID, 채팅방 ID 등)
+    String aggregateId();
+}
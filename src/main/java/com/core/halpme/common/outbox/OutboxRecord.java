@@ -0,0 +1,7 @@
+package com.core.halpme.common.outbox;
+
+/**
+ * Redis Stream 에서 읽은 아웃박스 이벤트
+ */
+public record OutboxRecord(String recordId, String eventType, String aggregateId, String payload) {
+}
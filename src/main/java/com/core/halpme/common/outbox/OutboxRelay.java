@@ -0,0 +1,175 @@
+package com.core.halpme.common.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * outbox_events 의 미발행 이벤트를 Redis Stream 으로 전달
+ * - batch-size 건씩 SKIP LOCKED 로 잠그고 XADD 를 파이프라인으로 보낸 뒤 같은 트랜잭션에서 발행 처리
+ *   (XADD 후 커밋 전에 실패하면 다음 주기에 다시 보내므로 소비자는 중복 수신 가능)
+ * - 스트림은 max-length 근처로 잘라내고, 보관 기간이 지난 발행 완료 이벤트는 주기적으로 삭제
+ */
+@Slf4j
+@Component
+@PropertySource("classpath:outbox.properties")
+public class OutboxRelay {
+
+    public static final String FIELD_TYPE = "type";
+    public static final String FIELD_AGGREGATE_ID = "aggregateId";
+    public static final String FIELD_PAYLOAD = "payload";
+
+    private static final int PURGE_BATCH_SIZE = 10_000;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Counter published;
+    private final Counter failed;
+
+    @Value("${outbox.relay.enabled:true}")
+    private boolean enabled;
+
+    @Value("${outbox.relay.poll-interval-ms:100}")
+    private long pollIntervalMs;
+
+    @Value("${outbox.relay.batch-size:500}")
+    private int batchSize;
+
+    @Value("${outbox.stream.max-length:100000}")
+    private long streamMaxLength;
+
+    @Value("${outbox.retention-hours:24}")
+    private long retentionHours;
+
+    private ScheduledExecutorService scheduler;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository, StringRedisTemplate stringRedisTemplate,
+                       PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.published = Counter.builder("outbox.relay.published")
+                .description("Redis Stream 으로 발행한 아웃박스 이벤트 수")
+                .register(meterRegistry);
+        this.failed = Counter.builder("outbox.relay.failed")
+                .description("아웃박스 릴레이 실패 횟수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+
+        if (!enabled) {
+            return;
+        }
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "outbox-relay");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::relayPending, pollIntervalMs, pollIntervalMs, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::purgePublished, 1, 10, TimeUnit.MINUTES);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+    }
+
+    // 밀린 이벤트가 있으면 배치가 가득 차지 않을 때까지 연속으로 발행
+    private void relayPending() {
+        try {
+            int relayed;
+            do {
+                relayed = relayBatch();
+            } while (relayed == batchSize);
+        } catch (RuntimeException e) {
+            failed.increment();
+            log.warn("아웃박스 릴레이 실패", e);
+        }
+    }
+
+    private int relayBatch() {
+
+        Integer relayed = transactionTemplate.execute(status -> {
+
+            List<OutboxEvent> events = outboxEventRepository.lockUnpublished(batchSize);
+            if (events.isEmpty()) {
+                return 0;
+            }
+
+            publish(events);
+            outboxEventRepository.markPublished(events.stream().map(OutboxEvent::getId).toList(), LocalDateTime.now());
+
+            return events.size();
+        });
+
+        published.increment(relayed);
+        return relayed;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void publish(List<OutboxEvent> events) {
+
+        stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+
+                RedisOperations<String, String> redis = (RedisOperations<String, String>) operations;
+
+                for (OutboxEvent event : events) {
+                    redis.opsForStream().add(StreamRecords.string(Map.of(
+                                    FIELD_TYPE, event.getEventType(),
+                                    FIELD_AGGREGATE_ID, event.getAggregateId(),
+                                    FIELD_PAYLOAD, event.getPayload()))
+                            .withStreamKey(event.getStream()));
+                }
+
+                return null;
+            }
+        });
+
+        Set<String> streams = events.stream().map(OutboxEvent::getStream).collect(Collectors.toSet());
+        streams.forEach(stream -> stringRedisTemplate.opsForStream().trim(stream, streamMaxLength, true));
+    }
+
+    private void purgePublished() {
+        try {
+            LocalDateTime before = LocalDateTime.now().minusHours(retentionHours);
+
+            int deleted;
+            do {
+                deleted = transactionTemplate.execute(status ->
+                        outboxEventRepository.deletePublishedBefore(before, PURGE_BATCH_SIZE));
+            } while (deleted == PURGE_BATCH_SIZE);
+        } catch (RuntimeException e) {
+            log.warn("발행 완료 아웃박스 이벤트 삭제 실패", e);
+        }
+    }
+}
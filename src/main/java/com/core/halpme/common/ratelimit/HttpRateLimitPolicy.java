@@ -0,0 +1,41 @@
+package com.core.halpme.common.ratelimit;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpMethod;
+
+/**
+ * 비용이 큰 HTTP 엔드포인트별 요청 제한 정책
+ * 기본값은 http.rate-limit.{name}.limit / window-seconds / max-concurrent 프로퍼티로 변경 가능
+ */
+@Getter
+@RequiredArgsConstructor
+public enum HttpRateLimitPolicy {
+
+    // BCrypt 검증 (로그인 시도 제한 겸용)
+    LOGIN("login", HttpMethod.POST, "/api/v1/auth/login", KeyType.IP, 10, 60, 8),
+    // BCrypt 해시 생성
+    SIGNUP("signup", HttpMethod.POST, "/api/v1/auth/signup", KeyType.IP, 5, 60, 4),
+    // 이미지 파일 스트리밍
+    S3_UPLOAD("s3-upload", HttpMethod.POST, "/api/v1/s3/upload", KeyType.MEMBER, 30, 60, 16),
+    // 호출당 게시글 500건 생성
+    DUMMY_POSTS("dummy-posts", HttpMethod.POST, "/api/v1/posts/dummy", KeyType.MEMBER, 2, 60, 1);
+
+    public enum KeyType {
+        // 인증된 회원 이메일 (비인증 요청은 IP)
+        MEMBER,
+        IP
+    }
+
+    private final String name;
+    private final HttpMethod method;
+    private final String pattern;
+    private final KeyType keyType;
+
+    // 윈도우당 허용 요청 수
+    private final long limit;
+    private final long windowSeconds;
+
+    // 서버 인스턴스당 동시 처리 수 (한 엔드포인트 폭주가 요청 스레드를 독점하지 않도록)
+    private final int maxConcurrent;
+}
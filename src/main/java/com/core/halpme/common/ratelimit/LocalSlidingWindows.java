@@ -0,0 +1,41 @@
+package com.core.halpme.common.ratelimit;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 키(회원 이메일, IP 등)별 인메모리 슬라이딩 윈도우
+ * 윈도우 수가 maxWindows 를 넘으면 비어 있는 윈도우를 정리
+ */
+public class LocalSlidingWindows {
+
+    private final long limit;
+    private final long windowMillis;
+    private final int maxWindows;
+
+    private final Map<String, SlidingWindowCounter> windows = new ConcurrentHashMap<>();
+
+    public LocalSlidingWindows(long limit, long windowMillis, int maxWindows) {
+        this.limit = limit;
+        this.windowMillis = windowMillis;
+        this.maxWindows = maxWindows;
+    }
+
+    // 허용되면 0, 한도를 넘으면 다시 요청할 수 있을 때까지 남은 시간(ms) 반환
+    public long tryAcquire(String key) {
+
+        if (windows.size() > maxWindows) {
+            windows.values().removeIf(SlidingWindowCounter::isIdle);
+        }
+
+        return windows.computeIfAbsent(key, k -> new SlidingWindowCounter(limit, windowMillis)).tryAcquire();
+    }
+
+    public long limit() {
+        return limit;
+    }
+
+    public long windowMillis() {
+        return windowMillis;
+    }
+}
@@ -0,0 +1,45 @@
+package com.core.halpme.common.ratelimit;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 키(세션 ID, 회원 이메일 등)별 인메모리 토큰 버킷
+ * 버킷 수가 maxBuckets 를 넘으면 다시 가득 찬(유휴) 버킷을 정리
+ */
+public class LocalTokenBuckets {
+
+    private final long capacity;
+    private final double refillPerSecond;
+    private final int maxBuckets;
+
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    public LocalTokenBuckets(long capacity, double refillPerSecond, int maxBuckets) {
+        this.capacity = capacity;
+        this.refillPerSecond = refillPerSecond;
+        this.maxBuckets = maxBuckets;
+    }
+
+    // 토큰을 얻으면 0, 부족하면 다음 토큰까지 남은 시간(ms) 반환
+    public long tryAcquire(String key) {
+
+        if (buckets.size() > maxBuckets) {
+            buckets.values().removeIf(TokenBucket::isFull);
+        }
+
+        return buckets.computeIfAbsent(key, k -> new TokenBucket(capacity, refillPerSecond)).tryAcquire();
+    }
+
+    public void remove(String key) {
+        buckets.remove(key);
+    }
+
+    public long capacity() {
+        return capacity;
+    }
+
+    public double refillPerSecond() {
+        return refillPerSecond;
+    }
+}
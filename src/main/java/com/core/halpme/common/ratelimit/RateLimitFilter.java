@@ -0,0 +1,160 @@
+package com.core.halpme.common.ratelimit;
+
+import com.core.halpme.common.response.ApiResponse;
+import com.core.halpme.common.response.ErrorStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 비용이 큰 HTTP 엔드포인트 요청 제한 (HttpRateLimitPolicy)
+ * - 회원 또는 IP 별 슬라이딩 윈도우 요청 수 제한 (redis.enabled 면 모든 서버 인스턴스가 Redis 윈도우 공유)
+ * - 엔드포인트별 동시 처리 수 제한 (다른 엔드포인트의 요청 스레드를 잠식하지 않도록 격리)
+ * 초과 시 429 + Retry-After 응답, http.rate.limited 메트릭
+ * 보안 필터 체인 이후에 실행되므로 JWT 인증 정보를 회원 키로 사용
+ */
+@Slf4j
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String REASON_RATE = "rate";
+    private static final String REASON_CONCURRENCY = "concurrency";
+
+    private final RedisSlidingWindows redisSlidingWindows;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final List<Route> routes;
+
+    @Value("${http.rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${http.rate-limit.redis.enabled:false}")
+    private boolean redisEnabled;
+
+    private record Route(HttpRateLimitPolicy policy, PathPattern pattern, LocalSlidingWindows windows, Semaphore concurrency) {
+    }
+
+    public RateLimitFilter(Environment environment, RedisSlidingWindows redisSlidingWindows, ObjectMapper objectMapper,
+                           MeterRegistry meterRegistry) {
+        this.redisSlidingWindows = redisSlidingWindows;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+
+        int maxWindows = environment.getProperty("http.rate-limit.max-windows", Integer.class, 100_000);
+
+        this.routes = Arrays.stream(HttpRateLimitPolicy.values())
+                .map(policy -> {
+                    String prefix = "http.rate-limit." + policy.getName() + ".";
+                    long limit = environment.getProperty(prefix + "limit", Long.class, policy.getLimit());
+                    long windowSeconds = environment.getProperty(prefix + "window-seconds", Long.class, policy.getWindowSeconds());
+                    int maxConcurrent = environment.getProperty(prefix + "max-concurrent", Integer.class, policy.getMaxConcurrent());
+
+                    return new Route(policy, PathPatternParser.defaultInstance.parse(policy.getPattern()),
+                            new LocalSlidingWindows(limit, windowSeconds * 1000, maxWindows), new Semaphore(maxConcurrent));
+                })
+                .toList();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        Route route = enabled ? match(request) : null;
+        if (route == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long retryAfter = acquire(route, clientKey(route.policy(), request));
+        if (retryAfter > 0) {
+            reject(response, route.policy(), REASON_RATE, retryAfter);
+            return;
+        }
+
+        if (!route.concurrency().tryAcquire()) {
+            reject(response, route.policy(), REASON_CONCURRENCY, 1_000);
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            route.concurrency().release();
+        }
+    }
+
+    private Route match(HttpServletRequest request) {
+
+        PathContainer path = PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+
+        for (Route route : routes) {
+            if (route.policy().getMethod().matches(request.getMethod()) && route.pattern().matches(path)) {
+                return route;
+            }
+        }
+
+        return null;
+    }
+
+    private long acquire(Route route, String key) {
+
+        if (redisEnabled) {
+            Long retryAfter = redisSlidingWindows.tryAcquire("http:" + route.policy().getName() + ":" + key,
+                    route.windows().limit(), route.windows().windowMillis());
+            if (retryAfter != null) {
+                return retryAfter;
+            }
+        }
+
+        return route.windows().tryAcquire(key);
+    }
+
+    private String clientKey(HttpRateLimitPolicy policy, HttpServletRequest request) {
+
+        if (policy.getKeyType() == HttpRateLimitPolicy.KeyType.MEMBER) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication != null && authentication.isAuthenticated()
+                    && !(authentication instanceof AnonymousAuthenticationToken)) {
+                return "member:" + authentication.getName();
+            }
+        }
+
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletResponse response, HttpRateLimitPolicy policy, String reason, long retryAfterMillis)
+            throws IOException {
+
+        meterRegistry.counter("http.rate.limited", "policy", policy.getName(), "reason", reason).increment();
+        log.warn("HTTP 요청 제한 초과 [{} {}] {}", policy.getName(), reason, retryAfterMillis);
+
+        response.setStatus(ErrorStatus.TOO_MANY_REQUESTS.getStatusCode());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, (retryAfterMillis + 999) / 1000)));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        objectMapper.writeValue(response.getOutputStream(), ApiResponse.failOnly(ErrorStatus.TOO_MANY_REQUESTS));
+    }
+}
@@ -0,0 +1,39 @@
+package com.core.halpme.common.ratelimit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 여러 서버 인스턴스가 공유하는 Redis 슬라이딩 윈도우 (ratelimit/sliding-window.lua, 요청 시각을 ZSET 에 기록)
+ * Redis 장애 시에는 요청을 막지 않도록 호출 측에서 인메모리 윈도우로 대체
+ */
+@Slf4j
+@Component
+public class RedisSlidingWindows {
+
+    private static final String KEY_PREFIX = "ratelimit:window:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisScript<Long> script = RedisScript.of(new ClassPathResource("ratelimit/sliding-window.lua"), Long.class);
+
+    public RedisSlidingWindows(StringRedisTemplate stringRedisTemplate) {
+        this.stringRedisTemplate = stringRedisTemplate;
+    }
+
+    // 허용되면 0, 한도를 넘으면 남은 시간(ms), Redis 오류 시 null 반환
+    public Long tryAcquire(String key, long limit, long windowMillis) {
+        try {
+            return stringRedisTemplate.execute(script, List.of(KEY_PREFIX + key),
+                    String.valueOf(limit), String.valueOf(windowMillis), UUID.randomUUID().toString());
+        } catch (RuntimeException e) {
+            log.warn("Redis 슬라이딩 윈도우 조회 실패, 인메모리 윈도우로 대체합니다. (key: {})", key, e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.core.halpme.common.ratelimit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 여러 서버 인스턴스가 공유하는 Redis 토큰 버킷 (ratelimit/token-bucket.lua 로 충전/차감을 원자적으로 처리)
+ * Redis 장애 시에는 요청을 막지 않도록 호출 측에서 인메모리 버킷으로 대체
+ */
+@Slf4j
+@Component
+public class RedisTokenBuckets {
+
+    private static final String KEY_PREFIX = "ratelimit:bucket:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisScript<Long> script = RedisScript.of(new ClassPathResource("ratelimit/token-bucket.lua"), Long.class);
+
+    public RedisTokenBuckets(StringRedisTemplate stringRedisTemplate) {
+        this.stringRedisTemplate = stringRedisTemplate;
+    }
+
+    // 토큰을 얻으면 0, 부족하면 다음 토큰까지 남은 시간(ms), Redis 오류 시 null 반환
+    public Long tryAcquire(String key, long capacity, double refillPerSecond) {
+        try {
+            return stringRedisTemplate.execute(script, List.of(KEY_PREFIX + key),
+                    String.valueOf(capacity), String.valueOf(refillPerSecond));
+        } catch (RuntimeException e) {
+            log.warn("Redis 토큰 버킷 조회 실패, 인메모리 버킷으로 대체합니다. (key: {})", key, e);
+            return null;
+        }
+    }
+}
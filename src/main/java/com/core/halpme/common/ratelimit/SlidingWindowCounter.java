@@ -0,0 +1,77 @@
+package com.core.halpme.common.ratelimit;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * lock-free 슬라이딩 윈도우 카운터
+ * 직전 고정 윈도우의 요청 수를 현재 윈도우와 겹치는 비율만큼 더해 근사 (윈도우당 카운터 2개만 보관)
+ */
+public class SlidingWindowCounter {
+
+    private final long limit;
+    private final long windowNanos;
+    private final AtomicReference<State> state;
+
+    private record State(long windowStart, long current, long previous) {
+    }
+
+    public SlidingWindowCounter(long limit, long windowMillis) {
+        this.limit = limit;
+        this.windowNanos = windowMillis * 1_000_000L;
+        this.state = new AtomicReference<>(new State(System.nanoTime(), 0, 0));
+    }
+
+    // 허용되면 0, 한도를 넘으면 다시 요청할 수 있을 때까지 남은 시간(ms) 반환
+    public long tryAcquire() {
+
+        while (true) {
+            long now = System.nanoTime();
+            State observed = state.get();
+            State current = roll(observed, now);
+
+            double previousWeight = 1 - (double) (now - current.windowStart()) / windowNanos;
+            double estimated = current.previous() * previousWeight + current.current();
+
+            if (estimated + 1 > limit) {
+                return retryAfterMillis(current, now);
+            }
+
+            State next = new State(current.windowStart(), current.current() + 1, current.previous());
+            if (state.compareAndSet(observed, next)) {
+                return 0;
+            }
+        }
+    }
+
+    // 직전, 현재 윈도우 모두 비었으면 정리 대상
+    public boolean isIdle() {
+        State current = roll(state.get(), System.nanoTime());
+        return current.current() == 0 && current.previous() == 0;
+    }
+
+    private State roll(State current, long now) {
+
+        long elapsedWindows = (now - current.windowStart()) / windowNanos;
+        if (elapsedWindows == 0) {
+            return current;
+        }
+
+        long windowStart = current.windowStart() + elapsedWindows * windowNanos;
+        long previous = elapsedWindows == 1 ? current.current() : 0;
+        return new State(windowStart, 0, previous);
+    }
+
+    // 현재 윈도우 요청 수는 그대로일 때 직전 윈도우 가중치가 줄어 한 건이 들어갈 자리가 생기는 시점
+    private long retryAfterMillis(State current, long now) {
+
+        long untilNextWindow = current.windowStart() + windowNanos - now;
+
+        if (current.previous() == 0 || current.current() + 1 > limit) {
+            return Math.max(1, untilNextWindow / 1_000_000L);
+        }
+
+        double requiredWeight = (double) (limit - 1 - current.current()) / current.previous();
+        long freeAt = current.windowStart() + (long) ((1 - requiredWeight) * windowNanos);
+        return Math.max(1, (freeAt - now) / 1_000_000L);
+    }
+}
@@ -0,0 +1,49 @@
+package com.core.halpme.common.ratelimit;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * lock-free 토큰 버킷 (상태를 불변 객체로 두고 CAS 로 교체)
+ */
+public class TokenBucket {
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private final AtomicReference<State> state;
+
+    private record State(double tokens, long refilledAt) {
+    }
+
+    public TokenBucket(long capacity, double refillPerSecond) {
+        this.capacity = capacity;
+        this.tokensPerNano = refillPerSecond / 1_000_000_000d;
+        this.state = new AtomicReference<>(new State(capacity, System.nanoTime()));
+    }
+
+    // 토큰을 얻으면 0, 부족하면 다음 토큰까지 남은 시간(ms) 반환
+    public long tryAcquire() {
+
+        while (true) {
+            long now = System.nanoTime();
+            State current = state.get();
+            double tokens = refill(current, now);
+
+            if (tokens < 1) {
+                return (long) Math.ceil((1 - tokens) / tokensPerNano / 1_000_000d);
+            }
+
+            if (state.compareAndSet(current, new State(tokens - 1, now))) {
+                return 0;
+            }
+        }
+    }
+
+    // 다시 가득 찬 버킷은 상태가 없는 것과 같으므로 정리 대상
+    public boolean isFull() {
+        return refill(state.get(), System.nanoTime()) >= capacity;
+    }
+
+    private double refill(State current, long now) {
+        return Math.min(capacity, current.tokens() + (now - current.refilledAt()) * tokensPerNano);
+    }
+}
@@ -23,6 +23,10 @@ public enum ErrorStatus {
     BAD_REQUEST_NOT_ALLOW_IMG_MIME(HttpStatus.BAD_REQUEST, "이미지 파일(jpg, jpeg, png, bmp, webp)만 업로드할 수 있습니다."),
     BAD_REQUEST_ALREADY_ASSIGNED_VOLUNTEER(HttpStatus.BAD_REQUEST, "이미 봉사자가 배정된 글입니다."),
     BAD_REQUEST_INVALID_REQUEST(HttpStatus.BAD_REQUEST, "자기 자신과는 채팅할 수 없습니다."),
+    BAD_REQUEST_INVALID_SEARCH_KEYWORD(HttpStatus.BAD_REQUEST, "검색어를 확인해주세요."),
+    BAD_REQUEST_INVALID_PAGE(HttpStatus.BAD_REQUEST, "페이지 정보가 올바르지 않습니다."),
+    BAD_REQUEST_INVALID_FEED_FILTER(HttpStatus.BAD_REQUEST, "조회 조건이 올바르지 않습니다."),
+    BAD_REQUEST_INVALID_LOCATION(HttpStatus.BAD_REQUEST, "좌표 또는 반경 정보가 올바르지 않습니다."),
 
     /**
      * 401 UNAUTHORIZED
@@ -50,6 +54,11 @@ public enum ErrorStatus {
     NOT_FOUND_CHATROOM(HttpStatus.NOT_FOUND, "해당 채팅방이 존재하지 않습니다."),
     NOT_FOUND_RELATED_POST(HttpStatus.NOT_FOUND, "채팅방에 연관된 봉사 요청글이 없습니다"),
 
+    /**
+     * 429 TOO_MANY_REQUESTS
+     */
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
+
     /**
      * 500 SERVER_ERROR
      */
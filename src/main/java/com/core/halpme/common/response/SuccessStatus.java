@@ -36,6 +36,9 @@ public enum SuccessStatus {
     CHAT_OPPONENT_NICKNAME_SUCCESS(HttpStatus.OK, "상대방 닉네임 조회 성공"),
     POST_ID_GET_SUCCESS(HttpStatus.OK, "PostId 조회 성공"),
     POST_AUTHENTICATE_SUCCESS(HttpStatus.OK, "봉사 요청글 인증 성공"),
+    POST_SEARCH_SUCCESS(HttpStatus.OK, "게시글 검색 성공"),
+    NEARBY_POST_GET_SUCCESS(HttpStatus.OK, "주변 봉사 신청글 조회 성공"),
+    HOME_GET_SUCCESS(HttpStatus.OK, "홈 화면 정보 조회 성공"),
   
     /**
      * 201 CREATED
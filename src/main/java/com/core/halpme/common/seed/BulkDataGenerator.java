@@ -0,0 +1,301 @@
+package com.core.halpme.common.seed;
+
+import com.core.halpme.api.chat.entity.ChatRoom;
+import com.core.halpme.api.chat.entity.MessageType;
+import com.core.halpme.api.members.entity.Address;
+import com.core.halpme.api.members.entity.Gender;
+import com.core.halpme.api.members.entity.Member;
+import com.core.halpme.api.members.entity.Role;
+import com.core.halpme.api.members.repository.MemberRepository;
+import com.core.halpme.api.post.entity.Post;
+import com.core.halpme.api.post.entity.PostStatus;
+import com.core.halpme.api.post.geo.GeoPoint;
+import com.core.halpme.api.post.geo.OfflineGeocoder;
+import com.core.halpme.api.post.geo.PostGeoIndex;
+import com.core.halpme.api.post.repository.PostRepository;
+import com.core.halpme.api.post.search.PostCorpusGenerator;
+import com.core.halpme.api.post.search.PostSearchIndex;
+import com.core.halpme.api.rank.entity.RankLevel;
+import com.core.halpme.common.id.SnowflakeIdGenerator;
+import com.core.halpme.common.id.TimeOrderedUuids;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.LongStream;
+
+/**
+ * 성능 테스트 환경용 대량 더미 데이터 생성 (회원/랭크, 게시글, 채팅방/참여자, 채팅 메시지, 읽음 상태)
+ * - 테이블마다 MultiRowInsert 버퍼 하나만 유지하며 다중 행 INSERT 로 스트리밍 (행 수와 무관하게 메모리 일정)
+ * - PK 를 직접 채번해 자식 행이 생성 키 조회 없이 부모를 참조
+ *   (회원은 현재 최대값 다음부터, 게시글/메시지/읽음 상태는 오프라인 노드의 Snowflake ID 블록)
+ * - 같은 randomSeed 면 시각을 제외하고 같은 데이터 생성
+ * 문장 단위로 자동 커밋되므로 다른 쓰기 요청이 없는 환경에서 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BulkDataGenerator {
+
+    public static final String DUMMY_EMAIL = "dummy@halpme.com";
+
+    private static final int DUMMY_BATCH_ROWS = 500;
+    private static final int HISTORY_MINUTES = 90 * 24 * 60;
+
+    private static final List<String> MEMBER_COLUMNS = List.of(
+            "member_id", "nickname", "password", "email", "phone_number", "age", "gender", "note", "role",
+            "zip_code", "basic_address", "detail_address", "direction", "created_at", "updated_at");
+    private static final List<String> RANK_COLUMNS = List.of(
+            "member_id", "total_volunteer_hours", "rank_level", "created_at", "updated_at");
+    private static final List<String> POST_COLUMNS = List.of(
+            "post_id", "title", "content", "request_date", "start_hour", "end_hour", "post_status",
+            "zip_code", "basic_address", "detail_address", "direction", "latitude", "longitude",
+            "member_id", "volunteer_id", "created_at", "updated_at");
+    private static final List<String> CHAT_MESSAGE_COLUMNS = List.of(
+            "id", "room_id", "sender", "message", "message_type", "created_at", "updated_at");
+    private static final List<String> READ_STATUS_COLUMNS = List.of(
+            "id", "message_id", "reader_email", "is_read");
+    private static final List<String> CHAT_ROOM_COLUMNS = List.of(
+            "id", "last_chat_mesg_id", "room_maker_id", "guest_post_id", "member_pair_key", "created_at", "updated_at");
+    private static final List<String> CHAT_ROOM_MEMBER_COLUMNS = List.of(
+            "chat_room_id", "user_id");
+
+    private static final List<String> CHAT_LINES = List.of(
+            "안녕하세요, 게시글 보고 연락드렸어요.", "몇 시쯤 방문하면 될까요?", "네, 그 시간 괜찮습니다.",
+            "주소 다시 한번 확인 부탁드려요.", "도착하면 연락드릴게요.", "감사합니다!", "조금 늦을 것 같아요. 죄송합니다.",
+            "필요한 물건이 있으면 말씀해주세요.", "오늘 정말 고마웠어요.", "다음에 또 부탁드려도 될까요?");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final MemberRepository memberRepository;
+    private final PostRepository postRepository;
+    private final OfflineGeocoder offlineGeocoder;
+    private final PostSearchIndex postSearchIndex;
+    private final PostGeoIndex postGeoIndex;
+
+    // 서버 인스턴스와 겹치지 않는 오프라인 노드 (여러 인스턴스에서 동시에 생성하지 않을 것)
+    private final SnowflakeIdGenerator seedIds = new SnowflakeIdGenerator(SnowflakeIdGenerator.OFFLINE_NODE_ID);
+
+    // 전체 도메인 대량 생성 (검색/공간 인덱스는 기동 완료 시 재구축되므로 ApplicationRunner 에서 호출)
+    public synchronized void seed(SeedPlan plan) {
+
+        long startedAt = System.currentTimeMillis();
+        Random random = new Random(plan.randomSeed());
+        LocalDateTime now = LocalDateTime.now();
+        String password = passwordEncoder.encode(plan.password());
+
+        long firstMemberId = nextId("members", "member_id");
+
+        try (MultiRowInsert members = insert("members", MEMBER_COLUMNS, plan.batchRows());
+             MultiRowInsert ranks = insert("ranks", RANK_COLUMNS, plan.batchRows()).after(members)) {
+
+            for (long memberId = firstMemberId; memberId < firstMemberId + plan.members(); memberId++) {
+                LocalDateTime createdAt = pastTime(now, random);
+
+                members.add(memberId, "seed" + memberId, password, seedEmail(memberId), String.format("010%08d", memberId),
+                        20 + random.nextInt(60), random.nextBoolean() ? Gender.MALE.name() : Gender.FEMALE.name(), null,
+                        Role.ROLE_MEMBER.name(), null, null, null, null, createdAt, createdAt);
+
+                // 누적 봉사시간은 대부분 적고 일부만 많은 지수 분포
+                int hours = (int) (-Math.log(1 - random.nextDouble()) * 15);
+                ranks.add(memberId, hours, RankLevel.of(hours).name(), createdAt, createdAt);
+            }
+
+            log.info("더미 회원/랭크 생성 완료 ({}건)", members.inserted());
+        }
+
+        long postCount = plan.members() * plan.postsPerMember();
+        long firstPostId = seedIds.reserveBlock(postCount);
+
+        try (MultiRowInsert posts = insert("posts", POST_COLUMNS, plan.batchRows())) {
+
+            for (long i = 0; i < postCount; i++) {
+                long authorId = randomMember(firstMemberId, plan.members(), random);
+                PostStatus status = randomStatus(random);
+                Long volunteerId = status == PostStatus.WAITING || plan.members() < 2
+                        ? null : otherMember(authorId, firstMemberId, plan.members(), random);
+
+                Post post = PostCorpusGenerator.generate((int) (i + 1), null, random);
+                posts.add(postRow(SnowflakeIdGenerator.blockId(firstPostId, i), post, status, authorId, volunteerId,
+                        pastTime(now, random)));
+            }
+
+            log.info("더미 게시글 생성 완료 ({}건)", posts.inserted());
+        }
+
+        if (plan.members() >= 2) {
+            seedChats(plan, random, now, firstMemberId, firstPostId, postCount);
+        }
+
+        log.info("더미 데이터 생성 완료 ({}ms)", System.currentTimeMillis() - startedAt);
+    }
+
+    // 더미 작성자(없으면 생성)의 게시글 count 건 생성 후 새로 넣은 글만 검색/공간 인덱스에 반영
+    public synchronized void seedDummyPosts(int count, long randomSeed) {
+
+        long memberId = memberRepository.findByEmail(DUMMY_EMAIL)
+                .map(Member::getId)
+                .orElseGet(this::insertDummyMember);
+
+        // 검색 벤치마크 재현을 위해 고정 시드로 코퍼스 생성
+        Random random = new Random(randomSeed);
+        LocalDateTime now = LocalDateTime.now();
+        long firstPostId = seedIds.reserveBlock(count);
+
+        try (MultiRowInsert posts = insert("posts", POST_COLUMNS, DUMMY_BATCH_ROWS)) {
+            for (int i = 1; i <= count; i++) {
+                Post post = PostCorpusGenerator.generate(i, null, random);
+                posts.add(postRow(SnowflakeIdGenerator.blockId(firstPostId, i - 1), post, PostStatus.WAITING, memberId,
+                        null, now));
+            }
+        }
+
+        // PostChangedEvent 를 거치지 않았으므로 방금 채번한 ID 블록만 직접 반영
+        // (전체 재색인 없이, 아웃박스 배치 반영과 같은 경로라 인덱스 잠금으로 직렬화됨)
+        for (int offset = 0; offset < count; offset += DUMMY_BATCH_ROWS) {
+            List<Long> postIds = LongStream.range(offset, Math.min(count, offset + DUMMY_BATCH_ROWS))
+                    .mapToObj(i -> SnowflakeIdGenerator.blockId(firstPostId, i))
+                    .toList();
+            List<Post> inserted = postRepository.findAllById(postIds);
+
+            postSearchIndex.apply(inserted, List.of(), now);
+            inserted.forEach(postGeoIndex::apply);
+        }
+    }
+
+    // 방마다 메시지 -> 채팅방(마지막 메시지 참조) -> 참여자 순으로 FK 부모가 먼저 적재되도록 after 지정
+    private void seedChats(SeedPlan plan, Random random, LocalDateTime now,
+                           long firstMemberId, long firstPostId, long postCount) {
+
+        long messageCount = plan.chatRooms() * plan.messagesPerRoom();
+        long firstMessageId = seedIds.reserveBlock(messageCount);
+        long firstReadStatusId = seedIds.reserveBlock(messageCount);
+        long messageIndex = 0;
+        // 같은 회원 쌍이 다시 뽑힌 채팅방은 키 없이 생성 (uk_chat_room_member_pair)
+        Set<String> pairKeys = new HashSet<>();
+
+        try (MultiRowInsert messages = insert("chat_message", CHAT_MESSAGE_COLUMNS, plan.batchRows());
+             MultiRowInsert readStatuses = insert("message_read_status", READ_STATUS_COLUMNS, plan.batchRows()).after(messages);
+             MultiRowInsert rooms = insert("chat_room", CHAT_ROOM_COLUMNS, plan.batchRows()).after(messages);
+             MultiRowInsert roomMembers = insert("chat_room_members", CHAT_ROOM_MEMBER_COLUMNS, plan.batchRows()).after(rooms)) {
+
+            for (long r = 0; r < plan.chatRooms(); r++) {
+                long makerId = randomMember(firstMemberId, plan.members(), random);
+                long guestId = otherMember(makerId, firstMemberId, plan.members(), random);
+                Long guestPostId = postCount > 0
+                        ? SnowflakeIdGenerator.blockId(firstPostId, (long) (random.nextDouble() * postCount)) : null;
+                long roomRandomHigh = random.nextLong();
+                long roomRandomLow = random.nextLong();
+
+                LocalDateTime roomCreatedAt = pastTime(now, random);
+                // 채팅방 ID 컬럼은 BINARY(16) (생성 시각 기준 UUIDv7)
+                byte[] roomId = TimeOrderedUuids.toBytes(TimeOrderedUuids.of(
+                        roomCreatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli(),
+                        roomRandomHigh, roomRandomLow).toString());
+                LocalDateTime sentAt = roomCreatedAt;
+                Long lastMessageId = null;
+                int unreadTail = random.nextInt(plan.unreadTailMax() + 1);
+
+                for (int m = 0; m < plan.messagesPerRoom(); m++) {
+                    boolean fromMaker = random.nextBoolean();
+                    sentAt = sentAt.plusSeconds(1 + random.nextInt(600));
+
+                    lastMessageId = SnowflakeIdGenerator.blockId(firstMessageId, messageIndex);
+                    messages.add(lastMessageId, roomId, seedEmail(fromMaker ? makerId : guestId),
+                            CHAT_LINES.get(random.nextInt(CHAT_LINES.size())), MessageType.TEXT.name(), sentAt, sentAt);
+                    readStatuses.add(SnowflakeIdGenerator.blockId(firstReadStatusId, messageIndex), lastMessageId,
+                            seedEmail(fromMaker ? guestId : makerId), m < plan.messagesPerRoom() - unreadTail);
+                    messageIndex++;
+                }
+
+                String pairKey = ChatRoom.memberPairKey(makerId, guestId);
+                rooms.add(roomId, lastMessageId, makerId, guestPostId,
+                        pairKeys.add(pairKey) ? pairKey : null, roomCreatedAt, sentAt);
+                roomMembers.add(roomId, makerId);
+                roomMembers.add(roomId, guestId);
+            }
+
+            roomMembers.flush();
+            readStatuses.flush();
+            log.info("더미 채팅방 {}건, 메시지 {}건, 읽음 상태 {}건 생성 완료",
+                    rooms.inserted(), messages.inserted(), readStatuses.inserted());
+        }
+    }
+
+    private long insertDummyMember() {
+
+        long memberId = nextId("members", "member_id");
+        LocalDateTime now = LocalDateTime.now();
+
+        try (MultiRowInsert members = insert("members", MEMBER_COLUMNS, 1);
+             MultiRowInsert ranks = insert("ranks", RANK_COLUMNS, 1).after(members)) {
+
+            members.add(memberId, "dummy", passwordEncoder.encode(UUID.randomUUID().toString()), DUMMY_EMAIL,
+                    "01000000000", 30, Gender.MALE.name(), null, Role.ROLE_MEMBER.name(),
+                    null, null, null, null, now, now);
+            ranks.add(memberId, 0, RankLevel.SEED_HELPER.name(), now, now);
+        }
+
+        log.info("더미 작성자 생성 (회원 ID: {})", memberId);
+        return memberId;
+    }
+
+    private Object[] postRow(long postId, Post post, PostStatus status, long authorId, Long volunteerId,
+                             LocalDateTime createdAt) {
+
+        Address address = post.getAddress();
+        Optional<GeoPoint> point = offlineGeocoder.geocode(address);
+
+        return new Object[]{
+                postId, post.getTitle(), post.getContent(), post.getRequestDate(), post.getStartHour(), post.getEndHour(),
+                status.name(), address.getZipCode(), address.getBasicAddress(), address.getDetailAddress(),
+                address.getDirection(), point.map(GeoPoint::latitude).orElse(null),
+                point.map(GeoPoint::longitude).orElse(null), authorId, volunteerId, createdAt, createdAt
+        };
+    }
+
+    private MultiRowInsert insert(String table, List<String> columns, int batchRows) {
+        return new MultiRowInsert(jdbcTemplate, table, columns, batchRows);
+    }
+
+    private long nextId(String table, String idColumn) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(" + idColumn + "), 0) FROM " + table, Long.class);
+        return (maxId != null ? maxId : 0) + 1;
+    }
+
+    private static String seedEmail(long memberId) {
+        return "seed" + memberId + "@halpme.com";
+    }
+
+    private static LocalDateTime pastTime(LocalDateTime now, Random random) {
+        return now.minusMinutes(random.nextInt(HISTORY_MINUTES));
+    }
+
+    // 대기 70%, 인증하기 10%, 완료 20%
+    private static PostStatus randomStatus(Random random) {
+        int roll = random.nextInt(10);
+        if (roll < 7) {
+            return PostStatus.WAITING;
+        }
+        return roll < 8 ? PostStatus.AUTHENTICATED : PostStatus.COMPLETED;
+    }
+
+    private static long randomMember(long firstMemberId, long members, Random random) {
+        return firstMemberId + (long) (random.nextDouble() * members);
+    }
+
+    private static long otherMember(long memberId, long firstMemberId, long members, Random random) {
+        long offset = 1 + (long) (random.nextDouble() * (members - 1));
+        return firstMemberId + (memberId - firstMemberId + offset) % members;
+    }
+}
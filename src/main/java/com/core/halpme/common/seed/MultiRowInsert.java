@@ -0,0 +1,88 @@
+package com.core.halpme.common.seed;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 다중 행 INSERT 스트리밍 버퍼
+ * INSERT INTO t (...) VALUES (...), (...), ... 한 문장에 최대 rowsPerStatement 행을 담아 실행하고 비움
+ * (드라이버의 rewriteBatchedStatements 설정과 무관하게 왕복 1회로 여러 행 적재, 메모리는 한 문장 분량만 사용)
+ * after(parent) 로 FK 부모 테이블 버퍼를 지정하면 자신보다 부모를 먼저 flush
+ */
+public final class MultiRowInsert implements AutoCloseable {
+
+    // MySQL prepared statement 파라미터 수 상한
+    private static final int MAX_PLACEHOLDERS = 65_535;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String prefix;
+    private final String rowPlaceholders;
+    private final int columnCount;
+    private final int rowsPerStatement;
+    private final String fullStatement;
+    private final List<Object> args;
+
+    private MultiRowInsert parent;
+    private long inserted;
+
+    public MultiRowInsert(JdbcTemplate jdbcTemplate, String table, List<String> columns, int batchRows) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.prefix = "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES ";
+        this.rowPlaceholders = "(" + String.join(", ", Collections.nCopies(columns.size(), "?")) + ")";
+        this.columnCount = columns.size();
+        this.rowsPerStatement = Math.max(1, Math.min(batchRows, MAX_PLACEHOLDERS / columnCount));
+        this.fullStatement = statement(rowsPerStatement);
+        this.args = new ArrayList<>(rowsPerStatement * columnCount);
+    }
+
+    public MultiRowInsert after(MultiRowInsert parent) {
+        this.parent = parent;
+        return this;
+    }
+
+    public void add(Object... values) {
+
+        if (values.length != columnCount) {
+            throw new IllegalArgumentException("컬럼 수 불일치: " + values.length + " != " + columnCount);
+        }
+
+        Collections.addAll(args, values);
+
+        if (args.size() == rowsPerStatement * columnCount) {
+            flush();
+        }
+    }
+
+    public void flush() {
+
+        if (parent != null) {
+            parent.flush();
+        }
+
+        if (args.isEmpty()) {
+            return;
+        }
+
+        int rows = args.size() / columnCount;
+        jdbcTemplate.update(rows == rowsPerStatement ? fullStatement : statement(rows), args.toArray());
+
+        inserted += rows;
+        args.clear();
+    }
+
+    public long inserted() {
+        return inserted;
+    }
+
+    @Override
+    public void close() {
+        flush();
+    }
+
+    private String statement(int rows) {
+        return prefix + String.join(", ", Collections.nCopies(rows, rowPlaceholders));
+    }
+}
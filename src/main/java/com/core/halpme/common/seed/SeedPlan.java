@@ -0,0 +1,19 @@
+package com.core.halpme.common.seed;
+
+/**
+ * 대량 더미 데이터 생성 규모
+ * 채팅 메시지 수 = chatRooms * messagesPerRoom, 읽음 상태는 메시지당 1건 (상대 참여자)
+ */
+public record SeedPlan(
+        long members,
+        int postsPerMember,
+        long chatRooms,
+        int messagesPerRoom,
+        // 채팅방별 마지막 0 ~ unreadTailMax 개 메시지는 안 읽음 상태
+        int unreadTailMax,
+        int batchRows,
+        long randomSeed,
+        // 모든 더미 회원 공통 비밀번호 (BCrypt 해시는 한 번만 계산)
+        String password
+) {
+}
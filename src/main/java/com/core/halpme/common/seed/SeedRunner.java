@@ -0,0 +1,58 @@
+package com.core.halpme.common.seed;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.stereotype.Component;
+
+/**
+ * seed.enabled=true 로 기동하면 요청을 받기 전에 대량 더미 데이터 생성
+ * 검색/공간 인덱스는 이후 ApplicationReadyEvent 에서 DB 기준으로 재구축됨
+ */
+@Component
+@RequiredArgsConstructor
+@PropertySource("classpath:seed.properties")
+public class SeedRunner implements ApplicationRunner {
+
+    private final BulkDataGenerator bulkDataGenerator;
+
+    @Value("${seed.enabled:false}")
+    private boolean enabled;
+
+    @Value("${seed.members:100000}")
+    private long members;
+
+    @Value("${seed.posts-per-member:5}")
+    private int postsPerMember;
+
+    @Value("${seed.chat-rooms:200000}")
+    private long chatRooms;
+
+    @Value("${seed.messages-per-room:20}")
+    private int messagesPerRoom;
+
+    @Value("${seed.unread-tail-max:3}")
+    private int unreadTailMax;
+
+    @Value("${seed.batch-rows:1000}")
+    private int batchRows;
+
+    @Value("${seed.random-seed:42}")
+    private long randomSeed;
+
+    @Value("${seed.password:seedpassword1!}")
+    private String password;
+
+    @Override
+    public void run(ApplicationArguments args) {
+
+        if (!enabled) {
+            return;
+        }
+
+        bulkDataGenerator.seed(new SeedPlan(members, postsPerMember, chatRooms, messagesPerRoom, unreadTailMax,
+                batchRows, randomSeed, password));
+    }
+}
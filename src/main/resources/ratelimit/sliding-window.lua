@@ -0,0 +1,19 @@
+-- 슬라이딩 윈도우 로그 (KEYS[1]: 윈도우 키, ARGV[1]: 윈도우당 허용 요청 수, ARGV[2]: 윈도우 길이(ms), ARGV[3]: 요청 식별자)
+-- 허용되면 0, 한도를 넘으면 가장 오래된 요청이 윈도우를 벗어날 때까지 남은 시간(ms) 반환
+local limit = tonumber(ARGV[1])
+local window = tonumber(ARGV[2])
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', now - window)
+
+if redis.call('ZCARD', KEYS[1]) >= limit then
+    local oldest = redis.call('ZRANGE', KEYS[1], 0, 0, 'WITHSCORES')
+    return math.max(1, tonumber(oldest[2]) + window - now)
+end
+
+redis.call('ZADD', KEYS[1], now, ARGV[3])
+redis.call('PEXPIRE', KEYS[1], window)
+
+return 0
@@ -0,0 +1,26 @@
+-- 토큰 버킷 (KEYS[1]: 버킷 키, ARGV[1]: 최대 토큰 수, ARGV[2]: 초당 충전 토큰 수)
+-- 토큰을 얻으면 0, 부족하면 다음 토큰까지 남은 시간(ms) 반환
+local capacity = tonumber(ARGV[1])
+local rate = tonumber(ARGV[2])
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+local tokens = tonumber(bucket[1]) or capacity
+local refilledAt = tonumber(bucket[2]) or now
+
+tokens = math.min(capacity, tokens + math.max(0, now - refilledAt) * rate / 1000)
+
+local wait = 0
+if tokens >= 1 then
+    tokens = tokens - 1
+else
+    wait = math.ceil((1 - tokens) * 1000 / rate)
+end
+
+redis.call('HSET', KEYS[1], 'tokens', tokens, 'ts', now)
+-- 가득 찰 때까지 쓰이지 않은 버킷은 만료
+redis.call('PEXPIRE', KEYS[1], math.ceil(capacity * 1000 / rate) + 1000)
+
+return wait
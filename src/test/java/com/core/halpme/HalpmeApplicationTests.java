@@ -3,7 +3,7 @@ package com.core.halpme;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = "id.snowflake.node-id=0")
 class HalpmeApplicationTests {
 
 	@Test
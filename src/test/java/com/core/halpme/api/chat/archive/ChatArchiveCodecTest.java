@@ -0,0 +1,41 @@
+package com.core.halpme.api.chat.archive;
+
+import com.core.halpme.api.chat.dto.ChatMessageDto;
+import com.core.halpme.api.chat.entity.MessageType;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChatArchiveCodecTest {
+
+    @Test
+    void 압축_NDJSON_왕복() {
+
+        List<ArchivedChatMessage> messages = List.of(
+                new ArchivedChatMessage(1L, "room-a", "a@halpme.com", "안녕하세요\n줄바꿈 포함", MessageType.TEXT,
+                        LocalDateTime.of(2025, 1, 3, 10, 0), List.of(), Map.of("b@halpme.com", true)),
+                new ArchivedChatMessage(2L, "room-a", "b@halpme.com", null, MessageType.IMAGE,
+                        LocalDateTime.of(2025, 1, 3, 10, 1), List.of("https://cdn/1.jpg", "https://cdn/2.jpg"), Map.of()));
+
+        assertThat(ChatArchiveCodec.decode(ChatArchiveCodec.encode(messages))).isEqualTo(messages);
+    }
+
+    @Test
+    void 내가_보낸_메시지는_상대방_읽음_여부_상대방_메시지는_항상_읽음() {
+
+        ArchivedChatMessage mine = new ArchivedChatMessage(1L, "room-a", "a@halpme.com", "hi", MessageType.TEXT,
+                LocalDateTime.now(), List.of(), Map.of("a@halpme.com", true, "b@halpme.com", false));
+        ArchivedChatMessage theirs = new ArchivedChatMessage(2L, "room-a", "b@halpme.com", "hi", MessageType.TEXT,
+                LocalDateTime.now(), List.of(), Map.of("a@halpme.com", false));
+
+        ChatMessageDto mineDto = mine.toDto("a@halpme.com", "b@halpme.com");
+        ChatMessageDto theirsDto = theirs.toDto("a@halpme.com", "b@halpme.com");
+
+        assertThat(mineDto.getReadStatus()).isFalse();
+        assertThat(theirsDto.getReadStatus()).isTrue();
+    }
+}
@@ -0,0 +1,153 @@
+package com.core.halpme.api.chat.archive;
+
+import com.core.halpme.api.chat.dto.ChatMessageDto;
+import com.core.halpme.common.id.SnowflakeIdGenerator;
+import com.core.halpme.common.id.TimeOrderedUuids;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기존 테이블 파티션 변환 -> 오래된 월 보관/삭제 -> 보관 메시지 조회까지 MySQL 에서 검증
+ */
+@Testcontainers
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ChatPartitionManager.class, ChatArchiver.class, ChatArchiveReader.class, LocalChatArchiveStore.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ChatPartitionManagerTest {
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @TempDir
+    static Path archiveDir;
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("chat.archive.local-path", () -> archiveDir.toString());
+        registry.add("chat.archive.hot-months", () -> 2);
+    }
+
+    @Autowired
+    private ChatPartitionManager chatPartitionManager;
+
+    @Autowired
+    private ChatArchiveReader chatArchiveReader;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final String roomId = TimeOrderedUuids.newId();
+
+    private long readStatusId;
+
+    @Test
+    void 오래된_월은_보관_후_삭제되고_기록_조회에_합쳐짐() {
+
+        YearMonth oldMonth = YearMonth.now().minusMonths(5);
+        LocalDateTime old = oldMonth.atDay(10).atTime(9, 0);
+        LocalDateTime recent = LocalDateTime.now().minusMinutes(1);
+
+        long first = insertMessage("a@halpme.com", "오래된 메시지", old);
+        long second = insertMessage("b@halpme.com", "오래된 답장", old.plusMinutes(1));
+        long latest = insertMessage("a@halpme.com", "최근 메시지", recent);
+        jdbcTemplate.update("INSERT INTO chat_message_image (id, message_id, image_url, image_order) VALUES (1, ?, 'https://cdn/1.jpg', 0)",
+                first);
+
+        chatPartitionManager.maintain();
+
+        assertThat(partitionCount("chat_message")).isGreaterThan(1);
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM chat_message ORDER BY id", Long.class)).containsExactly(latest);
+        assertThat(jdbcTemplate.queryForList("SELECT message_id FROM message_read_status ORDER BY message_id", Long.class))
+                .containsOnly(latest);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM chat_message_image", Long.class)).isZero();
+        // 보관된 월의 읽음 상태 파티션도 삭제 (메시지 ID 월 경계 파티션)
+        assertThat(partitionNames("message_read_status")).doesNotContain("p" + oldMonth.format(DateTimeFormatter.ofPattern("yyyyMM")));
+
+        List<ChatMessageDto> archived = chatArchiveReader.read(roomId, "a@halpme.com", "b@halpme.com");
+
+        assertThat(archived).extracting(ChatMessageDto::getId).containsExactly(first, second);
+        assertThat(archived.get(0).getImageUrls()).containsExactly("https://cdn/1.jpg");
+        // 내가 보낸 첫 메시지는 상대방이 읽음
+        assertThat(archived.get(0).getReadStatus()).isTrue();
+
+        // 다시 실행해도 변화 없음 (이미 보관/삭제된 파티션, 미리 만든 파티션 유지)
+        chatPartitionManager.maintain();
+        assertThat(chatArchiveReader.read(roomId, "a@halpme.com", "b@halpme.com")).hasSize(2);
+    }
+
+    @Test
+    void 다른_인스턴스가_관리_잠금을_잡고_있으면_건너뜀() throws Exception {
+
+        LocalDateTime old = YearMonth.now().minusMonths(5).atDay(20).atTime(9, 0);
+        long id = SnowflakeIdGenerator.lowestIdAt(old.atZone(ZoneId.systemDefault()).toInstant());
+        jdbcTemplate.update("INSERT INTO chat_message (id, room_id, sender, message, message_type, created_at, updated_at) "
+                + "VALUES (?, UUID_TO_BIN(?), 'a@halpme.com', '잠금 중 메시지', 'TEXT', ?, ?)", id, roomId, old, old);
+
+        // 다른 인스턴스의 세션
+        try (Connection other = DriverManager.getConnection(mysql.getJdbcUrl(), mysql.getUsername(), mysql.getPassword());
+             Statement statement = other.createStatement()) {
+            statement.execute("SELECT GET_LOCK('" + ChatPartitionManager.LOCK_NAME + "', 0)");
+
+            chatPartitionManager.maintain();
+
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM chat_message WHERE id = ?", Long.class, id))
+                    .isOne();
+        } finally {
+            jdbcTemplate.update("DELETE FROM chat_message WHERE id = ?", id);
+        }
+    }
+
+    // 메시지 ID 는 전송 시각의 Snowflake ID
+    private long insertMessage(String sender, String message, LocalDateTime createdAt) {
+
+        long id = SnowflakeIdGenerator.lowestIdAt(createdAt.atZone(ZoneId.systemDefault()).toInstant());
+
+        jdbcTemplate.update("INSERT INTO chat_message (id, room_id, sender, message, message_type, created_at, updated_at) "
+                + "VALUES (?, UUID_TO_BIN(?), ?, ?, 'TEXT', ?, ?)", id, roomId, sender, message, createdAt, createdAt);
+
+        String other = sender.startsWith("a") ? "b@halpme.com" : "a@halpme.com";
+        jdbcTemplate.update("INSERT INTO message_read_status (id, message_id, reader_email, is_read) VALUES (?, ?, ?, true)",
+                ++readStatusId, id, sender);
+        jdbcTemplate.update("INSERT INTO message_read_status (id, message_id, reader_email, is_read) VALUES (?, ?, ?, true)",
+                ++readStatusId, id, other);
+
+        return id;
+    }
+
+    private List<String> partitionNames(String table) {
+        return jdbcTemplate.queryForList("SELECT PARTITION_NAME FROM information_schema.PARTITIONS "
+                + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL", String.class, table);
+    }
+
+    private int partitionCount(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM information_schema.PARTITIONS "
+                + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL", Integer.class, table);
+    }
+}
@@ -0,0 +1,46 @@
+package com.core.halpme.api.chat.entity;
+
+import com.core.halpme.api.members.entity.Member;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChatInboxTest {
+
+    @Test
+    void 반영된_메시지만_안읽음_수에서_차감() {
+
+        ChatInbox inbox = inbox(12L, 3);
+
+        // 13 은 아직 목록에 반영되지 않은 메시지
+        inbox.markRead(List.of(11L, 12L, 13L));
+
+        assertThat(inbox.getUnreadCount()).isEqualTo(1);
+        assertThat(inbox.getLastReadMessageId()).isEqualTo(13L);
+    }
+
+    @Test
+    void 안읽음_수는_음수가_되지_않음() {
+
+        ChatInbox inbox = inbox(12L, 1);
+
+        inbox.markRead(List.of(10L, 11L, 12L));
+
+        assertThat(inbox.getUnreadCount()).isZero();
+    }
+
+    private static ChatInbox inbox(Long lastMessageId, int unreadCount) {
+
+        Member maker = Member.builder().nickname("요청자").email("maker@halpme.com").build();
+        Member guest = Member.builder().nickname("봉사자").email("guest@halpme.com").build();
+
+        ChatInbox inbox = ChatInbox.of(ChatRoom.create(maker, 1L), guest, maker);
+        ReflectionTestUtils.setField(inbox, "lastMessageId", lastMessageId);
+        ReflectionTestUtils.setField(inbox, "unreadCount", unreadCount);
+
+        return inbox;
+    }
+}
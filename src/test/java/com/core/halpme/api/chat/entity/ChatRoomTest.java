@@ -0,0 +1,29 @@
+package com.core.halpme.api.chat.entity;
+
+import com.core.halpme.api.members.entity.Member;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChatRoomTest {
+
+    @Test
+    void 회원_쌍_키는_참여자_순서와_무관() {
+
+        Member maker = member(12L, "maker@halpme.com");
+        Member guest = member(3L, "guest@halpme.com");
+
+        ChatRoom room = ChatRoom.create(maker, 1L);
+        room.addMembers(maker, guest);
+
+        assertThat(room.getMemberPairKey()).isEqualTo("3:12");
+        assertThat(ChatRoom.memberPairKey(3L, 12L)).isEqualTo(ChatRoom.memberPairKey(12L, 3L));
+    }
+
+    private static Member member(Long id, String email) {
+        Member member = Member.builder().email(email).build();
+        ReflectionTestUtils.setField(member, "id", id);
+        return member;
+    }
+}
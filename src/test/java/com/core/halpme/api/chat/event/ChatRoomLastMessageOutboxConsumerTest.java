@@ -0,0 +1,51 @@
+package com.core.halpme.api.chat.event;
+
+import com.core.halpme.api.chat.entity.MessageType;
+import com.core.halpme.api.chat.repository.ChatRoomRepository;
+import com.core.halpme.common.outbox.OutboxRecord;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class ChatRoomLastMessageOutboxConsumerTest {
+
+    private final ChatRoomRepository chatRoomRepository = mock(ChatRoomRepository.class);
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final ChatRoomLastMessageOutboxConsumer consumer =
+            new ChatRoomLastMessageOutboxConsumer(chatRoomRepository, objectMapper);
+
+    @Test
+    void 배치_안에서_방마다_가장_큰_메시지로_한_번만_갱신() throws Exception {
+
+        consumer.consume(List.of(
+                record("1-0", created("room-a", 10L)),
+                record("2-0", created("room-b", 11L)),
+                // 재전달로 순서가 뒤바뀐 이벤트
+                record("3-0", created("room-a", 12L)),
+                record("4-0", created("room-a", 9L))));
+
+        verify(chatRoomRepository).updateLastMessageIfNewer(eq("room-a"), eq(12L), any(LocalDateTime.class));
+        verify(chatRoomRepository).updateLastMessageIfNewer(eq("room-b"), eq(11L), any(LocalDateTime.class));
+        verify(chatRoomRepository, times(2)).updateLastMessageIfNewer(anyString(), anyLong(), any(LocalDateTime.class));
+    }
+
+    private static ChatMessageCreatedEvent created(String roomId, long messageId) {
+        return new ChatMessageCreatedEvent(roomId, messageId, "a@halpme.com", "안녕하세요", MessageType.TEXT, LocalDateTime.now());
+    }
+
+    private OutboxRecord record(String recordId, ChatMessageCreatedEvent event) throws Exception {
+        return new OutboxRecord(recordId, ChatMessageCreatedEvent.class.getSimpleName(), event.aggregateId(),
+                objectMapper.writeValueAsString(event));
+    }
+}
@@ -0,0 +1,112 @@
+package com.core.halpme.api.chat.messaging;
+
+import com.core.halpme.api.chat.dto.ReadStatusMessage;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OutboundBackpressureInterceptorTest {
+
+    private static final String SESSION_ID = "session-1";
+    private static final String READ_STATUS_DESTINATION = "/sub/channel/room-1/read-status";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MessageChannel channel = mock(MessageChannel.class);
+    private final MessageHandler handler = mock(MessageHandler.class);
+    private final WebSocketSession session = mock(WebSocketSession.class);
+
+    private OutboundBackpressureInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() throws Exception {
+
+        PayloadFormatRegistry payloadFormatRegistry = new PayloadFormatRegistry();
+        CompactPayloadInterceptor compactPayloadInterceptor =
+                new CompactPayloadInterceptor(payloadFormatRegistry, new CborPayloadCodec(objectMapper));
+
+        interceptor = new OutboundBackpressureInterceptor(compactPayloadInterceptor, objectMapper, meterRegistry);
+        ReflectionTestUtils.setField(interceptor, "maxPendingPerSession", 2);
+        ReflectionTestUtils.setField(interceptor, "overflow", "evict");
+
+        when(session.getId()).thenReturn(SESSION_ID);
+        interceptor.decorate(mock(WebSocketHandler.class)).afterConnectionEstablished(session);
+    }
+
+    @Test
+    void 대기_중인_read_status_는_하나의_프레임으로_병합() throws Exception {
+
+        Message<?> first = interceptor.preSend(readStatus(1L), channel);
+
+        assertThat(first).isNotNull();
+        assertThat(interceptor.preSend(readStatus(2L), channel)).isNull();
+        assertThat(interceptor.preSend(readStatus(3L), channel)).isNull();
+
+        Message<?> merged = interceptor.beforeHandle(first, channel, handler);
+        JsonNode payload = objectMapper.readTree((byte[]) merged.getPayload());
+
+        assertThat(payload.path("readMessageIds").toString()).isEqualTo("[1,2,3]");
+        assertThat(meterRegistry.counter("stomp.outbound.coalesced").count()).isEqualTo(2);
+
+        // 전송 후에는 다음 read-status 가 새 프레임으로 나감
+        interceptor.afterMessageHandled(merged, channel, handler, null);
+        assertThat(interceptor.preSend(readStatus(4L), channel)).isNotNull();
+    }
+
+    @Test
+    void 적재_한도를_넘으면_세션_종료() throws Exception {
+
+        assertThat(interceptor.preSend(chatMessage(), channel)).isNotNull();
+        assertThat(interceptor.preSend(chatMessage(), channel)).isNotNull();
+        verify(session, never()).close(CloseStatus.SESSION_NOT_RELIABLE);
+
+        assertThat(interceptor.preSend(chatMessage(), channel)).isNull();
+
+        verify(session).close(CloseStatus.SESSION_NOT_RELIABLE);
+        assertThat(meterRegistry.counter("stomp.outbound.evicted").count()).isEqualTo(1);
+    }
+
+    private Message<byte[]> readStatus(Long messageId) throws Exception {
+
+        ReadStatusMessage readStatus = new ReadStatusMessage("reader@halpme.com", List.of(messageId));
+
+        SimpMessageHeaderAccessor accessor = outboundHeaders(READ_STATUS_DESTINATION);
+        accessor.setHeader(OutboundBackpressureInterceptor.READ_STATUS_HEADER, readStatus);
+
+        return MessageBuilder.createMessage(objectMapper.writeValueAsBytes(readStatus), accessor.getMessageHeaders());
+    }
+
+    private Message<byte[]> chatMessage() {
+        return MessageBuilder.createMessage("{}".getBytes(), outboundHeaders("/sub/channel/room-1").getMessageHeaders());
+    }
+
+    private SimpMessageHeaderAccessor outboundHeaders(String destination) {
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(SESSION_ID);
+        accessor.setDestination(destination);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        return accessor;
+    }
+}
@@ -0,0 +1,75 @@
+package com.core.halpme.api.chat.service;
+
+import com.core.halpme.api.chat.dto.ReadStatusMessage;
+import com.core.halpme.api.chat.messaging.ChatBroadcaster;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReadReceiptAggregatorTest {
+
+    private static final String ROOM_ID = "room-1";
+    private static final String READER = "reader@halpme.com";
+
+    private final ChatMessageService chatMessageService = mock(ChatMessageService.class);
+    private final ChatBroadcaster chatBroadcaster = mock(ChatBroadcaster.class);
+
+    private ReadReceiptAggregator aggregator;
+
+    @BeforeEach
+    void setUp() {
+        aggregator = new ReadReceiptAggregator(chatMessageService, chatBroadcaster, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(aggregator, "windowMs", 200L);
+        ReflectionTestUtils.setField(aggregator, "flushThreads", 1);
+        aggregator.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        aggregator.stop();
+    }
+
+    @Test
+    void 구간_내_읽음_요청은_가장_큰_messageId_로_한_번만_반영() {
+
+        when(chatMessageService.markReadUpTo(ROOM_ID, READER, 12L)).thenReturn(List.of(10L, 11L, 12L));
+
+        aggregator.submit(ROOM_ID, READER, 10L);
+        aggregator.submit(ROOM_ID, READER, 12L);
+        aggregator.submit(ROOM_ID, READER, 11L);
+
+        ArgumentCaptor<ReadStatusMessage> broadcast = ArgumentCaptor.forClass(ReadStatusMessage.class);
+        verify(chatBroadcaster, timeout(2_000)).broadcastReadStatus(eq(ROOM_ID), broadcast.capture());
+
+        verify(chatMessageService).markReadUpTo(ROOM_ID, READER, 12L);
+        verify(chatMessageService, never()).markReadUpTo(ROOM_ID, READER, 10L);
+        assertThat(broadcast.getValue().getReadMessageIds()).containsExactly(10L, 11L, 12L);
+    }
+
+    @Test
+    void 새로_읽은_메시지가_없으면_전송하지_않음() {
+
+        when(chatMessageService.markReadUpTo(anyString(), anyString(), anyLong())).thenReturn(List.of());
+
+        aggregator.submit(ROOM_ID, READER, ReadReceiptAggregator.ALL_MESSAGES);
+
+        verify(chatMessageService, timeout(2_000)).markReadUpTo(ROOM_ID, READER, ReadReceiptAggregator.ALL_MESSAGES);
+        verify(chatBroadcaster, never()).broadcastReadStatus(anyString(), any());
+    }
+}
@@ -0,0 +1,76 @@
+package com.core.halpme.api.home.service;
+
+import com.core.halpme.api.chat.service.ChatRoomService;
+import com.core.halpme.api.home.dto.HomeResponseDto;
+import com.core.halpme.api.members.dto.MemberInfoResponseDto;
+import com.core.halpme.api.members.service.MemberService;
+import com.core.halpme.api.post.dto.PostFeedResponseDto;
+import com.core.halpme.api.post.service.PostService;
+import com.core.halpme.api.rank.service.RankService;
+import com.core.halpme.common.exception.NotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class HomeServiceTest {
+
+    private static final String EMAIL = "member@halpme.com";
+
+    private final MemberService memberService = mock(MemberService.class);
+    private final RankService rankService = mock(RankService.class);
+    private final PostService postService = mock(PostService.class);
+    private final ChatRoomService chatRoomService = mock(ChatRoomService.class);
+
+    private HomeService homeService;
+
+    @BeforeEach
+    void setUp() {
+        homeService = new HomeService(memberService, rankService, postService, chatRoomService);
+        ReflectionTestUtils.setField(homeService, "memberBudgetMs", 200L);
+        ReflectionTestUtils.setField(homeService, "rankBudgetMs", 200L);
+        ReflectionTestUtils.setField(homeService, "postsBudgetMs", 200L);
+        ReflectionTestUtils.setField(homeService, "chatRoomsBudgetMs", 200L);
+        ReflectionTestUtils.setField(homeService, "postsSize", 20);
+    }
+
+    @AfterEach
+    void tearDown() {
+        homeService.stop();
+    }
+
+    @Test
+    void 시간_초과나_실패한_항목만_빼고_나머지는_함께_응답() {
+
+        MemberInfoResponseDto memberInfo = MemberInfoResponseDto.builder().nickname("봉사자").build();
+        when(memberService.getMyInfo(EMAIL)).thenReturn(memberInfo);
+        when(rankService.getMyTotalVolunteerHours(EMAIL)).thenReturn(12);
+        when(rankService.getToRanks()).thenReturn(List.of());
+        when(postService.getTotalPostList(any(), anyInt(), anyInt())).thenAnswer(invocation -> {
+            Thread.sleep(2_000);
+            return PostFeedResponseDto.of(List.of(), 0, 20, false);
+        });
+        when(chatRoomService.getChatRoomsForUser(EMAIL)).thenThrow(new NotFoundException("채팅 목록 없음"));
+
+        long startedAt = System.nanoTime();
+        HomeResponseDto home = homeService.getHome(EMAIL);
+        long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+
+        assertThat(home.getMember()).isSameAs(memberInfo);
+        assertThat(home.getMyVolunteerHours()).isEqualTo(12);
+        assertThat(home.getTopRanks()).isEmpty();
+        assertThat(home.getPosts()).isNull();
+        assertThat(home.getChatRooms()).isNull();
+        assertThat(home.getFailedSections()).containsExactly(HomeService.POSTS, HomeService.CHAT_ROOMS);
+        // 느린 항목을 기다리지 않고 예산 안에 응답
+        assertThat(elapsedMs).isLessThan(1_000);
+    }
+}
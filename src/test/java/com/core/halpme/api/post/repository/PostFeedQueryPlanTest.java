@@ -0,0 +1,150 @@
+package com.core.halpme.api.post.repository;
+
+import com.core.halpme.api.post.entity.PostStatus;
+import com.core.halpme.common.id.SnowflakeIdGenerator;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 피드 조회 쿼리가 복합 인덱스를 타는지 MySQL EXPLAIN 으로 검증
+ */
+@Testcontainers
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        // EXPLAIN 에 그대로 넘길 수 있도록 Criteria 파라미터를 리터럴로 렌더링
+        "spring.jpa.properties.hibernate.criteria.value_handling_mode=inline",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.core.halpme.api.post.repository.PostFeedQueryPlanTest$LastFeedQuery"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class PostFeedQueryPlanTest {
+
+    private static final int SEED_SIZE = 5_000;
+    private static final LocalDate BASE_DATE = LocalDate.of(2025, 1, 1);
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+
+        if (jdbcTemplate.queryForObject("select count(*) from posts", Long.class) > 0) {
+            return;
+        }
+
+        Random random = new Random(28L);
+        PostStatus[] statuses = PostStatus.values();
+        List<Object[]> rows = new ArrayList<>();
+        // post_id 는 Snowflake ID (AUTO_INCREMENT 아님)
+        long firstPostId = new SnowflakeIdGenerator(SnowflakeIdGenerator.OFFLINE_NODE_ID).reserveBlock(SEED_SIZE);
+
+        for (int i = 0; i < SEED_SIZE; i++) {
+            LocalTime start = LocalTime.of(8 + random.nextInt(10), random.nextBoolean() ? 0 : 30);
+            LocalDateTime createdAt = LocalDateTime.of(2024, 12, 1, 0, 0).plusMinutes(i * 7L);
+
+            rows.add(new Object[]{
+                    SnowflakeIdGenerator.blockId(firstPostId, i),
+                    "title-" + i,
+                    statuses[random.nextInt(statuses.length)].name(),
+                    Date.valueOf(BASE_DATE.plusDays(random.nextInt(365))),
+                    Time.valueOf(start),
+                    Time.valueOf(start.plusHours(1 + random.nextInt(3))),
+                    Timestamp.valueOf(createdAt),
+                    Timestamp.valueOf(createdAt)
+            });
+        }
+
+        jdbcTemplate.batchUpdate(
+                "insert into posts (post_id, title, post_status, request_date, start_hour, end_hour, created_at, updated_at) "
+                        + "values (?, ?, ?, ?, ?, ?, ?, ?)", rows);
+        jdbcTemplate.execute("analyze table posts");
+    }
+
+    @Test
+    void 조건_없음_최신순() {
+        assertIndexOnly(new PostFeedCondition(null, null, null, null, null), "idx_posts_created_at");
+    }
+
+    @Test
+    void 상태_필터_최신순() {
+        assertIndexOnly(new PostFeedCondition(PostStatus.WAITING, null, null, null, null), "idx_posts_status_created_at");
+    }
+
+    @Test
+    void 날짜_범위_일정순() {
+        assertIndexOnly(new PostFeedCondition(null, BASE_DATE.plusDays(30), BASE_DATE.plusDays(60), null, null),
+                "idx_posts_schedule");
+    }
+
+    @Test
+    void 상태_날짜_시간대_일정순() {
+        assertIndexOnly(new PostFeedCondition(PostStatus.WAITING, BASE_DATE.plusDays(30), BASE_DATE.plusDays(60),
+                LocalTime.of(9, 0), LocalTime.of(15, 0)), "idx_posts_status_schedule");
+    }
+
+    private void assertIndexOnly(PostFeedCondition condition, String expectedIndex) {
+
+        List<Long> postIds = postRepository.findFeedPostIds(condition, 0, 20);
+        assertThat(postIds).isNotEmpty();
+
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList("explain " + LastFeedQuery.explainable());
+
+        assertThat(plan).hasSize(1);
+        Map<String, Object> row = plan.get(0);
+        String extra = String.valueOf(row.get("Extra"));
+
+        assertThat(row.get("type")).isNotEqualTo("ALL");
+        assertThat(row.get("key")).isEqualTo(expectedIndex);
+        assertThat(extra).doesNotContain("Using filesort");
+        assertThat(extra).contains("Using index");
+    }
+
+    // 마지막으로 실행된 피드 id 조회 SQL 보관
+    public static class LastFeedQuery implements StatementInspector {
+
+        private static volatile String lastSql;
+
+        @Override
+        public String inspect(String sql) {
+            if (sql.matches("(?s)^select \\w+\\.post_id from posts .*")) {
+                lastSql = sql;
+            }
+            return sql;
+        }
+
+        // 페이지 파라미터는 바인딩 값이므로 리터럴로 치환
+        static String explainable() {
+            return lastSql.replaceAll("limit \\?(\\s*,\\s*\\?)?", "limit 20")
+                    .replaceAll("offset \\?", "offset 0");
+        }
+    }
+}
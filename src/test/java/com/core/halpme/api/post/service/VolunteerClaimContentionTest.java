@@ -0,0 +1,181 @@
+package com.core.halpme.api.post.service;
+
+import com.core.halpme.api.members.entity.Member;
+import com.core.halpme.api.members.entity.Role;
+import com.core.halpme.api.members.repository.MemberRepository;
+import com.core.halpme.api.post.entity.Post;
+import com.core.halpme.api.post.entity.PostStatus;
+import com.core.halpme.api.post.geo.OfflineGeocoder;
+import com.core.halpme.api.post.geo.PostGeoIndex;
+import com.core.halpme.api.post.repository.PostRepository;
+import com.core.halpme.api.post.search.PostSearchIndex;
+import com.core.halpme.api.rank.service.RankService;
+import com.core.halpme.common.exception.ConflictException;
+import com.core.halpme.common.id.IdGenerationConfig;
+import com.core.halpme.common.metrics.MetricsConfig;
+import com.core.halpme.common.outbox.OutboxEventRecorder;
+import com.core.halpme.common.seed.BulkDataGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static com.core.halpme.common.metrics.SqlStatementAssertions.assertStatementsAtMost;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 다수의 봉사자가 동시에 같은 글에 참여할 때 단 한 명만 배정되고 나머지는 즉시 409 를 받는지 검증
+ */
+@Testcontainers
+@DataJpaTest(properties = {"spring.jpa.hibernate.ddl-auto=create-drop", "id.snowflake.node-id=0"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({PostService.class, OutboxEventRecorder.class, MetricsConfig.class, IdGenerationConfig.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class VolunteerClaimContentionTest {
+
+    private static final int CLAIMERS = 200;
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @MockitoBean
+    private RankService rankService;
+
+    @MockitoBean
+    private PostSearchIndex postSearchIndex;
+
+    @MockitoBean
+    private PostGeoIndex postGeoIndex;
+
+    @MockitoBean
+    private OfflineGeocoder offlineGeocoder;
+
+    @MockitoBean
+    private BulkDataGenerator bulkDataGenerator;
+
+    @Test
+    void 동시_참여_시_한_명만_배정() throws Exception {
+
+        Member writer = memberRepository.save(member(0));
+        List<Member> volunteers = memberRepository.saveAll(
+                IntStream.rangeClosed(1, CLAIMERS).mapToObj(this::member).toList());
+
+        Post post = postRepository.save(Post.builder()
+                .title("장보기 도와주실 분")
+                .content("동시 참여 테스트")
+                .requestDate(LocalDate.now().plusDays(1))
+                .startHour(LocalTime.of(10, 0))
+                .endHour(LocalTime.of(12, 0))
+                .postStatus(PostStatus.WAITING)
+                .member(writer)
+                .build());
+
+        AtomicInteger winners = new AtomicInteger();
+        AtomicInteger conflicts = new AtomicInteger();
+
+        CountDownLatch ready = new CountDownLatch(CLAIMERS);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(CLAIMERS);
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < CLAIMERS; i++) {
+            String email = volunteers.get(i).getEmail();
+
+            futures.add(executor.submit(() -> {
+                ready.countDown();
+                start.await();
+
+                try {
+                    postService.participateAsVolunteer(post.getId(), email);
+                    winners.incrementAndGet();
+                } catch (ConflictException e) {
+                    conflicts.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+
+        ready.await();
+        start.countDown();
+
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertThat(winners.get()).isEqualTo(1);
+        assertThat(conflicts.get()).isEqualTo(CLAIMERS - 1);
+
+        Post claimed = postRepository.findById(post.getId()).orElseThrow();
+        assertThat(claimed.getPostStatus()).isEqualTo(PostStatus.AUTHENTICATED);
+        assertThat(countAssigned(volunteers)).isEqualTo(1);
+    }
+
+    @Test
+    void 봉사_참여는_회원_조회_조건부_UPDATE_아웃박스_INSERT_세_번의_SQL로_처리() throws Exception {
+
+        Member writer = memberRepository.save(member(1_000));
+        Member volunteer = memberRepository.save(member(1_001));
+
+        Post post = postRepository.save(Post.builder()
+                .title("병원 동행")
+                .requestDate(LocalDate.now().plusDays(1))
+                .startHour(LocalTime.of(9, 0))
+                .endHour(LocalTime.of(11, 0))
+                .postStatus(PostStatus.WAITING)
+                .member(writer)
+                .build());
+
+        assertStatementsAtMost(3, () -> postService.participateAsVolunteer(post.getId(), volunteer.getEmail()));
+    }
+
+    private int countAssigned(List<Member> volunteers) {
+        return (int) volunteers.stream()
+                .filter(v -> !postRepository.findByVolunteerEmailAndPostStatusInOrderByRequestDateDesc(
+                        v.getEmail(), List.of(PostStatus.AUTHENTICATED)).isEmpty())
+                .count();
+    }
+
+    private Member member(int index) {
+        return Member.builder()
+                .nickname("member" + index)
+                .password("password")
+                .email("member" + index + "@halpme.com")
+                .phoneNumber(String.format("010%08d", index))
+                .role(Role.ROLE_MEMBER)
+                .build();
+    }
+}
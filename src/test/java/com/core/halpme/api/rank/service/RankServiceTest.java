@@ -0,0 +1,84 @@
+package com.core.halpme.api.rank.service;
+
+import com.core.halpme.api.members.entity.Member;
+import com.core.halpme.api.members.entity.Role;
+import com.core.halpme.api.members.repository.MemberRepository;
+import com.core.halpme.api.rank.dto.RankResponseDto;
+import com.core.halpme.api.rank.entity.Rank;
+import com.core.halpme.api.rank.repository.RankRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * 리더보드가 비었을 때 DB 정렬 조회로 돌아가도, 트랜잭션 밖에서 DTO 변환(회원 닉네임 접근)이 되는지 검증
+ */
+@Testcontainers
+@DataJpaTest(properties = {"spring.jpa.hibernate.ddl-auto=create-drop", "spring.jpa.open-in-view=false"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(RankService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RankServiceTest {
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired
+    private RankService rankService;
+
+    @Autowired
+    private RankRepository rankRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @MockitoBean
+    private RankLeaderboard rankLeaderboard;
+
+    @Test
+    void 리더보드가_비면_DB_랭킹을_회원과_함께_조회() {
+
+        when(rankLeaderboard.topEmails(10)).thenReturn(List.of());
+
+        for (int hours : new int[]{3, 12, 7}) {
+            Member member = memberRepository.save(member(hours));
+            Rank rank = new Rank(member);
+            rank.updateVolunteerRecord(hours);
+            rankRepository.save(rank);
+        }
+
+        List<Rank> ranks = rankService.getToRanks();
+
+        // 트랜잭션이 끝난 뒤 변환 (HomeService 의 가상 스레드와 같은 조건)
+        List<RankResponseDto> response = RankResponseDto.fromEntities(ranks);
+
+        assertThat(response).extracting(RankResponseDto::getNickname)
+                .containsExactly("member12", "member7", "member3");
+        assertThat(response).extracting(RankResponseDto::getMyRank).containsExactly(1, 2, 3);
+    }
+
+    private Member member(int index) {
+        return Member.builder()
+                .nickname("member" + index)
+                .password("password")
+                .email("member" + index + "@halpme.com")
+                .phoneNumber(String.format("010%08d", index))
+                .role(Role.ROLE_MEMBER)
+                .build();
+    }
+}
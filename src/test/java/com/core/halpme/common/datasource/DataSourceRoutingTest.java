@@ -0,0 +1,162 @@
+package com.core.halpme.common.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MySQL 컨테이너 두 개(primary, 읽기 인스턴스)로 작업/트랜잭션 종류별 라우팅과 read-your-writes 검증
+ * 어느 인스턴스로 갔는지는 @@server_uuid, primary 서버의 어느 풀을 썼는지는 풀의 활성 커넥션 수로 구분
+ */
+@Testcontainers
+@JdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({DataSourceRoutingConfig.class, DataSourceRoutingTest.MeterConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class DataSourceRoutingTest {
+
+    private static final String SERVER_UUID = "SELECT @@server_uuid";
+
+    @Container
+    static MySQLContainer<?> primary = new MySQLContainer<>("mysql:8.0");
+
+    // 복제 상태 조회(SHOW REPLICA STATUS) 권한이 필요해 root 계정 사용
+    @Container
+    static MySQLContainer<?> replica = new MySQLContainer<>("mysql:8.0").withUsername("root");
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", primary::getJdbcUrl);
+        registry.add("spring.datasource.username", primary::getUsername);
+        registry.add("spring.datasource.password", primary::getPassword);
+        registry.add("datasource.bulkhead.enabled", () -> true);
+        registry.add("datasource.replica.enabled", () -> true);
+        registry.add("datasource.replica.urls", replica::getJdbcUrl);
+        registry.add("datasource.replica.username", replica::getUsername);
+        registry.add("datasource.replica.password", replica::getPassword);
+    }
+
+    @TestConfiguration
+    static class MeterConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    @Qualifier("chatDataSource")
+    private HikariDataSource chatDataSource;
+
+    @Autowired
+    @Qualifier("readDataSource")
+    private HikariDataSource readDataSource;
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+        DataSourceWorkload.exit();
+    }
+
+    @Test
+    void 읽기_전용_트랜잭션은_복제본_쓰기_트랜잭션은_primary() {
+
+        assertThat(serverUuid(true)).isEqualTo(replicaUuid());
+        assertThat(serverUuid(false)).isEqualTo(primaryUuid());
+    }
+
+    @Test
+    void 쓰기를_커밋한_회원의_읽기는_primary_다른_회원은_복제본() {
+
+        authenticate("writer@halpme.com");
+        serverUuid(false);
+
+        assertThat(serverUuid(true)).isEqualTo(primaryUuid());
+
+        assertThat(activeConnections(readDataSource, true)).isEqualTo(1);
+
+        authenticate("reader@halpme.com");
+        assertThat(serverUuid(true)).isEqualTo(replicaUuid());
+    }
+
+    @Test
+    void 채팅_작업_스레드는_트랜잭션_종류와_무관하게_chat_풀() {
+
+        DataSourceWorkload.enterChat();
+
+        assertThat(serverUuid(true)).isEqualTo(primaryUuid());
+        assertThat(activeConnections(chatDataSource, false)).isEqualTo(1);
+        assertThat(activeConnections(chatDataSource, true)).isEqualTo(1);
+    }
+
+    // 트랜잭션 안에서 SQL 1건 실행 중인 시점의 풀 활성 커넥션 수
+    private int activeConnections(HikariDataSource pool, boolean readOnly) {
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+
+        return transactionTemplate.execute(status -> {
+            jdbcTemplate.queryForObject("SELECT 1", Integer.class);
+            return pool.getHikariPoolMXBean().getActiveConnections();
+        });
+    }
+
+    private String serverUuid(boolean readOnly) {
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+
+        return transactionTemplate.execute(status -> jdbcTemplate.queryForObject(SERVER_UUID, String.class));
+    }
+
+    private static String primaryUuid() {
+        return new JdbcTemplate(dataSource(primary)).queryForObject(SERVER_UUID, String.class);
+    }
+
+    private static String replicaUuid() {
+        return new JdbcTemplate(dataSource(replica)).queryForObject(SERVER_UUID, String.class);
+    }
+
+    private static DriverManagerDataSource dataSource(MySQLContainer<?> container) {
+        return new DriverManagerDataSource(
+                container.getJdbcUrl(), container.getUsername(), container.getPassword());
+    }
+
+    private static void authenticate(String email) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(email, null, List.of()));
+    }
+}
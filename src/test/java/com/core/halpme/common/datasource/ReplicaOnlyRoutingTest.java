@@ -0,0 +1,126 @@
+package com.core.halpme.common.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * bulkhead 를 끄고 복제본 라우팅만 켰을 때: chat/read 풀 없이 읽기 전용 트랜잭션은 복제본, 나머지는 primary 풀
+ */
+@Testcontainers
+@JdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({DataSourceRoutingConfig.class, ReplicaOnlyRoutingTest.MeterConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReplicaOnlyRoutingTest {
+
+    private static final String SERVER_UUID = "SELECT @@server_uuid";
+
+    @Container
+    static MySQLContainer<?> primary = new MySQLContainer<>("mysql:8.0");
+
+    // 복제 상태 조회(SHOW REPLICA STATUS) 권한이 필요해 root 계정 사용
+    @Container
+    static MySQLContainer<?> replica = new MySQLContainer<>("mysql:8.0").withUsername("root");
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", primary::getJdbcUrl);
+        registry.add("spring.datasource.username", primary::getUsername);
+        registry.add("spring.datasource.password", primary::getPassword);
+        registry.add("datasource.replica.enabled", () -> true);
+        registry.add("datasource.replica.urls", replica::getJdbcUrl);
+        registry.add("datasource.replica.username", replica::getUsername);
+        registry.add("datasource.replica.password", replica::getPassword);
+    }
+
+    @TestConfiguration
+    static class MeterConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+        DataSourceWorkload.exit();
+    }
+
+    @Test
+    void 복제본만_켜도_읽기_전용_트랜잭션은_복제본() {
+
+        assertThat(context.containsBean("chatDataSource")).isFalse();
+        assertThat(context.containsBean("readDataSource")).isFalse();
+
+        assertThat(serverUuid(true)).isEqualTo(uuid(replica));
+        assertThat(serverUuid(false)).isEqualTo(uuid(primary));
+    }
+
+    @Test
+    void 쓰기를_커밋한_회원의_읽기와_채팅_작업은_primary() {
+
+        authenticate("writer@halpme.com");
+        serverUuid(false);
+        assertThat(serverUuid(true)).isEqualTo(uuid(primary));
+
+        SecurityContextHolder.clearContext();
+        DataSourceWorkload.enterChat();
+        assertThat(serverUuid(true)).isEqualTo(uuid(primary));
+    }
+
+    private String serverUuid(boolean readOnly) {
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+
+        return transactionTemplate.execute(status -> jdbcTemplate.queryForObject(SERVER_UUID, String.class));
+    }
+
+    private static String uuid(MySQLContainer<?> container) {
+        return new JdbcTemplate(new DriverManagerDataSource(
+                container.getJdbcUrl(), container.getUsername(), container.getPassword()))
+                .queryForObject(SERVER_UUID, String.class);
+    }
+
+    private static void authenticate(String email) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(email, null, List.of()));
+    }
+}
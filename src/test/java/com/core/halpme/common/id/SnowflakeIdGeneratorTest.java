@@ -0,0 +1,78 @@
+package com.core.halpme.common.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SnowflakeIdGeneratorTest {
+
+    private static final long NOW = Instant.parse("2025-06-01T00:00:00Z").toEpochMilli();
+
+    @Test
+    void 같은_ms_에서는_시퀀스가_증가하고_소진되면_다음_ms_로_넘어감() {
+
+        // 처음 257번 읽을 때까지 같은 ms (257번째 발급에서 시퀀스 256개가 소진되어 다음 ms 를 기다림)
+        AtomicInteger reads = new AtomicInteger();
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(3, () -> reads.incrementAndGet() <= 257 ? NOW : NOW + 1);
+
+        long previous = generator.nextId();
+        for (int i = 1; i < 300; i++) {
+            long id = generator.nextId();
+            assertThat(id).isGreaterThan(previous);
+            previous = id;
+        }
+
+        assertThat(SnowflakeIdGenerator.timestampOf(previous)).isEqualTo(Instant.ofEpochMilli(NOW + 1));
+        assertThat(SnowflakeIdGenerator.nodeOf(previous)).isEqualTo(3);
+    }
+
+    @Test
+    void 시계가_조금_뒤로_가면_기다리고_많이_뒤로_가면_예외() {
+
+        // 읽을 때마다 1ms 씩 흐르는 시계
+        AtomicLong clock = new AtomicLong(NOW);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(0, clock::getAndIncrement);
+        long first = generator.nextId();
+
+        clock.set(NOW - 5);
+        assertThat(generator.nextId()).isGreaterThan(first);
+
+        clock.set(NOW - 1_000);
+        assertThatThrownBy(generator::nextId).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void 예약한_블록_ID_는_이후_발급_ID_와_겹치지_않음() {
+
+        AtomicLong clock = new AtomicLong(NOW);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(SnowflakeIdGenerator.OFFLINE_NODE_ID, clock::get);
+
+        long first = generator.reserveBlock(1_000);
+        long last = SnowflakeIdGenerator.blockId(first, 999);
+
+        assertThat(SnowflakeIdGenerator.blockId(first, 256)).isGreaterThan(SnowflakeIdGenerator.blockId(first, 255));
+        assertThat(SnowflakeIdGenerator.nodeOf(last)).isEqualTo(SnowflakeIdGenerator.OFFLINE_NODE_ID);
+        assertThat(generator.nextId()).isGreaterThan(last);
+        assertThat(SnowflakeIdGenerator.blockId(generator.reserveBlock(10), 0)).isGreaterThan(last);
+    }
+
+    @Test
+    void 타임스탬프_범위_끝까지_JS_안전_정수_이내() {
+
+        long lastMillis = SnowflakeIdGenerator.EPOCH_MILLIS + (1L << SnowflakeIdGenerator.TIMESTAMP_BITS) - 1;
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID, () -> lastMillis);
+
+        long id = 0;
+        for (int i = 0; i < 256; i++) {
+            id = generator.nextId();
+        }
+
+        assertThat(id).isLessThanOrEqualTo((1L << 53) - 1);
+        assertThat(SnowflakeIdGenerator.lowestIdAt(Instant.ofEpochMilli(lastMillis))).isLessThan(id);
+    }
+}
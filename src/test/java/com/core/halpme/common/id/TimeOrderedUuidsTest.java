@@ -0,0 +1,45 @@
+package com.core.halpme.common.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TimeOrderedUuidsTest {
+
+    @Test
+    void 문자열과_16바이트는_서로_되돌릴_수_있음() {
+
+        String v7 = TimeOrderedUuids.newId();
+        String v4 = UUID.randomUUID().toString();
+
+        assertThat(TimeOrderedUuids.fromBytes(TimeOrderedUuids.toBytes(v7))).isEqualTo(v7);
+        // 기존 UUIDv4 채팅방 ID 도 그대로 유지
+        assertThat(TimeOrderedUuids.fromBytes(TimeOrderedUuids.toBytes(v4))).isEqualTo(v4);
+    }
+
+    @Test
+    void 바이트_순서는_생성_시각_순이고_버전은_7() {
+
+        UUID earlier = TimeOrderedUuids.of(1_750_000_000_000L, -1L, -1L);
+        UUID later = TimeOrderedUuids.of(1_750_000_000_001L, 0L, 0L);
+
+        assertThat(earlier.version()).isEqualTo(7);
+        assertThat(earlier.variant()).isEqualTo(2);
+        assertThat(Arrays.compareUnsigned(TimeOrderedUuids.toBytes(earlier.toString()),
+                TimeOrderedUuids.toBytes(later.toString()))).isNegative();
+    }
+
+    @Test
+    void 축약_형식이나_UUID_가_아닌_값은_거부() {
+
+        assertThat(TimeOrderedUuids.isValid("room-1")).isFalse();
+        assertThat(TimeOrderedUuids.isValid("1-2-3-4-5")).isFalse();
+        assertThat(TimeOrderedUuids.isValid(null)).isFalse();
+
+        assertThatThrownBy(() -> TimeOrderedUuids.toBytes("room-1")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
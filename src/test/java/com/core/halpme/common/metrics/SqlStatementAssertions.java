@@ -0,0 +1,35 @@
+package com.core.halpme.common.metrics;
+
+import java.util.concurrent.Callable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 테스트에서 특정 코드 블록의 SQL 실행 수 상한을 검증 (N+1 회귀 방지)
+ * HibernateStatementCounter 가 등록되어 있어야 하므로 슬라이스 테스트에서는 @Import(MetricsConfig.class) 필요
+ */
+public final class SqlStatementAssertions {
+
+    private SqlStatementAssertions() {
+    }
+
+    public static <T> T assertStatementsAtMost(int max, Callable<T> action) throws Exception {
+
+        HibernateStatementCounter.reset();
+        T result = action.call();
+        int statements = HibernateStatementCounter.current();
+
+        assertThat(statements)
+                .as("실행된 SQL 수 (상한 %d건)", max)
+                .isLessThanOrEqualTo(max);
+
+        return result;
+    }
+
+    public static void assertStatementsAtMost(int max, Runnable action) throws Exception {
+        assertStatementsAtMost(max, () -> {
+            action.run();
+            return null;
+        });
+    }
+}
@@ -0,0 +1,38 @@
+package com.core.halpme.common.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlidingWindowCounterTest {
+
+    @Test
+    void 윈도우_내_한도까지만_허용() {
+
+        SlidingWindowCounter counter = new SlidingWindowCounter(3, 60_000);
+
+        assertThat(counter.tryAcquire()).isZero();
+        assertThat(counter.tryAcquire()).isZero();
+        assertThat(counter.tryAcquire()).isZero();
+        assertThat(counter.tryAcquire()).isBetween(1L, 60_000L);
+    }
+
+    @Test
+    void 직전_윈도우_요청은_겹치는_비율만큼_반영() throws Exception {
+
+        SlidingWindowCounter counter = new SlidingWindowCounter(4, 1_000);
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(counter.tryAcquire()).isZero();
+        }
+
+        // 다음 윈도우 초반에는 직전 윈도우 4건이 대부분 반영되어 거절
+        Thread.sleep(1_050);
+        assertThat(counter.tryAcquire()).isPositive();
+
+        // 두 윈도우가 지나면 다시 허용
+        Thread.sleep(2_000);
+        assertThat(counter.tryAcquire()).isZero();
+        assertThat(counter.isIdle()).isFalse();
+    }
+}
@@ -0,0 +1,56 @@
+package com.core.halpme.common.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+
+    @Test
+    void 동시_요청에도_용량만큼만_허용() throws Exception {
+
+        // 테스트 동안 충전이 사실상 없도록 아주 느린 충전 속도
+        TokenBucket bucket = new TokenBucket(100, 0.001);
+        AtomicInteger acquired = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(16)) {
+            for (int i = 0; i < 16; i++) {
+                executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < 1_000; j++) {
+                        if (bucket.tryAcquire() == 0) {
+                            acquired.incrementAndGet();
+                        }
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+            executor.shutdown();
+            assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        }
+
+        assertThat(acquired.get()).isEqualTo(100);
+        assertThat(bucket.tryAcquire()).isPositive();
+    }
+
+    @Test
+    void 토큰이_충전되면_다시_허용() throws Exception {
+
+        TokenBucket bucket = new TokenBucket(1, 20);
+
+        assertThat(bucket.tryAcquire()).isZero();
+        long retryAfter = bucket.tryAcquire();
+        assertThat(retryAfter).isBetween(1L, 50L);
+
+        Thread.sleep(retryAfter + 10);
+        assertThat(bucket.tryAcquire()).isZero();
+    }
+}
@@ -0,0 +1,50 @@
+package com.core.halpme.common.seed;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class MultiRowInsertTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+    @Test
+    void 버퍼가_차면_다중_행_INSERT_한_문장으로_실행() {
+
+        try (MultiRowInsert insert = new MultiRowInsert(jdbcTemplate, "t", List.of("a", "b"), 2)) {
+            insert.add(1, "x");
+            insert.add(2, "y");
+            insert.add(3, "z");
+
+            assertThat(insert.inserted()).isEqualTo(2);
+        }
+
+        verify(jdbcTemplate).update(eq("INSERT INTO t (a, b) VALUES (?, ?), (?, ?)"), any(Object[].class));
+        verify(jdbcTemplate).update(eq("INSERT INTO t (a, b) VALUES (?, ?)"), any(Object[].class));
+    }
+
+    @Test
+    void 자식_버퍼는_부모_버퍼를_먼저_flush() {
+
+        MultiRowInsert parent = new MultiRowInsert(jdbcTemplate, "parent", List.of("id"), 10);
+        MultiRowInsert child = new MultiRowInsert(jdbcTemplate, "child", List.of("parent_id"), 1).after(parent);
+
+        parent.add(1L);
+        child.add(1L);
+
+        InOrder order = inOrder(jdbcTemplate);
+        order.verify(jdbcTemplate).update(eq("INSERT INTO parent (id) VALUES (?)"), any(Object[].class));
+        order.verify(jdbcTemplate).update(eq("INSERT INTO child (parent_id) VALUES (?)"), any(Object[].class));
+        verify(jdbcTemplate, times(2)).update(any(String.class), any(Object[].class));
+    }
+}